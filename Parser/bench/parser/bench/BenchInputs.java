@@ -0,0 +1,119 @@
+package parser.bench;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// 벤치마크 입력 - 실제 프로젝트 형태(한글 Javadoc, 클래스/메서드 매핑, 조인/서브쿼리 SQL)를 흉내 낸 고정 데이터
+public class BenchInputs {
+	private static final String[] ENTITIES = { "User", "Order", "Product", "Payment", "Delivery", "Member", "Notice",
+			"Coupon" };
+	private static final String[] ACTIONS = { "조회", "목록 조회", "등록", "수정", "삭제", "승인", "취소", "엑셀 다운로드" };
+
+	private BenchInputs() {
+		// 유틸리티 클래스이므로 인스턴스 생성 방지
+	}
+
+	public static String controllerSource(int methods) {
+		StringBuilder source = new StringBuilder();
+		source.append("package com.company.mvc.controller;\n\n")
+				.append("import org.springframework.stereotype.Controller;\n")
+				.append("import org.springframework.web.bind.annotation.*;\n\n")
+				.append("/**\n * 주문 관리 컨트롤러\n * 주문 목록, 상세, 등록/수정/삭제 화면 처리\n *\n * @author 개발팀\n */\n")
+				.append("@Controller\n@RequestMapping(\"/order\")\npublic class OrderController {\n\n")
+				.append("\tprivate static final String VIEW_PREFIX = \"order/\"; // {뷰 경로}\n\n");
+
+		for (int i = 0; i < methods; i++) {
+			String entity = ENTITIES[i % ENTITIES.length];
+			String action = ACTIONS[i % ACTIONS.length];
+			source.append("\t/**\n\t * ").append(entity).append(' ').append(action).append("\n\t * 요청 파라미터를 검증한 뒤 ")
+					.append("서비스를 호출하고 결과를 모델에 담는다\n\t *\n\t * @param model 모델\n\t * @return 뷰 이름\n\t */\n");
+			switch (i % 3) {
+			case 0:
+				source.append("\t@GetMapping(\"/").append(entity.toLowerCase()).append(i).append(".do\")\n");
+				break;
+			case 1:
+				source.append("\t@PostMapping(value = \"/").append(entity.toLowerCase()).append(i).append("Save.do\")\n");
+				break;
+			default:
+				source.append("\t@RequestMapping(value = \"/").append(entity.toLowerCase()).append(i)
+						.append("Proc.do\", method = RequestMethod.POST)\n");
+				break;
+			}
+			source.append("\tpublic String ").append(entity.toLowerCase()).append("Action").append(i)
+					.append("(Model model, @RequestParam Map<String, Object> params) {\n")
+					.append("\t\tif (params.isEmpty()) {\n\t\t\treturn \"redirect:/error.do\";\n\t\t}\n")
+					.append("\t\tString key = \"{").append(entity).append("}\"; /* 중괄호 포함 문자열 */\n")
+					.append("\t\tmodel.addAttribute(\"list\", service.select").append(entity).append("(params));\n")
+					.append("\t\treturn VIEW_PREFIX + \"").append(entity.toLowerCase()).append("\";\n\t}\n\n");
+		}
+		return source.append("}\n").toString();
+	}
+
+	public static String serviceSource(int methods) {
+		StringBuilder source = new StringBuilder();
+		source.append("package com.company.service.cbc.impl;\n\n")
+				.append("/**\n * 주문 복합 비즈니스 컴포넌트\n */\n")
+				.append("@Service\npublic class OrderCbcImpl implements OrderCbc {\n\n");
+
+		for (int i = 0; i < methods; i++) {
+			String entity = ENTITIES[i % ENTITIES.length];
+			source.append("\t/**\n\t * ").append(entity).append(' ').append(ACTIONS[i % ACTIONS.length])
+					.append(" 처리 - 여러 단위 컴포넌트를 묶어 트랜잭션으로 실행\n\t * @param param 조건\n\t */\n")
+					.append("\t@Override\n\tpublic List<Map<String, Object>> process").append(entity).append(i)
+					.append("(Map<String, Object> param) {\n")
+					.append("\t\tList<Map<String, Object>> rows = new ArrayList<>();\n")
+					.append("\t\tfor (Map<String, Object> row : bc.select(param)) {\n")
+					.append("\t\t\trow.put(\"status\", 'Y');\n\t\t\trows.add(row);\n\t\t}\n")
+					.append("\t\treturn rows;\n\t}\n\n");
+		}
+		return source.append("}\n").toString();
+	}
+
+	// 메서드 Javadoc 원문 (extractComment 입력)
+	public static String javadoc() {
+		return "/**\n * 주문 목록 조회\n * 검색 조건에 맞는 주문을 페이지 단위로 조회하고\n * 결제 상태별 건수를 함께 반환한다\n";
+	}
+
+	// trim된 비어 있지 않은 줄
+	public static List<String> lines(String source) {
+		List<String> lines = new ArrayList<>();
+		for (String line : source.split("\n")) {
+			String trimmed = line.trim();
+			if (!trimmed.isEmpty())
+				lines.add(trimmed);
+		}
+		return lines;
+	}
+
+	public static List<String> paths() {
+		List<String> paths = new ArrayList<>();
+		for (String entity : ENTITIES) {
+			String base = "/home/build/workspace/shop/src/main/java/com/company/";
+			paths.add(base + "mvc/controller/" + entity + "Controller.java");
+			paths.add(base + "service/cbc/impl/" + entity + "CbcImpl.java");
+			paths.add(base + "service/bc/impl/" + entity + "BcImpl.java");
+			paths.add(base + "service/qc/impl/" + entity + "QcImpl.java");
+			paths.add(base + "common/util/" + entity + "Utils.java");
+		}
+		return paths;
+	}
+
+	// { 태그 이름, SQL } 쌍
+	public static List<String[]> queries() {
+		List<String[]> queries = new ArrayList<>();
+		queries.add(new String[] { "select",
+				"SELECT O.ORDER_NO, O.ORDER_DT, M.MEMBER_NM, P.PRODUCT_NM, (SELECT COUNT(*) FROM SHOP.TB_ORDER_ITEM I "
+						+ "WHERE I.ORDER_NO = O.ORDER_NO) AS ITEM_CNT FROM SHOP.TB_ORDER O "
+						+ "INNER JOIN TB_MEMBER M ON O.MEMBER_ID = M.MEMBER_ID LEFT OUTER JOIN TB_PRODUCT P "
+						+ "ON O.PRODUCT_ID = P.PRODUCT_ID WHERE O.ORDER_DT BETWEEN #{fromDt} AND #{toDt} "
+						+ "AND O.STATUS IN (SELECT CODE FROM TB_CODE WHERE GROUP_CD = 'ORD') ORDER BY O.ORDER_DT DESC" });
+		queries.add(new String[] { "insert",
+				"INSERT INTO SHOP.TB_ORDER (ORDER_NO, MEMBER_ID, ORDER_DT, STATUS) "
+						+ "VALUES (#{orderNo}, #{memberId}, SYSDATE, '01')" });
+		queries.add(new String[] { "update",
+				"UPDATE TB_PAYMENT SET PAY_STATUS = #{status}, UPD_DT = SYSDATE WHERE ORDER_NO IN "
+						+ "(SELECT ORDER_NO FROM TB_ORDER WHERE MEMBER_ID = #{memberId})" });
+		queries.add(new String[] { "delete", "DELETE FROM TB_CART WHERE MEMBER_ID = #{memberId} AND REG_DT < SYSDATE - 30" });
+		return queries;
+	}
+}
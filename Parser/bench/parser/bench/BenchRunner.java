@@ -0,0 +1,137 @@
+package parser.bench;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongSupplier;
+import java.util.regex.Pattern;
+
+// 마이크로벤치마크 실행기 - 워밍업 후 시간 단위 반복으로 처리량(ops/s)과 연산당 할당량(B/op) 측정
+// 할당량은 측정 스레드의 누적 할당 바이트(ThreadMXBean) 차이로 계산
+// 설정 (시스템 속성): bench.warmup=반복 수, bench.iterations=반복 수, bench.time=반복당 ms, bench.filter=이름 정규식
+public class BenchRunner {
+	private final int warmupIterations = Integer.getInteger("bench.warmup", 3);
+	private final int iterations = Integer.getInteger("bench.iterations", 5);
+	private final long iterationNanos = Long.getLong("bench.time", 1000) * 1_000_000L;
+	private final Pattern filter = Pattern.compile(System.getProperty("bench.filter", ".*"));
+
+	private final com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory
+			.getThreadMXBean();
+	private final List<Benchmark> benchmarks = new ArrayList<>();
+
+	// 결과를 버리지 않도록 모아 두는 값 (JIT의 불필요 코드 제거 방지)
+	private static volatile long sink;
+
+	public void add(String name, LongSupplier body) {
+		add(name, () -> {
+		}, body);
+	}
+
+	// setup: 반복(iteration)마다 측정 전에 한 번 실행 (출력 파일 정리 등)
+	public void add(String name, Runnable setup, LongSupplier body) {
+		benchmarks.add(new Benchmark(name, setup, body));
+	}
+
+	public void runAll() {
+		PrintStream report = System.out;
+		report.printf("워밍업 %d회, 측정 %d회 x %d ms%n", warmupIterations, iterations, iterationNanos / 1_000_000);
+		report.printf("%-48s %14s %10s %12s %10s%n", "벤치마크", "ops/s", "±", "B/op", "MB/s 할당");
+
+		// 측정 대상의 진행 출력은 버림
+		System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+		try {
+			for (Benchmark benchmark : benchmarks) {
+				if (filter.matcher(benchmark.name).find()) {
+					report.println(run(benchmark));
+				}
+			}
+		} finally {
+			System.setOut(report);
+		}
+	}
+
+	private String run(Benchmark benchmark) {
+		for (int i = 0; i < warmupIterations; i++) {
+			benchmark.setup.run();
+			measure(benchmark.body);
+		}
+
+		double[] throughput = new double[iterations];
+		double totalOps = 0;
+		double totalBytes = 0;
+		double totalSeconds = 0;
+		for (int i = 0; i < iterations; i++) {
+			benchmark.setup.run();
+			Sample sample = measure(benchmark.body);
+			throughput[i] = sample.ops / sample.seconds;
+			totalOps += sample.ops;
+			totalBytes += sample.allocatedBytes;
+			totalSeconds += sample.seconds;
+		}
+
+		double mean = 0;
+		for (double value : throughput)
+			mean += value;
+		mean /= iterations;
+		double variance = 0;
+		for (double value : throughput)
+			variance += (value - mean) * (value - mean);
+		double error = iterations > 1 ? Math.sqrt(variance / (iterations - 1)) : 0;
+
+		return String.format("%-48s %14.1f %10.1f %12.1f %10.1f", benchmark.name, mean, error, totalBytes / totalOps,
+				totalBytes / totalSeconds / (1024 * 1024));
+	}
+
+	// 한 반복 측정 - 시간 확인 비용이 섞이지 않도록 묶음 단위로 호출하고 묶음 크기는 점점 키움
+	private Sample measure(LongSupplier body) {
+		long ops = 0;
+		long batch = 1;
+		long result = 0;
+
+		long startBytes = threads.getCurrentThreadAllocatedBytes();
+		long start = System.nanoTime();
+		long elapsed;
+		do {
+			long batchStart = System.nanoTime();
+			for (long i = 0; i < batch; i++) {
+				result += body.getAsLong();
+			}
+			ops += batch;
+			long now = System.nanoTime();
+			if (now - batchStart < 1_000_000L) {
+				batch *= 2;
+			}
+			elapsed = now - start;
+		} while (elapsed < iterationNanos);
+		long allocated = threads.getCurrentThreadAllocatedBytes() - startBytes;
+
+		sink += result;
+		return new Sample(ops, elapsed / 1e9, allocated);
+	}
+
+	private static class Benchmark {
+		private final String name;
+		private final Runnable setup;
+		private final LongSupplier body;
+
+		private Benchmark(String name, Runnable setup, LongSupplier body) {
+			this.name = name;
+			this.setup = setup;
+			this.body = body;
+		}
+	}
+
+	private static class Sample {
+		private final long ops;
+		private final double seconds;
+		private final long allocatedBytes;
+
+		private Sample(long ops, double seconds, long allocatedBytes) {
+			this.ops = ops;
+			this.seconds = seconds;
+			this.allocatedBytes = allocatedBytes;
+		}
+	}
+}
@@ -0,0 +1,358 @@
+package parser.bench;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Random;
+
+// 규모 테스트용 합성 코퍼스 생성기 - 같은 시드와 설정이면 항상 같은 트리를 만듦
+// controller/cbc/bc/qc 패키지의 Java, .do 링크가 있는 JSP, 조인/서브쿼리가 있는 MyBatis 매퍼를 생성
+// 파일 i의 내용은 (시드, i)로만 결정되므로 파일 수를 바꿔도 앞쪽 파일은 동일
+// 사용법: CorpusGenerator <출력 경로> [파일 수] [시드] [평균 메서드 수] [대형 파일 비율] [긴 줄 비율]
+public class CorpusGenerator {
+	// 모듈 디렉터리 하나에 들어가는 파일 수 (파일 수가 많아도 디렉터리가 지나치게 커지지 않도록)
+	private static final int FILES_PER_MODULE = 200;
+	private static final int MAX_METHODS = 300;
+	private static final int HUGE_METHODS = 4000;
+	private static final int LONG_LINE_CHARS = 200_000;
+
+	private static final String[][] ENTITIES = { { "User", "사용자" }, { "Order", "주문" }, { "Product", "상품" },
+			{ "Payment", "결제" }, { "Delivery", "배송" }, { "Member", "회원" }, { "Notice", "공지사항" },
+			{ "Coupon", "쿠폰" }, { "Review", "리뷰" }, { "Settlement", "정산" }, { "Inventory", "재고" },
+			{ "Claim", "클레임" } };
+	private static final String[][] ACTIONS = { { "select", "조회" }, { "selectList", "목록 조회" }, { "insert", "등록" },
+			{ "update", "수정" }, { "delete", "삭제" }, { "approve", "승인" }, { "cancel", "취소" },
+			{ "excelDownload", "엑셀 다운로드" } };
+	private static final String[] DETAILS = { "검색 조건에 맞는 데이터를 페이지 단위로 처리한다", "권한을 확인한 뒤 이력 테이블에 변경 내용을 남긴다",
+			"여러 단위 컴포넌트를 하나의 트랜잭션으로 묶어 실행한다", "상태 코드별 건수를 함께 반환한다", "외부 연계 시스템 응답을 기다리지 않고 요청만 등록한다" };
+
+	// 파일 종류별 누적 비율 (controller 15%, cbc 15%, bc 20%, qc 15%, jsp 20%, mapper 15%)
+	private static final String[] KINDS = { "controller", "cbc", "bc", "qc", "jsp", "mapper" };
+	private static final int[] KIND_CUMULATIVE = { 15, 30, 50, 65, 85, 100 };
+
+	private final Path root;
+	private final long seed;
+	private final double meanMethods;
+	private final double hugeFileRatio;
+	private final double longLineRatio;
+
+	private final long[] kindCounts = new long[KINDS.length];
+	private long totalBytes;
+	private long hugeFiles;
+	private long longLineFiles;
+
+	public CorpusGenerator(Path root, long seed, double meanMethods, double hugeFileRatio, double longLineRatio) {
+		this.root = root;
+		this.seed = seed;
+		this.meanMethods = meanMethods;
+		this.hugeFileRatio = hugeFileRatio;
+		this.longLineRatio = longLineRatio;
+	}
+
+	public static void main(String[] args) throws IOException {
+		if (args.length < 1) {
+			System.out.println("사용법: CorpusGenerator <출력 경로> [파일 수] [시드] [평균 메서드 수] [대형 파일 비율] [긴 줄 비율]");
+			return;
+		}
+		Path root = Paths.get(args[0]);
+		int files = args.length > 1 ? Integer.parseInt(args[1]) : 1000;
+		long seed = args.length > 2 ? Long.parseLong(args[2]) : 42L;
+		double meanMethods = args.length > 3 ? Double.parseDouble(args[3]) : 8;
+		double hugeRatio = args.length > 4 ? Double.parseDouble(args[4]) : 0.001;
+		double longLineRatio = args.length > 5 ? Double.parseDouble(args[5]) : 0.005;
+
+		long start = System.nanoTime();
+		CorpusGenerator generator = new CorpusGenerator(root, seed, meanMethods, hugeRatio, longLineRatio);
+		generator.generate(files);
+		System.out.println(generator.summary() + ", " + (System.nanoTime() - start) / 1_000_000 + " ms");
+	}
+
+	public void generate(int files) throws IOException {
+		Files.createDirectories(root);
+		for (int i = 0; i < files; i++) {
+			generateFile(i);
+			if ((i + 1) % 10_000 == 0) {
+				System.out.println((i + 1) + "개 생성");
+			}
+		}
+
+		String info = "seed=" + seed + "\nfiles=" + files + "\nmeanMethods=" + meanMethods + "\nhugeFileRatio="
+				+ hugeFileRatio + "\nlongLineRatio=" + longLineRatio + "\n" + summary() + "\n";
+		Files.write(root.resolve("corpus-info.txt"), info.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private void generateFile(int index) throws IOException {
+		Random random = new Random(seed * 1_000_003L + index);
+
+		int kind = pickKind(random);
+		String module = String.format("m%04d", index / FILES_PER_MODULE);
+		String[] entity = ENTITIES[random.nextInt(ENTITIES.length)];
+		String name = entity[0] + index;
+
+		boolean huge = random.nextDouble() < hugeFileRatio;
+		boolean longLine = random.nextDouble() < longLineRatio;
+		int methods = huge ? HUGE_METHODS : methodCount(random);
+
+		Path path;
+		String content;
+		switch (KINDS[kind]) {
+		case "controller":
+			path = javaPath(module, "controller", name + "Controller");
+			content = controller(random, module, name, entity[1], methods, longLine);
+			break;
+		case "cbc":
+		case "bc":
+		case "qc":
+			String layer = KINDS[kind];
+			String suffix = layer.substring(0, 1).toUpperCase() + layer.substring(1) + "Impl";
+			path = javaPath(module, "service/" + layer + "/impl", name + suffix);
+			content = service(random, module, layer, name + suffix, entity[1], methods, longLine);
+			break;
+		case "jsp":
+			path = root.resolve("src/main/webapp/WEB-INF/jsp/" + module + "/" + lowerFirst(name) + "List.jsp");
+			content = jsp(random, module, name, entity[1], methods, longLine);
+			break;
+		default:
+			path = root.resolve("src/main/resources/mapper/" + module + "/" + name + "Mapper.xml");
+			content = mapper(random, module, name, entity[1], methods, longLine);
+			break;
+		}
+
+		byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+		Files.createDirectories(path.getParent());
+		Files.write(path, bytes);
+
+		kindCounts[kind]++;
+		totalBytes += bytes.length;
+		if (huge)
+			hugeFiles++;
+		if (longLine)
+			longLineFiles++;
+	}
+
+	private static int pickKind(Random random) {
+		int roll = random.nextInt(100);
+		for (int i = 0; i < KIND_CUMULATIVE.length; i++) {
+			if (roll < KIND_CUMULATIVE[i])
+				return i;
+		}
+		return KINDS.length - 1;
+	}
+
+	// 지수 분포 - 대부분 작은 파일이고 일부가 길게 늘어지는 분포
+	private int methodCount(Random random) {
+		int count = (int) Math.ceil(-Math.log(1 - random.nextDouble()) * meanMethods);
+		return Math.max(1, Math.min(MAX_METHODS, count));
+	}
+
+	private Path javaPath(String module, String packagePath, String className) {
+		return root.resolve("src/main/java/com/company/" + module + "/" + packagePath + "/" + className + ".java");
+	}
+
+	private static String controller(Random random, String module, String name, String label, int methods,
+			boolean longLine) {
+		StringBuilder source = new StringBuilder();
+		String base = "/" + module + "/" + lowerFirst(name);
+		source.append("package com.company.").append(module).append(".controller;\n\n")
+				.append("import org.springframework.stereotype.Controller;\n")
+				.append("import org.springframework.web.bind.annotation.*;\n\n");
+		javadoc(source, "", label + " 관리 컨트롤러", DETAILS[random.nextInt(DETAILS.length)]);
+		source.append("@Controller\n@RequestMapping(\"").append(base).append("\")\npublic class ").append(name)
+				.append("Controller {\n\n");
+		if (longLine) {
+			longConstant(source, random);
+		}
+
+		for (int i = 0; i < methods; i++) {
+			String[] action = ACTIONS[random.nextInt(ACTIONS.length)];
+			String methodName = action[0] + i;
+			javadoc(source, "\t", label + " " + action[1], DETAILS[random.nextInt(DETAILS.length)]);
+			switch (random.nextInt(4)) {
+			case 0:
+				source.append("\t@GetMapping(\"/").append(methodName).append(".do\")\n");
+				break;
+			case 1:
+				source.append("\t@PostMapping(value = \"/").append(methodName).append(".do\")\n");
+				break;
+			case 2:
+				source.append("\t@RequestMapping(value = \"/").append(methodName)
+						.append(".do\", method = RequestMethod.POST)\n");
+				break;
+			default:
+				source.append("\t@RequestMapping(\"/").append(methodName).append(".do\")\n");
+				break;
+			}
+			source.append("\tpublic String ").append(methodName)
+					.append("(Model model, @RequestParam Map<String, Object> params) {\n")
+					.append("\t\tif (params.get(\"id\") == null) {\n")
+					.append("\t\t\treturn \"redirect:").append(base).append("/error.do\"; // {오류}\n\t\t}\n")
+					.append("\t\tmodel.addAttribute(\"result\", service.").append(methodName).append("(params));\n")
+					.append("\t\treturn \"").append(module).append('/').append(lowerFirst(name)).append("\";\n\t}\n\n");
+		}
+		return source.append("}\n").toString();
+	}
+
+	private static String service(Random random, String module, String layer, String className, String label,
+			int methods, boolean longLine) {
+		StringBuilder source = new StringBuilder();
+		source.append("package com.company.").append(module).append(".service.").append(layer).append(".impl;\n\n")
+				.append("import java.util.*;\n\n");
+		javadoc(source, "", label + " " + layer.toUpperCase() + " 컴포넌트", DETAILS[random.nextInt(DETAILS.length)]);
+		source.append("@Service\npublic class ").append(className).append(" implements ")
+				.append(className, 0, className.length() - 4).append(" {\n\n");
+		if (longLine) {
+			longConstant(source, random);
+		}
+
+		for (int i = 0; i < methods; i++) {
+			String[] action = ACTIONS[random.nextInt(ACTIONS.length)];
+			javadoc(source, "\t", label + " " + action[1], DETAILS[random.nextInt(DETAILS.length)]);
+			if (random.nextInt(3) == 0) {
+				source.append("\t@Transactional\n");
+			}
+			source.append("\t@Override\n\tpublic List<Map<String, Object>> ").append(action[0]).append(i)
+					.append("(Map<String, Object> param) {\n");
+			switch (random.nextInt(3)) {
+			case 0:
+				source.append("\t\tList<Map<String, Object>> rows = new ArrayList<>();\n")
+						.append("\t\tfor (Map<String, Object> row : dao.select(param)) {\n")
+						.append("\t\t\trow.put(\"flag\", 'Y');\n\t\t\trows.add(row);\n\t\t}\n")
+						.append("\t\treturn rows;\n");
+				break;
+			case 1:
+				source.append("\t\t/* 조건 확인 { 중괄호가 있는 주석 } */\n")
+						.append("\t\treturn dao.select(param).stream().filter(row -> {\n")
+						.append("\t\t\treturn !\"}\".equals(row.get(\"code\"));\n\t\t}).collect(Collectors.toList());\n");
+				break;
+			default:
+				source.append("\t\tRunnable audit = new Runnable() {\n\t\t\tpublic void run() {\n")
+						.append("\t\t\t\tlog.info(\"audit {}\", param);\n\t\t\t}\n\t\t};\n")
+						.append("\t\taudit.run();\n\t\treturn Collections.emptyList();\n");
+				break;
+			}
+			source.append("\t}\n\n");
+		}
+		return source.append("}\n").toString();
+	}
+
+	private static String jsp(Random random, String module, String name, String label, int links,
+			boolean longLine) {
+		StringBuilder page = new StringBuilder();
+		String base = "/app/" + module + "/" + lowerFirst(name);
+		page.append("<%@ page contentType=\"text/html; charset=UTF-8\" %>\n")
+				.append("<%@ taglib prefix=\"c\" uri=\"http://java.sun.com/jsp/jstl/core\" %>\n")
+				.append("<html>\n<head><title>").append(label).append(" 목록</title></head>\n<body>\n")
+				.append("<script>\n/**\n * ").append(label).append(" 화면 스크립트\n */\n");
+
+		for (int i = 0; i < links; i++) {
+			String[] action = ACTIONS[random.nextInt(ACTIONS.length)];
+			if (random.nextBoolean()) {
+				page.append("function fn_").append(action[0]).append(i).append("() {\n")
+						.append("\tlocation.href = \"").append(base).append('/').append(action[0]).append(i)
+						.append(".do?id=\" + $('#id').val();\n}\n");
+			} else {
+				page.append("</script>\n<a href=\"").append(base).append('/').append(action[0]).append(i)
+						.append(".do\">").append(label).append(' ').append(action[1]).append("</a>\n<script>\n");
+			}
+		}
+		page.append("</script>\n");
+
+		if (longLine) {
+			// 한 줄에 몰아 넣은 인라인 데이터
+			page.append("<script>var menu = [");
+			int start = page.length();
+			for (int i = 0; page.length() - start < LONG_LINE_CHARS; i++) {
+				page.append("{\"url\":\"").append(base).append("/menu").append(i).append(".do\",\"name\":\"")
+						.append(label).append(i).append("\"},");
+			}
+			page.append("];</script>\n");
+		}
+		return page.append("</body>\n</html>\n").toString();
+	}
+
+	private static String mapper(Random random, String module, String name, String label, int queries,
+			boolean longLine) {
+		StringBuilder xml = new StringBuilder();
+		String table = "TB_" + name.replaceAll("[0-9]", "").toUpperCase();
+		xml.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n")
+				.append("<!DOCTYPE mapper PUBLIC \"-//mybatis.org//DTD Mapper 3.0//EN\" ")
+				.append("\"http://mybatis.org/dtd/mybatis-3-mapper.dtd\">\n")
+				.append("<mapper namespace=\"com.company.").append(module).append(".dao.").append(name)
+				.append("Mapper\">\n\n");
+
+		for (int i = 0; i < queries; i++) {
+			String[] action = ACTIONS[random.nextInt(ACTIONS.length)];
+			xml.append("\t<!--\n\t/**\n\t * ").append(label).append(' ').append(action[1]).append("\n\t */\n\t-->\n");
+			switch (random.nextInt(4)) {
+			case 0:
+				xml.append("\t<select id=\"").append(action[0]).append(i).append("\" resultType=\"map\">\n")
+						.append("\t\tSELECT A.ID, A.NAME, B.CODE_NM,\n")
+						.append("\t\t       (SELECT COUNT(*) FROM TB_HISTORY H WHERE H.REF_ID = A.ID) AS HIST_CNT\n")
+						.append("\t\tFROM SHOP.").append(table).append(" A\n")
+						.append("\t\tINNER JOIN TB_CODE B ON A.STATUS = B.CODE\n")
+						.append("\t\tLEFT OUTER JOIN TB_MEMBER M ON A.REG_ID = M.MEMBER_ID\n")
+						.append("\t\tWHERE A.USE_YN = 'Y'\n")
+						.append("\t\t<if test=\"keyword != null\">AND A.NAME LIKE '%' || #{keyword} || '%'</if>\n")
+						.append("\t\tAND A.GROUP_ID IN (SELECT GROUP_ID FROM TB_GROUP WHERE OWNER_ID = #{ownerId})\n")
+						.append("\t</select>\n\n");
+				break;
+			case 1:
+				xml.append("\t<insert id=\"").append(action[0]).append(i).append("\">\n")
+						.append("\t\tINSERT INTO ").append(table).append(" (ID, NAME, REG_DT)\n")
+						.append("\t\tVALUES (#{id}, #{name}, SYSDATE)\n\t</insert>\n\n");
+				break;
+			case 2:
+				xml.append("\t<update id=\"").append(action[0]).append(i).append("\">\n")
+						.append("\t\tUPDATE ").append(table).append(" SET NAME = #{name}, UPD_DT = SYSDATE\n")
+						.append("\t\tWHERE ID IN (SELECT REF_ID FROM TB_LINK WHERE OWNER_ID = #{ownerId})\n")
+						.append("\t</update>\n\n");
+				break;
+			default:
+				xml.append("\t<delete id=\"").append(action[0]).append(i).append("\">\n")
+						.append("\t\tDELETE FROM ").append(table).append(" WHERE ID = #{id}\n\t</delete>\n\n");
+				break;
+			}
+		}
+		if (longLine) {
+			// 한 줄로 나열된 대량 IN 조건
+			xml.append("\t<select id=\"selectByIds\" resultType=\"map\">\n\t\tSELECT * FROM ").append(table)
+					.append(" WHERE ID IN (");
+			int start = xml.length();
+			for (int n = 0; xml.length() - start < LONG_LINE_CHARS; n++) {
+				xml.append(n == 0 ? "" : ", ").append('\'').append(table).append('-').append(n).append('\'');
+			}
+			xml.append(")\n\t</select>\n\n");
+		}
+		return xml.append("</mapper>\n").toString();
+	}
+
+	private static void javadoc(StringBuilder source, String indent, String title, String detail) {
+		source.append(indent).append("/**\n").append(indent).append(" * ").append(title).append('\n').append(indent)
+				.append(" * ").append(detail).append('\n').append(indent).append(" */\n");
+	}
+
+	// 한 줄짜리 거대 문자열 상수 (중괄호와 주석 기호 포함)
+	private static void longConstant(StringBuilder source, Random random) {
+		source.append("\tprivate static final String PAYLOAD = \"");
+		int start = source.length();
+		while (source.length() - start < LONG_LINE_CHARS) {
+			source.append("{key").append(random.nextInt(1000)).append(": /* value */ }");
+		}
+		source.append("\";\n\n");
+	}
+
+	private static String lowerFirst(String value) {
+		return Character.toLowerCase(value.charAt(0)) + value.substring(1);
+	}
+
+	public String summary() {
+		StringBuilder summary = new StringBuilder("생성 결과:");
+		for (int i = 0; i < KINDS.length; i++) {
+			summary.append(' ').append(KINDS[i]).append(' ').append(kindCounts[i]).append("개");
+		}
+		return summary.append(", 대형 파일 ").append(hugeFiles).append("개, 긴 줄 ").append(longLineFiles)
+				.append("개, 총 ").append(totalBytes / 1024).append(" KB").toString();
+	}
+}
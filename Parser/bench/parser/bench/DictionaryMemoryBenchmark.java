@@ -0,0 +1,92 @@
+package parser.bench;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import parser.JavaFileParsor;
+import parser.data.ParseResult;
+import parser.data.StringDictionary;
+
+// 파싱 결과를 모두 유지할 때(캐시, 재정렬 창, 감시 모드 등)의 힙 사용량 비교
+// - 파일별 사전: 파일마다 새 사전 - 파일 사이에 값을 공유하지 않음 (파일마다 사전 자체 비용 포함)
+// - 스캔 사전: 스캔 전체가 한 사전 - 클래스명, 클래스 주석, URL, 메서드명이 파일 사이에 한 인스턴스
+// 사용량은 GC 후 유지 중인 힙 차이 - 정확한 크기가 아닌 비교용 (-Xmx를 충분히 주고 실행)
+// 사용법: DictionaryMemoryBenchmark <소스 루트> [반복 파싱 횟수]
+public class DictionaryMemoryBenchmark {
+	public static void main(String[] args) throws Exception {
+		if (args.length < 1) {
+			System.out.println("사용법: DictionaryMemoryBenchmark <소스 루트> [반복 파싱 횟수]");
+			return;
+		}
+		int copies = args.length > 1 ? Integer.parseInt(args[1]) : 1;
+		List<Path> files;
+		try (Stream<Path> targets = JavaFileParsor.findTargetFiles(args[0])) {
+			files = targets.collect(Collectors.toList());
+		}
+		System.out.println("파일 " + files.size() + "개 x " + copies + "회");
+
+		// 워밍업 (클래스 로딩, JIT, 경로 분류 캐시)
+		measure(files, 1, true);
+
+		long[] perFile = measure(files, copies, true);
+		long[] shared = measure(files, copies, false);
+		long rows = perFile[1];
+
+		System.out.printf("출력 행 %d개%n", rows);
+		System.out.printf("파일별 사전: %,d KB (%.1f B/행)%n", perFile[0] / 1024, (double) perFile[0] / rows);
+		System.out.printf("스캔 사전:   %,d KB (%.1f B/행, 사전 %d개 값 %,d KB 포함)%n", shared[0] / 1024,
+				(double) shared[0] / rows, shared[3], shared[2] / 1024);
+		System.out.printf("파일별 사전 대비 %.2f배%n", (double) perFile[0] / shared[0]);
+	}
+
+	// { 결과와 사전 유지 바이트, 출력 행 수, 결과를 버린 뒤 남은 사전 바이트, 사전 값 수 }
+	private static long[] measure(List<Path> files, int copies, boolean dictionaryPerFile)
+			throws InterruptedException {
+		StringDictionary.startScan();
+		long base = usedHeap();
+		List<ParseResult> results = retain(files, copies, dictionaryPerFile);
+		long retained = usedHeap() - base;
+		long rows = results.stream().mapToLong(result -> result.getRecords().size()).sum();
+
+		StringDictionary dictionary = results.get(results.size() - 1).getDictionary();
+		results.clear();
+		long dictionaryBytes = usedHeap() - base;
+		return new long[] { retained, rows, dictionaryBytes, dictionary.size() };
+	}
+
+	private static List<ParseResult> retain(List<Path> files, int copies, boolean dictionaryPerFile) {
+		PrintStream out = System.out;
+		System.setOut(new PrintStream(OutputStream.nullOutputStream())); // 파싱 진행 출력은 버림
+		try {
+			List<ParseResult> results = new ArrayList<>();
+			for (int copy = 0; copy < copies; copy++) {
+				for (Path file : files) {
+					if (dictionaryPerFile) {
+						StringDictionary.startScan();
+					}
+					results.add(JavaFileParsor.parseJavaFileThreadConfined(file));
+				}
+			}
+			return results;
+		} finally {
+			System.setOut(out);
+		}
+	}
+
+	// 여러 번 GC한 뒤 가장 작은 사용량 (참조 처리 스레드가 늦게 놓는 객체가 있어 한 번으로는 부족)
+	private static long usedHeap() throws InterruptedException {
+		Runtime runtime = Runtime.getRuntime();
+		long used = Long.MAX_VALUE;
+		for (int i = 0; i < 5; i++) {
+			System.gc();
+			Thread.sleep(200);
+			used = Math.min(used, runtime.totalMemory() - runtime.freeMemory());
+		}
+		return used;
+	}
+}
@@ -0,0 +1,135 @@
+package parser.bench;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import parser.parser.JavaLexer;
+
+// 줄 판별 비교 - 기존 정규식 경로와 JavaLexer 경로를 같은 줄 목록에 대해 측정
+// 사용법: LexerBenchmark <소스 루트> [반복 횟수]
+public class LexerBenchmark {
+	// 렉서 도입 전 BaseJavaParser/ControllerParser가 쓰던 패턴
+	private static final Pattern METHOD_PATTERN = Pattern.compile(".*(public|private|protected).*\\(.*\\).*\\{.*");
+	private static final Pattern CLASS_PATTERN = Pattern.compile(".*class\\s+\\w+.*");
+	private static final Pattern JAVADOC_START_PATTERN = Pattern.compile("\\s*/\\*\\*.*");
+	private static final Pattern JAVADOC_END_PATTERN = Pattern.compile(".*\\*/.*");
+	private static final Pattern MAPPING_PATTERN = Pattern.compile("@(Request|Get|Post|Put|Delete)Mapping");
+
+	private static final int WARMUP = 5;
+
+	public static void main(String[] args) throws Exception {
+		if (args.length < 1) {
+			System.out.println("사용법: LexerBenchmark <소스 루트> [반복 횟수]");
+			return;
+		}
+		int iterations = args.length > 1 ? Integer.parseInt(args[1]) : 20;
+
+		List<List<String>> files = loadFiles(Paths.get(args[0]));
+		long lines = files.stream().mapToLong(List::size).sum();
+		System.out.println("파일 " + files.size() + "개, 줄 " + lines + "개, 반복 " + iterations + "회");
+
+		long regexHits = 0;
+		long lexerHits = 0;
+		for (int i = 0; i < WARMUP; i++) {
+			regexHits = regexPass(files);
+			lexerHits = lexerPass(files);
+		}
+
+		long regexNanos = 0;
+		long lexerNanos = 0;
+		for (int i = 0; i < iterations; i++) {
+			long start = System.nanoTime();
+			regexHits = regexPass(files);
+			regexNanos += System.nanoTime() - start;
+
+			start = System.nanoTime();
+			lexerHits = lexerPass(files);
+			lexerNanos += System.nanoTime() - start;
+		}
+
+		report("정규식", regexNanos, iterations, lines, regexHits);
+		report("렉서", lexerNanos, iterations, lines, lexerHits);
+		System.out.printf("속도 향상: %.2fx%n", (double) regexNanos / lexerNanos);
+	}
+
+	// 반환값은 판별 결과 합계 (최적화로 제거되지 않도록 사용, 문자열/주석 처리 차이로 두 경로 값은 다를 수 있음)
+	private static long regexPass(List<List<String>> files) {
+		long hits = 0;
+		for (List<String> file : files) {
+			int braceLevel = 0;
+			for (String line : file) {
+				for (int i = 0; i < line.length(); i++) {
+					char ch = line.charAt(i);
+					if (ch == '{')
+						braceLevel++;
+					else if (ch == '}')
+						braceLevel--;
+				}
+				if (JAVADOC_START_PATTERN.matcher(line).matches())
+					hits++;
+				else if (JAVADOC_END_PATTERN.matcher(line).matches())
+					hits++;
+				else if (CLASS_PATTERN.matcher(line).matches() && braceLevel == 1)
+					hits++;
+				else if (METHOD_PATTERN.matcher(line).matches())
+					hits++;
+				if (MAPPING_PATTERN.matcher(line).find())
+					hits++;
+			}
+		}
+		return hits;
+	}
+
+	private static long lexerPass(List<List<String>> files) {
+		JavaLexer lexer = new JavaLexer();
+		long hits = 0;
+		for (List<String> file : files) {
+			int braceLevel = 0;
+			lexer.reset();
+			for (String line : file) {
+				lexer.scan(line, braceLevel);
+				braceLevel += lexer.getBraceDelta();
+				if (lexer.isJavadocStart())
+					hits++;
+				else if (lexer.isCommentClosed())
+					hits++;
+				else if (lexer.isTopLevelClass())
+					hits++;
+				else if (lexer.isMethodDeclaration())
+					hits++;
+				if (lexer.hasAnnotation("RequestMapping") || lexer.hasAnnotation("GetMapping")
+						|| lexer.hasAnnotation("PostMapping"))
+					hits++;
+			}
+		}
+		return hits;
+	}
+
+	private static void report(String name, long nanos, int iterations, long lines, long hits) {
+		double perPass = nanos / 1_000_000.0 / iterations;
+		System.out.printf("%s: %.1f ms/회, %.1f ns/줄 (판별 %d건)%n", name, perPass,
+				(double) nanos / iterations / lines, hits);
+	}
+
+	// 파서와 같이 trim 후 빈 줄 제외
+	private static List<List<String>> loadFiles(Path root) throws Exception {
+		List<List<String>> files = new ArrayList<>();
+		try (Stream<Path> paths = Files.walk(root)) {
+			for (Path path : (Iterable<Path>) paths.filter(p -> p.toString().endsWith(".java"))::iterator) {
+				List<String> lines = new ArrayList<>();
+				for (String line : Files.readAllLines(path)) {
+					String trimmed = line.trim();
+					if (!trimmed.isEmpty())
+						lines.add(trimmed);
+				}
+				files.add(lines);
+			}
+		}
+		return files;
+	}
+}
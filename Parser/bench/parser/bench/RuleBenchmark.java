@@ -0,0 +1,102 @@
+package parser.bench;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import parser.rule.RuleSet;
+
+// 규칙 수에 따른 줄당 비용 비교 - 규칙마다 contains 하는 방식과 RuleSet 자동자 방식
+// 사용법: RuleBenchmark <소스 루트> [반복 횟수]
+public class RuleBenchmark {
+	private static final int[] RULE_COUNTS = { 1, 8, 32, 128 };
+	private static final int WARMUP = 5;
+
+	public static void main(String[] args) throws Exception {
+		if (args.length < 1) {
+			System.out.println("사용법: RuleBenchmark <소스 루트> [반복 횟수]");
+			return;
+		}
+		int iterations = args.length > 1 ? Integer.parseInt(args[1]) : 20;
+		List<String> lines = loadLines(Paths.get(args[0]));
+		System.out.println("줄 " + lines.size() + "개, 반복 " + iterations + "회");
+
+		for (int count : RULE_COUNTS) {
+			List<String> keywords = new ArrayList<>();
+			List<String> definitions = new ArrayList<>();
+			for (int i = 0; i < count; i++) {
+				// 실제로 자주 나오는 어노테이션 몇 개와 나머지는 가상의 어노테이션
+				String keyword = i == 0 ? "@Override" : i == 1 ? "@Transactional" : "@Custom" + i + "Rule";
+				keywords.add(keyword);
+				definitions.add("c" + i + " = " + keyword);
+			}
+			RuleSet rules = RuleSet.parse(definitions);
+			String[] values = new String[rules.getColumns().size()];
+
+			for (int i = 0; i < WARMUP; i++) {
+				containsPass(lines, keywords);
+				automatonPass(lines, rules, values);
+			}
+
+			long containsNanos = 0;
+			long automatonNanos = 0;
+			long containsHits = 0;
+			long automatonHits = 0;
+			for (int i = 0; i < iterations; i++) {
+				long start = System.nanoTime();
+				containsHits = containsPass(lines, keywords);
+				containsNanos += System.nanoTime() - start;
+
+				start = System.nanoTime();
+				automatonHits = automatonPass(lines, rules, values);
+				automatonNanos += System.nanoTime() - start;
+			}
+
+			System.out.printf("규칙 %3d개: contains %.1f ns/줄 (%d건), 자동자 %.1f ns/줄 (%d건)%n", count,
+					(double) containsNanos / iterations / lines.size(), containsHits,
+					(double) automatonNanos / iterations / lines.size(), automatonHits);
+		}
+	}
+
+	private static long containsPass(List<String> lines, List<String> keywords) {
+		long hits = 0;
+		for (String line : lines) {
+			for (String keyword : keywords) {
+				if (line.contains(keyword))
+					hits++;
+			}
+		}
+		return hits;
+	}
+
+	private static long automatonPass(List<String> lines, RuleSet rules, String[] values) {
+		long hits = 0;
+		for (String line : lines) {
+			rules.apply(line, values);
+			for (int i = 0; i < values.length; i++) {
+				if (values[i] != null) {
+					hits++;
+					values[i] = null;
+				}
+			}
+		}
+		return hits;
+	}
+
+	private static List<String> loadLines(Path root) throws Exception {
+		List<String> lines = new ArrayList<>();
+		try (Stream<Path> paths = Files.walk(root)) {
+			for (Path path : (Iterable<Path>) paths.filter(p -> p.toString().endsWith(".java"))::iterator) {
+				for (String line : Files.readAllLines(path)) {
+					String trimmed = line.trim();
+					if (!trimmed.isEmpty())
+						lines.add(trimmed);
+				}
+			}
+		}
+		return lines;
+	}
+}
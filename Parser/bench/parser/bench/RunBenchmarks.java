@@ -0,0 +1,19 @@
+package parser.bench;
+
+import parser.parser.ParserBenchmarks;
+import parser.result.WriterBenchmarks;
+import parser_1.QueryParserBenchmarks;
+
+// 전체 마이크로벤치마크 실행
+// 예) java -Dbench.filter=parseFile -Dbench.time=2000 parser.bench.RunBenchmarks
+public class RunBenchmarks {
+	public static void main(String[] args) {
+		BenchRunner runner = new BenchRunner();
+
+		ParserBenchmarks.register(runner);
+		WriterBenchmarks.register(runner);
+		QueryParserBenchmarks.register(runner);
+
+		runner.runAll();
+	}
+}
@@ -0,0 +1,82 @@
+package parser.parser;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+import parser.bench.BenchInputs;
+import parser.bench.BenchRunner;
+
+// Java 파서 핫패스 벤치마크 (protected 메서드 호출을 위해 같은 패키지에 위치)
+public class ParserBenchmarks {
+	private ParserBenchmarks() {
+		// 유틸리티 클래스이므로 인스턴스 생성 방지
+	}
+
+	public static void register(BenchRunner runner) {
+		byte[] controller = BenchInputs.controllerSource(40).getBytes(StandardCharsets.UTF_8);
+		byte[] service = BenchInputs.serviceSource(40).getBytes(StandardCharsets.UTF_8);
+		Path controllerPath = Paths.get("src/mvc/controller/OrderController.java");
+		Path servicePath = Paths.get("src/service/cbc/impl/OrderCbcImpl.java");
+
+		ControllerParser controllerParser = new ControllerParser();
+		ServiceParser serviceParser = new ServiceParser();
+
+		runner.add("BaseJavaParser.parseFile(controller)",
+				() -> controllerParser.parse(controllerPath, "controller", controller).getMethods().size());
+		runner.add("BaseJavaParser.parseFile(service)",
+				() -> serviceParser.parse(servicePath, "cbc", service).getMethods().size());
+		runner.add("BaseJavaParser.parseBytes(controller)",
+				() -> controllerParser.parse(controllerPath, "controller", ByteBuffer.wrap(controller)).getMethods()
+						.size());
+
+		String javadoc = BenchInputs.javadoc();
+		runner.add("BaseJavaParser.extractComment", () -> serviceParser.extractComment(javadoc).length());
+
+		// 정규식 기반 extractMethodName은 JavaLexer로 대체되어 렉서의 줄 판별을 측정
+		List<String> lines = BenchInputs.lines(BenchInputs.controllerSource(8));
+		JavaLexer lexer = new JavaLexer();
+		int[] lineIndex = { 0 };
+		runner.add("JavaLexer.scan+getMethodName", () -> {
+			String line = lines.get(lineIndex[0]++ % lines.size());
+			lexer.scan(line, 1);
+			return lexer.isMethodDeclaration() ? lexer.getMethodName().length() : 0;
+		});
+
+		List<String> paths = BenchInputs.paths();
+		int[] pathIndex = { 0 };
+		runner.add("ParserType.fromPath",
+				() -> ParserType.fromPath(paths.get(pathIndex[0]++ % paths.size())).ordinal());
+
+		// 스캔 탐색 순서(경로 정렬) - 같은 디렉터리 파일이 연속
+		List<String> sortedPaths = new ArrayList<>(paths);
+		sortedPaths.sort(null);
+		int[] sortedIndex = { 0 };
+		runner.add("PathClassifier.classify.sorted", () -> PathClassifier.defaults()
+				.classify(sortedPaths.get(sortedIndex[0]++ % sortedPaths.size())).ordinal());
+
+		// 줄마다 렉서 결과가 필요하므로 scan과 함께 측정, 한 바퀴마다 누적 상태 초기화
+		SpecializedProbe probe = new SpecializedProbe();
+		int[] specializedIndex = { 0 };
+		runner.add("ControllerParser.parseSpecialized", () -> {
+			int index = specializedIndex[0]++ % lines.size();
+			if (index == 0) {
+				probe.resetSpecializedState();
+				probe.context.resetAll();
+			}
+			String line = lines.get(index);
+			probe.lexer.scan(line, 1);
+			probe.parseSpecialized(line);
+			return probe.context.pendingUrl.length();
+		});
+	}
+
+	private static class SpecializedProbe extends ControllerParser {
+		private SpecializedProbe() {
+			className = "OrderController";
+		}
+	}
+}
@@ -0,0 +1,84 @@
+package parser.result;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import parser.bench.BenchRunner;
+import parser.data.ParseResult;
+import parser.data.RecordList;
+
+// 분산 출력 기록기 벤치마크 - 출력은 임시 디렉터리에 쓰고 반복마다 새 기록기로 정리
+public class WriterBenchmarks {
+	private static final String[] TYPES = { "controller", "cbc", "bc", "qc" };
+	private static final int RESULTS_PER_FLUSH = 20;
+
+	private WriterBenchmarks() {
+		// 유틸리티 클래스이므로 인스턴스 생성 방지
+	}
+
+	public static void register(BenchRunner runner) {
+		Path outputDir = createOutputDir();
+		ParseResult result = sampleResult();
+		DistributedBufferedWriter[] writer = new DistributedBufferedWriter[1];
+
+		Runnable newWriter = () -> replaceWriter(writer, outputDir, false);
+		Runnable newAsyncWriter = () -> replaceWriter(writer, outputDir, true);
+
+		// 50KB 임계값마다 flushBuffer 포함
+		runner.add("DistributedBufferedWriter.writeResult", newWriter, () -> {
+			writer[0].writeResult(result);
+			return 1;
+		});
+
+		// 플러시를 기록 스레드에서 수행 - 호출 스레드 비용만 측정
+		runner.add("DistributedBufferedWriter.writeResult.async", newAsyncWriter, () -> {
+			writer[0].writeResult(result);
+			return 1;
+		});
+
+		// 매 연산이 flushBuffer까지 가도록 소량 기록 후 flush
+		runner.add("DistributedBufferedWriter.flushBuffer", newWriter, () -> {
+			for (int i = 0; i < RESULTS_PER_FLUSH; i++) {
+				writer[0].writeResult(result);
+			}
+			writer[0].flush();
+			return RESULTS_PER_FLUSH;
+		});
+	}
+
+	private static void replaceWriter(DistributedBufferedWriter[] writer, Path outputDir, boolean asyncFlush) {
+		try {
+			if (writer[0] != null) {
+				writer[0].close();
+			}
+			writer[0] = new DistributedBufferedWriter(outputDir.toString(), 50, 5, TYPES, asyncFlush);
+		} catch (Exception e) {
+			throw new IllegalStateException("기록기 생성 실패", e);
+		}
+	}
+
+	private static Path createOutputDir() {
+		try {
+			return Files.createTempDirectory("parser-bench");
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	// 서비스 파일 하나 분량의 출력 행 (메서드 8개)
+	private static ParseResult sampleResult() {
+		ParseResult result = new ParseResult("OrderCbcImpl.java", "src/service/cbc/impl/OrderCbcImpl.java", "cbc");
+		RecordList records = result.getRecords();
+		for (int i = 0; i < 8; i++) {
+			records.field("OrderCbcImpl.processOrder" + i);
+			records.field("OrderCbcImpl");
+			records.field("주문 복합 비즈니스 컴포넌트");
+			records.field("processOrder" + i);
+			records.field("Order 조회 처리 - 여러 단위 컴포넌트를 묶어...");
+			records.endRecord();
+		}
+		return result;
+	}
+}
@@ -0,0 +1,22 @@
+package parser_1;
+
+import java.util.List;
+
+import parser.bench.BenchInputs;
+import parser.bench.BenchRunner;
+
+// MyBatis 쿼리 파서 벤치마크 (패키지 전용 메서드 호출을 위해 같은 패키지에 위치)
+public class QueryParserBenchmarks {
+	private QueryParserBenchmarks() {
+		// 유틸리티 클래스이므로 인스턴스 생성 방지
+	}
+
+	public static void register(BenchRunner runner) {
+		List<String[]> queries = BenchInputs.queries();
+		int[] index = { 0 };
+		runner.add("SimpleXmlQueryParser.findTableName", () -> {
+			String[] query = queries.get(index[0]++ % queries.size());
+			return SimpleXmlQueryParser.findTableName(query[1], query[0]).size();
+		});
+	}
+}
@@ -0,0 +1,328 @@
+package parser;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import parser.data.ParseResult;
+import parser.data.StringDictionary;
+import parser.metrics.MetricsRegistry;
+import parser.parser.ParserType;
+import parser.result.DistributedBufferedWriter;
+import parser.scan.FileManifest;
+
+// 증분 스캔 - 목록 파일과 비교해 추가/변경된 파일만 파싱하고 영향받은 타입의 출력만 다시 작성
+// 목록이 없거나(첫 실행, 전체 스캔 이후) 기존 출력이 목록과 맞지 않으면 모든 타입을 처음부터 다시 작성
+public class IncrementalProcessor {
+	private IncrementalProcessor() {
+		// 유틸리티 클래스이므로 인스턴스 생성 방지
+	}
+
+	public static void process(String rootPath, String outputPath, ScanOptions options) throws Exception {
+		FileManifest manifest = FileManifest.load(Paths.get(outputPath));
+
+		System.out.println("증분 스캔 시작: " + rootPath + " (기존 목록 " + manifest.entries().size() + "개)");
+		System.out.println("=".repeat(60));
+		MetricsRegistry.scan().startScan();
+		StringDictionary.startScan();
+
+		Map<String, ParseResult> changed = new HashMap<>();
+		Map<String, FileManifest.Entry> previousEntries = new HashMap<>();
+		Set<String> seen = new HashSet<>();
+		Set<String> affectedTypes = new LinkedHashSet<>();
+		boolean rebuild = manifest.isEmpty(); // 이전 상태 없음 - 기존 출력은 버리고 모든 타입을 다시 작성
+		if (rebuild) {
+			affectedTypes.addAll(Arrays.asList(ParserType.getAllPathKeywords()));
+		}
+
+		try (Stream<Path> targets = JavaFileParsor.findTargetFiles(rootPath, options)) {
+			for (Path path : (Iterable<Path>) targets::iterator) {
+				seen.add(path.toString());
+				detectChange(path, manifest, changed, previousEntries, affectedTypes, options);
+			}
+		}
+
+		// 삭제된 파일
+		List<String> deleted = new ArrayList<>();
+		for (FileManifest.Entry entry : manifest.entries()) {
+			if (!seen.contains(entry.getPath())) {
+				deleted.add(entry.getPath());
+				affectedTypes.add(entry.getType());
+			}
+		}
+
+		apply(outputPath, options, manifest, changed, previousEntries, deleted, affectedTypes, rebuild);
+		MetricsRegistry.scan().endScan();
+		if (options.getProfiler() != null) {
+			options.getProfiler().writeReport(Paths.get(outputPath, JavaFileParsor.PROFILE_REPORT));
+		}
+
+		System.out.println("=".repeat(60));
+		System.out.println("증분 분석 완료! 영향받은 타입: " + affectedTypes);
+	}
+
+	// 전체 탐색 없이 지정된 경로만 확인 (감시 모드용) - 추가/변경된 파일은 파싱해 manifest에 반영하고(행 수와 클래스명은
+	// 호출하는 쪽이 출력을 쓴 뒤 설정), 삭제된 파일은 목록만 돌려줌 (manifest에서 지우는 것도 호출하는 쪽)
+	// 존재하지 않는 경로는 삭제로 보고, 디렉터리였던 경우 그 하위 항목도 모두 삭제
+	// 분류 규칙상 더 이상 대상이 아닌 기존 파일도 삭제로 처리
+	static Changes detectChanges(FileManifest manifest, ScanOptions options, Collection<Path> touched)
+			throws IOException {
+		Changes changes = new Changes();
+		Set<String> affectedTypes = new LinkedHashSet<>();
+
+		for (Path path : touched) {
+			String key = path.toString();
+			if (Files.isRegularFile(path)) {
+				if (!key.endsWith(".java"))
+					continue;
+				if (JavaFileParsor.isJavaFileInTargetPath(key, options.getClassifier())) {
+					detectChange(path, manifest, changes.changed, changes.previousEntries, affectedTypes, options);
+				} else if (manifest.get(key) != null) {
+					changes.deleted.add(key);
+				}
+			} else if (!Files.exists(path)) {
+				String dirPrefix = key + File.separator;
+				for (FileManifest.Entry entry : manifest.entries()) {
+					if (entry.getPath().equals(key) || entry.getPath().startsWith(dirPrefix)) {
+						changes.deleted.add(entry.getPath());
+					}
+				}
+			}
+		}
+		return changes;
+	}
+
+	// 타입의 기존 출력을 파일별 행 묶음으로 분리 (목록 순서, 출력이 목록과 맞지 않으면 null)
+	static Map<String, String> loadRows(String outputPath, FileManifest manifest, String type) throws IOException {
+		return loadPreviousRows(outputPath, manifest, Map.of(), Set.of(type), Map.of());
+	}
+
+	// 감시 모드 배치의 변경 내용
+	static class Changes {
+		final Map<String, ParseResult> changed = new HashMap<>();
+		final Map<String, FileManifest.Entry> previousEntries = new HashMap<>(); // 신규 파일이면 값이 null
+		final Set<String> deleted = new LinkedHashSet<>();
+	}
+
+	private static void apply(String outputPath, ScanOptions options, FileManifest manifest,
+			Map<String, ParseResult> changed, Map<String, FileManifest.Entry> previousEntries, List<String> deleted,
+			Set<String> affectedTypes, boolean rebuild) throws Exception {
+		System.out.println("변경: " + changed.size() + "개, 삭제: " + deleted.size() + "개");
+
+		if (!affectedTypes.isEmpty()) {
+			Map<String, String> previousRows = rebuild ? Map.of()
+					: loadPreviousRows(outputPath, manifest, previousEntries, affectedTypes, changed);
+			if (previousRows == null) {
+				System.err.println("기존 출력이 목록과 일치하지 않아 전체 다시 파싱");
+				reparseAll(manifest, changed, deleted, options);
+				affectedTypes.addAll(Arrays.asList(ParserType.getAllPathKeywords()));
+				previousRows = Map.of();
+			}
+			deleted.forEach(manifest::remove);
+			rewriteTypes(outputPath, options, manifest, affectedTypes, changed, previousRows);
+		} else {
+			System.out.println("변경된 파일 없음 - 출력 유지");
+		}
+
+		manifest.save(Paths.get(outputPath));
+	}
+
+	// 변경 여부 판단 - 크기/수정 시각이 같으면 건너뛰고, 다르면 해시 비교 후 변경 시 파싱
+	// 내용이 같아도 분류 규칙상 타입이 바뀌었으면 다시 파싱
+	// 변경된 파일은 이전 항목을 previousEntries에 남기고 이전 타입과 새 타입을 모두 affectedTypes에 추가
+	private static void detectChange(Path path, FileManifest manifest, Map<String, ParseResult> changed,
+			Map<String, FileManifest.Entry> previousEntries, Set<String> affectedTypes, ScanOptions options)
+			throws IOException {
+		String key = path.toString();
+		BasicFileAttributes attrs = Files.readAttributes(path, BasicFileAttributes.class);
+		long size = attrs.size();
+		long mtime = attrs.lastModifiedTime().toMillis();
+
+		FileManifest.Entry previous = manifest.get(key);
+		boolean sameType = previous != null
+				&& previous.getType().equals(options.getClassifier().classify(key).getPathKeyword());
+		if (sameType && previous.matchesMetadata(size, mtime)) {
+			return;
+		}
+
+		byte[] content = Files.readAllBytes(path);
+		String hash = FileManifest.hash(content);
+		if (sameType && previous.getHash().equals(hash)) {
+			previous.updateMetadata(size, mtime); // touch만 된 경우
+			return;
+		}
+
+		ParseResult result = JavaFileParsor.parseJavaFile(path, content, options);
+		changed.put(key, result);
+		previousEntries.put(key, previous); // 신규 파일이면 null
+		if (previous != null) {
+			affectedTypes.add(previous.getType());
+		}
+		affectedTypes.add(result.getParserType());
+		// 기존 항목은 제자리에서 교체, 신규 항목은 경로 순 위치에 추가 (행 수와 클래스명은 재작성 시 결정)
+		manifest.put(new FileManifest.Entry(key, size, mtime, hash, result.getParserType(), 0, ""));
+	}
+
+	// 영향받은 타입의 기존 출력을 파일별 행 묶음으로 분리 (목록 순서 = 출력 행 순서)
+	// 변경된 파일은 이전 항목의 타입과 행 수로 기존 출력을 소비 - 타입이 바뀐 파일의 행은 이전 타입에서 빠지고,
+	// 새 타입에는 이전 행이 없음
+	// 묶음마다 행의 클래스명을 목록과 비교하고 타입 끝에 남는 행이 없는지 확인 - 하나라도 어긋나면 null
+	private static Map<String, String> loadPreviousRows(String outputPath, FileManifest manifest,
+			Map<String, FileManifest.Entry> previousEntries, Set<String> affectedTypes,
+			Map<String, ParseResult> changed) throws IOException {
+		Map<String, String> rows = new HashMap<>();
+
+		for (String type : affectedTypes) {
+			int classColumn = ParserType.fromPathKeyword(type).getOutputColumns().indexOf("className");
+			List<Path> files = DistributedBufferedWriter.existingOutputFiles(outputPath, type);
+			try (LineCursor cursor = new LineCursor(files)) {
+				for (FileManifest.Entry entry : manifest.entries()) {
+					FileManifest.Entry written = previousEntries.containsKey(entry.getPath())
+							? previousEntries.get(entry.getPath())
+							: entry;
+					if (written == null || !type.equals(written.getType()))
+						continue;
+
+					// 변경된 파일도 기존 행 수만큼은 소비해야 다음 파일 위치가 맞음
+					String previous = cursor.next(written.getRows(), classColumn, written.getClassName());
+					if (previous == null) {
+						System.err.println(type + " 출력의 " + written.getPath() + " 행이 목록과 다름");
+						return null;
+					}
+					if (!changed.containsKey(entry.getPath())) {
+						rows.put(entry.getPath(), previous);
+					}
+				}
+				if (cursor.readLine() != null) {
+					System.err.println(type + " 출력에 목록보다 많은 행이 있음");
+					return null;
+				}
+			}
+		}
+		return rows;
+	}
+
+	// 아직 파싱하지 않은 목록의 파일을 모두 파싱 (삭제된 파일 제외)
+	private static void reparseAll(FileManifest manifest, Map<String, ParseResult> changed,
+			Collection<String> deleted, ScanOptions options) {
+		Set<String> skipped = new HashSet<>(deleted);
+		for (FileManifest.Entry entry : manifest.entries()) {
+			Path path = Paths.get(entry.getPath());
+			if (!changed.containsKey(entry.getPath()) && !skipped.contains(entry.getPath()) && Files.exists(path)) {
+				changed.put(entry.getPath(), JavaFileParsor.parseJavaFile(path, null, options));
+			}
+		}
+	}
+
+	private static void rewriteTypes(String outputPath, ScanOptions options, FileManifest manifest,
+			Set<String> affectedTypes, Map<String, ParseResult> changed, Map<String, String> previousRows)
+			throws Exception {
+		// 영향받은 타입의 파일만 정리되고 나머지 타입 출력은 그대로 유지됨
+		String[] types = affectedTypes.toArray(new String[0]);
+		DistributedBufferedWriter writer = new DistributedBufferedWriter(outputPath, options.getBufferKB(),
+				options.getFileMB(), types, options.isAsyncOutput(), options.isCompressedOutput());
+		if (options.isColumnarOutput()) {
+			writer.withColumnarOutput(options.getRules().getColumns());
+		}
+
+		for (FileManifest.Entry entry : manifest.entries()) {
+			if (!affectedTypes.contains(entry.getType()))
+				continue;
+
+			ParseResult result = changed.get(entry.getPath());
+			if (result != null) {
+				writer.writeResult(result);
+				entry.setOutput(result.getRecords().size(), result.getClassName());
+			} else {
+				String content = previousRows.getOrDefault(entry.getPath(), "");
+				writer.writeContent(entry.getType(), content);
+				entry.setOutput(countRows(content), entry.getClassName());
+			}
+		}
+
+		writer.flushAll();
+	}
+
+	private static int countRows(String content) {
+		int rows = 0;
+		for (int i = 0; i < content.length(); i++) {
+			if (content.charAt(i) == '\n')
+				rows++;
+		}
+		return rows;
+	}
+
+	// 분산 파일들을 하나의 행 스트림으로 순서대로 읽음
+	private static class LineCursor implements AutoCloseable {
+		private final List<Path> files;
+		private int fileIndex = 0;
+		private BufferedReader reader;
+
+		private LineCursor(List<Path> files) {
+			this.files = files;
+		}
+
+		// count개 행을 읽어 반환 - 행이 부족하거나 classColumn 값이 className과 다르면 null (classColumn < 0이면 비교 생략)
+		private String next(int count, int classColumn, String className) throws IOException {
+			StringBuilder rows = new StringBuilder();
+			for (int i = 0; i < count; i++) {
+				String line = readLine();
+				if (line == null || (classColumn >= 0 && !className.equals(field(line, classColumn)))) {
+					return null;
+				}
+				rows.append(line).append("\n");
+			}
+			return rows.toString();
+		}
+
+		// 파이프 구분 행의 column번째 값 (없으면 null)
+		private static String field(String line, int column) {
+			int start = 0;
+			for (int i = 0; i < column; i++) {
+				start = line.indexOf('|', start) + 1;
+				if (start == 0)
+					return null;
+			}
+			int end = line.indexOf('|', start);
+			return line.substring(start, end < 0 ? line.length() : end);
+		}
+
+		private String readLine() throws IOException {
+			while (true) {
+				if (reader == null) {
+					if (fileIndex >= files.size()) {
+						return null;
+					}
+					reader = DistributedBufferedWriter.openOutput(files.get(fileIndex++));
+				}
+				String line = reader.readLine();
+				if (line != null) {
+					return line;
+				}
+				reader.close();
+				reader = null;
+			}
+		}
+
+		@Override
+		public void close() throws IOException {
+			if (reader != null) {
+				reader.close();
+			}
+		}
+	}
+}
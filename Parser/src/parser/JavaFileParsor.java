@@ -1,27 +1,52 @@
 package parser;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
+import parser.cache.CachingFileParser;
 import parser.data.ParseResult;
+import parser.data.StringDictionary;
+import parser.metrics.FileCostProfiler;
+import parser.metrics.FileParseEvent;
+import parser.metrics.MetricsRegistry;
 import parser.parser.FileParser;
 import parser.parser.ParserFactory;
 import parser.parser.ParserType;
+import parser.parser.PathClassifier;
+import parser.parser.SourceBuffers;
 import parser.result.DistributedBufferedWriter;
+import parser.scan.FileManifest;
+import parser.scan.IoThreads;
+import parser.scan.PruningWalker;
+import parser.scan.ReadAheadReader;
+import parser.scan.ReorderBuffer;
+import parser.scan.ScanPipeline;
 
 public class JavaFileParsor {
+	public static final String PROFILE_REPORT = "file-profile.txt";
+
 	private JavaFileParsor() {
 		// 유틸리티 클래스이므로 인스턴스 생성 방지
 	}
 
-	// 파일 경로 필터링 (ParserType의 경로 키워드 활용)
+	// 파일 경로 필터링 (기본 분류 규칙)
     public static boolean isJavaFileInTargetPath(String pathStr) {
-        ParserType type = ParserType.fromPath(pathStr);
-        return type != ParserType.GENERAL;  // GENERAL 타입은 파싱하지 않음
+        return isJavaFileInTargetPath(pathStr, PathClassifier.defaults());
+    }
+
+    public static boolean isJavaFileInTargetPath(String pathStr, PathClassifier classifier) {
+        return classifier.classify(pathStr) != ParserType.GENERAL;  // GENERAL 타입은 파싱하지 않음
     }
     
     // 특정 타입들만 파싱하고 싶을 때 (선택적 사용)
@@ -38,61 +63,289 @@ public class JavaFileParsor {
         }
     }
 
-	// 서비스 타입 판별 (비즈니스 로직)
+	// 서비스 타입 판별 (비즈니스 로직, 기본 분류 규칙)
 	public static String getServiceType(String pathStr) {
-		ParserType type = ParserType.fromPath(pathStr);
+		return getServiceType(pathStr, PathClassifier.defaults());
+	}
+
+	public static String getServiceType(String pathStr, PathClassifier classifier) {
+		ParserType type = classifier.classify(pathStr);
 		return type.isServiceType() ? type.getPathKeyword() : "";
 	}
 
-	// 파일 파싱 (Factory를 통한 파서 획득 및 실행)
+	// 파일 파싱 (Factory를 통한 파서 획득 및 실행, 기본 분류 규칙)
 	public static ParseResult parseJavaFile(Path filePath) {
-		ParserType type = ParserType.fromPath(filePath.toString());
+		return parseJavaFile(filePath, PathClassifier.defaults());
+	}
+
+	public static ParseResult parseJavaFile(Path filePath, PathClassifier classifier) {
+		ParserType type = classifier.classify(filePath.toString());
 		FileParser parser = ParserFactory.getParser(type);
 
 		return parser.parse(filePath, type.getPathKeyword());
 	}
 
+	// 병렬 모드용 파일 파싱 (현재 스레드 전용 파서 사용, 기본 분류 규칙)
+	public static ParseResult parseJavaFileThreadConfined(Path filePath) {
+		return parseJavaFileThreadConfined(filePath, PathClassifier.defaults());
+	}
+
+	public static ParseResult parseJavaFileThreadConfined(Path filePath, PathClassifier classifier) {
+		ParserType type = classifier.classify(filePath.toString());
+		FileParser parser = ParserFactory.getThreadLocalParser(type);
+
+		return parser.parse(filePath, type.getPathKeyword());
+	}
+
+	// 미리 읽어 둔 내용으로 파일 파싱 (기본 분류 규칙)
+	public static ParseResult parseJavaFileThreadConfined(Path filePath, byte[] content) {
+		return parseJavaFileThreadConfined(filePath, content, PathClassifier.defaults());
+	}
+
+	public static ParseResult parseJavaFileThreadConfined(Path filePath, byte[] content, PathClassifier classifier) {
+		ParserType type = classifier.classify(filePath.toString());
+		FileParser parser = ParserFactory.getThreadLocalParser(type);
+
+		return parser.parse(filePath, type.getPathKeyword(), content);
+	}
+
+	// 스캔 설정을 반영한 파싱 (content가 null이면 파일에서 직접 읽음)
+	static ParseResult parseJavaFile(Path filePath, byte[] content, ScanOptions options) {
+		long start = System.nanoTime();
+		FileParseEvent event = new FileParseEvent();
+		event.begin();
+		FileCostProfiler profiler = options.getProfiler();
+		FileCostProfiler.Probe probe = profiler != null ? profiler.begin(filePath) : null;
+		ParserType type = options.getClassifier().classify(filePath.toString());
+		FileParser parser = ParserFactory.getThreadLocalParser(type);
+		if (options.getResultCache() != null) {
+			parser = new CachingFileParser(parser, options.getResultCache());
+		}
+		parser.setRules(options.getRules());
+
+		ParseResult result = null;
+		long bytes = content != null ? content.length : -1;
+		if (options.isByteInput()) {
+			ByteBuffer buffer = content != null ? ByteBuffer.wrap(content) : loadSource(filePath);
+			if (buffer != null) {
+				bytes = buffer.remaining();
+				result = parser.parse(filePath, type.getPathKeyword(), buffer);
+			}
+		}
+		if (result == null) {
+			result = content == null ? parser.parse(filePath, type.getPathKeyword())
+					: parser.parse(filePath, type.getPathKeyword(), content);
+		}
+
+		event.end();
+		if (bytes < 0) {
+			bytes = sizeOf(filePath);
+		}
+		MetricsRegistry.scan().recordFile(type.getPathKeyword(), bytes, System.nanoTime() - start);
+		if (probe != null) {
+			profiler.end(probe, bytes, result.getLineCount(), result.getMethods().size());
+		}
+		if (event.shouldCommit()) {
+			event.path = filePath.toString();
+			event.size = bytes;
+			event.parserType = type.getPathKeyword();
+			event.records = result.getMethods().size();
+			event.commit();
+		}
+		return result;
+	}
+
+	private static long sizeOf(Path filePath) {
+		try {
+			return Files.size(filePath);
+		} catch (IOException e) {
+			return 0;
+		}
+	}
+
+	// 읽기 실패 시 null (문자 스트림 경로에서 오류를 동일하게 보고하도록)
+	private static ByteBuffer loadSource(Path filePath) {
+		try {
+			return SourceBuffers.load(filePath);
+		} catch (IOException e) {
+			return null;
+		}
+	}
+
 	public static void processProject(String rootPath, String outputPath) throws Exception {
 		processProject(rootPath, outputPath, 50, 5);
 	}
 
 	public static void processProject(String rootPath, String outputPath, int bufferKB, int fileMB) throws Exception {
+		processProject(rootPath, outputPath, ScanOptions.defaults().withBufferKB(bufferKB).withFileMB(fileMB));
+	}
+
+	// 파싱 대상 Java 파일 목록 (기본 제외 디렉터리 적용)
+	public static Stream<Path> findTargetFiles(String rootPath) throws IOException {
+		return findTargetFiles(rootPath, ScanOptions.defaults());
+	}
+
+	// 제외 디렉터리는 내려가지 않고 건너뜀
+	// 탐색하면서 바로 내보내는 스트림 - 경로 문자열 순이므로 파일시스템 탐색 순서와 무관하게 출력 행 순서가 같음
+	public static Stream<Path> findTargetFiles(String rootPath, ScanOptions options) throws IOException {
+		List<String> excludes = new ArrayList<>(options.getExcludes());
+		excludes.addAll(PruningWalker.NON_JAVA_SOURCE_DIRS);
+
+		PruningWalker walker = new PruningWalker(excludes);
+		PathClassifier classifier = options.getClassifier();
+		return walker.stream(Paths.get(rootPath), path -> path.toString().endsWith(".java")
+				&& isJavaFileInTargetPath(path.toString(), classifier));
+	}
+
+	public static void processProject(String rootPath, String outputPath, ScanOptions options) throws Exception {
+		if (options.isIncremental()) {
+			IncrementalProcessor.process(rootPath, outputPath, options);
+			return;
+		}
+
 		try {
 			System.out.println("프로젝트 스캔 시작: " + rootPath);
 			System.out.println("출력 경로: " + outputPath);
-			System.out.println("설정 - 버퍼: " + bufferKB + "KB, 파일 제한: " + fileMB + "MB");
+			System.out.println("설정 - " + options);
 			System.out.println("=".repeat(60));
+			MetricsRegistry.scan().startScan();
+			StringDictionary.startScan();
+			// 증분 목록은 이번 출력과 맞지 않게 되므로 먼저 지움 (다음 증분 스캔은 모든 타입을 다시 작성)
+			FileManifest.delete(Paths.get(outputPath));
 
 			// ParserType에서 경로 키워드 가져오기
 			String[] targetPaths = ParserType.getAllPathKeywords();
-			DistributedBufferedWriter writer = new DistributedBufferedWriter(outputPath, bufferKB, fileMB, targetPaths);
+			DistributedBufferedWriter writer = new DistributedBufferedWriter(outputPath, options.getBufferKB(),
+					options.getFileMB(), targetPaths, options.isAsyncOutput(),
+					options.isCompressedOutput());
+			if (options.isColumnarOutput()) {
+				writer.withColumnarOutput(options.getRules().getColumns());
+			}
 			AtomicInteger processedCount = new AtomicInteger(0);
 
-			Files.walk(Paths.get(rootPath))
-					.filter(Files::isRegularFile)
-					.filter(path -> path.toString().endsWith(".java"))
-					.filter(path -> isJavaFileInTargetPath(path.toString()))
-					.map(JavaFileParsor::parseJavaFile)
-					.forEach(result -> {
-						writer.writeResult(result);
-
-						if (processedCount.incrementAndGet() % 100 == 0) {
-							System.out.println("처리 완료: " + processedCount.get() + "개 파일");
-							writer.printCurrentStatus();
-						}
-					});
+			try (Stream<Path> targets = findTargetFiles(rootPath, options)) {
+				if (options.isPipeline()) {
+					processPipeline(targets, writer, processedCount, options);
+				} else if (options.isVirtualIo()) {
+					processVirtualIo(targets, writer, processedCount, options);
+				} else if (options.isParallel()) {
+					processParallel(targets, writer, processedCount, options);
+				} else {
+					targets.map(path -> parseJavaFile(path, null, options))
+							.forEach(result -> writeAndReport(result, writer, processedCount));
+				}
+			}
 
 			writer.flushAll();
+			MetricsRegistry.scan().endScan();
+			if (options.getProfiler() != null) {
+				options.getProfiler().writeReport(Paths.get(outputPath, PROFILE_REPORT));
+			}
 
 			System.out.println("=".repeat(60));
 			System.out.println("분석 완료! 총 " + processedCount.get() + "개 파일 처리");
+			if (options.getResultCache() != null) {
+				System.out.println(options.getResultCache());
+			}
 
 		} catch (IOException e) {
+			MetricsRegistry.scan().recordError();
+			MetricsRegistry.scan().endScan();
 			System.err.println("프로젝트 스캔 중 오류 발생: " + e.getMessage());
 			e.printStackTrace();
 		}
 	}
 
+	// 감시 모드 - 초기 증분 스캔 후 변경된 파일만 반영하며 인터럽트될 때까지 실행
+	public static void watchProject(String rootPath, String outputPath, ScanOptions options) throws Exception {
+		try (ProjectWatcher watcher = new ProjectWatcher(rootPath, outputPath, options)) {
+			watcher.run();
+		}
+	}
+
+	// 단계별 스레드/큐 파이프라인 (기록은 단일 스레드)
+	private static void processPipeline(Stream<Path> targets, DistributedBufferedWriter writer,
+			AtomicInteger processedCount, ScanOptions options) throws InterruptedException {
+		ScanPipeline pipeline = new ScanPipeline(options.getPipelineReaders(), options.getWorkers(),
+				options.getPipelineQueueCapacity(), options.getReorderWindow());
+
+		pipeline.run(targets, (path, content) -> parseJavaFile(path, content, options), result -> {
+			writeAndReport(result, writer, processedCount);
+			if (processedCount.get() % 100 == 0) {
+				pipeline.getQueues().forEach(System.out::println);
+			}
+		});
+
+		System.out.print(pipeline.report());
+	}
+
+	// 워커 풀에서 파싱 후 파일 순서대로 writer로 전달 - 순서 번호는 탐색 순서, 재정렬 창이 적재 상한 역할
+	private static void processParallel(Stream<Path> targets, DistributedBufferedWriter writer,
+			AtomicInteger processedCount, ScanOptions options) throws InterruptedException {
+		ExecutorService executor = Executors.newFixedThreadPool(options.getWorkers());
+		ReorderBuffer<ParseResult> ordered = new ReorderBuffer<>(options.getReorderWindow(),
+				result -> writeAndReport(result, writer, processedCount));
+		long[] sequence = { 0 };
+
+		try {
+			targets.forEach(path -> submitOrdered(executor, ordered, sequence[0]++, path,
+					() -> parseJavaFile(path, null, options)));
+		} finally {
+			executor.shutdown();
+			executor.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+		}
+		System.out.println(ordered);
+	}
+
+	// 파일 읽기는 I/O 스레드에서 순서대로 미리 수행, 파싱은 소수의 워커 풀에서 수행
+	private static void processVirtualIo(Stream<Path> targets, DistributedBufferedWriter writer,
+			AtomicInteger processedCount, ScanOptions options) throws InterruptedException {
+		ExecutorService parseExecutor = Executors.newFixedThreadPool(options.getWorkers());
+		ReorderBuffer<ParseResult> ordered = new ReorderBuffer<>(options.getReorderWindow(),
+				result -> writeAndReport(result, writer, processedCount));
+		long[] sequence = { 0 };
+
+		try (ReadAheadReader reader = new ReadAheadReader(options.getIoConcurrency())) {
+			System.out.println("I/O 스레드: " + (IoThreads.isVirtualThreadSupported() ? "가상 스레드" : "플랫폼 스레드"));
+
+			// 읽기 실패로 전달되지 않은 파일은 번호를 받지 않음
+			reader.forEach(targets, (path, content) -> submitOrdered(parseExecutor, ordered, sequence[0]++, path,
+					() -> parseJavaFile(path, content, options)));
+		} finally {
+			parseExecutor.shutdown();
+			parseExecutor.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+		}
+		System.out.println(ordered);
+	}
+
+	// 창에 자리가 날 때까지 기다린 뒤 파싱을 넘김 - 파싱이 실패해도 번호는 반드시 완료 처리
+	// 예외는 워커 스레드로 넘기지 않고 파일 단위로 보고 (순차 처리와 같은 오류 집계)
+	private static void submitOrdered(ExecutorService executor, ReorderBuffer<ParseResult> ordered, long sequence,
+			Path path, Supplier<ParseResult> parse) {
+		ordered.acquire(sequence);
+		executor.execute(() -> {
+			ParseResult result = null;
+			try {
+				result = parse.get();
+			} catch (RuntimeException e) {
+				System.err.println("파싱 오류: " + path + " - " + e.getMessage());
+				MetricsRegistry.scan().recordError();
+			} finally {
+				ordered.complete(sequence, result);
+			}
+		});
+	}
+
+	private static void writeAndReport(ParseResult result, DistributedBufferedWriter writer,
+			AtomicInteger processedCount) {
+		writer.writeResult(result);
+
+		if (processedCount.incrementAndGet() % 100 == 0) {
+			System.out.println("처리 완료: " + processedCount.get() + "개 파일");
+			writer.printCurrentStatus();
+		}
+	}
+
 	public static void main(String[] args) {
 		String projectPath = "C:/Users/kimwp/OneDrive/Desktop/code/parser/MVC/src/mvc";
 		String outputPath = "C:\\Users\\kimwp\\OneDrive\\Desktop\\code\\test";
@@ -0,0 +1,156 @@
+package parser;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import parser.parser.ParserType;
+import parser.result.DistributedBufferedWriter;
+import parser.result.OutputManifest;
+
+// 감시 모드의 출력 상태 - 타입마다 분산 파일별로 들어 있는 파일별 출력 행(경로 순)을 메모리에 유지
+// 배치마다 바뀐 파일의 행이 들어 있는 분산 파일만 다시 쓰고(DistributedBufferedWriter.replaceParts) 나머지 분산
+// 파일은 그대로 둠 - 분산 파일 경계는 항상 파일 경계 (기록기는 파일 단위로 추가한 내용을 나누지 않음)
+// 분산 파일이 비거나 크기 제한을 넘게 되면, 또는 컬럼 출력을 함께 쓰는 타입이면 그 타입만 처음부터 다시 작성
+class LiveOutputs {
+	private final String outputPath;
+	private final ScanOptions options;
+	private final Map<String, List<TreeMap<String, String>>> parts = new HashMap<>(); // 분산 파일 순서
+	private final Map<String, TreeSet<Integer>> dirtyParts = new HashMap<>(); // 0부터
+
+	LiveOutputs(String outputPath, ScanOptions options) {
+		this.outputPath = outputPath;
+		this.options = options;
+	}
+
+	// 타입 전체를 기록하고 출력 목록의 분산 파일별 행 수로 파일을 나눠 담음
+	void rewrite(String type, SortedMap<String, String> rows) throws Exception {
+		DistributedBufferedWriter writer = new DistributedBufferedWriter(outputPath, options.getBufferKB(),
+				options.getFileMB(), new String[] { type }, options.isAsyncOutput(), options.isCompressedOutput());
+		if (isColumnar(type)) {
+			writer.withColumnarOutput(options.getRules().getColumns());
+		}
+		rows.values().forEach(content -> writer.writeContent(type, content));
+		writer.flushAll();
+		load(type, rows);
+	}
+
+	// 이미 기록된 타입 출력의 상태를 담음 (rows는 출력과 같은 순서)
+	void load(String type, SortedMap<String, String> rows) throws IOException {
+		List<OutputManifest.Entry> files = OutputManifest.load(Paths.get(outputPath)).files(type);
+		List<TreeMap<String, String>> split = new ArrayList<>();
+		Iterator<Map.Entry<String, String>> remaining = rows.entrySet().iterator();
+		for (OutputManifest.Entry file : files) {
+			TreeMap<String, String> part = new TreeMap<>();
+			long unassigned = file.getRows();
+			while (unassigned > 0 && remaining.hasNext()) {
+				Map.Entry<String, String> row = remaining.next();
+				part.put(row.getKey(), row.getValue());
+				unassigned -= countRows(row.getValue());
+			}
+			split.add(part);
+		}
+		if (split.isEmpty()) {
+			split.add(new TreeMap<>());
+		}
+		// 남은 항목은 행이 없는 파일
+		remaining.forEachRemaining(row -> split.get(split.size() - 1).put(row.getKey(), row.getValue()));
+
+		parts.put(type, split);
+		dirtyParts.remove(type);
+	}
+
+	// 파일의 행 교체 (신규 파일은 경로 순으로 앞 파일이 있는 분산 파일에 추가)
+	void put(String type, String path, String content) {
+		List<TreeMap<String, String>> split = parts.computeIfAbsent(type,
+				key -> new ArrayList<>(List.of(new TreeMap<>())));
+		int index = partOf(split, path);
+		if (!content.equals(split.get(index).put(path, content))) {
+			dirtyParts.computeIfAbsent(type, key -> new TreeSet<>()).add(index);
+		}
+	}
+
+	// 경로와 dirPrefix로 시작하는 경로(디렉터리 하위, null이면 확인하지 않음)의 행 제거
+	void remove(String type, String path, String dirPrefix) {
+		List<TreeMap<String, String>> split = parts.get(type);
+		if (split == null) {
+			return;
+		}
+		for (int i = 0; i < split.size(); i++) {
+			TreeMap<String, String> part = split.get(i);
+			boolean changed = part.remove(path) != null;
+			if (dirPrefix != null) {
+				changed |= part.keySet().removeIf(existing -> existing.startsWith(dirPrefix));
+			}
+			if (changed) {
+				dirtyParts.computeIfAbsent(type, key -> new TreeSet<>()).add(i);
+			}
+		}
+	}
+
+	// 바뀐 분산 파일만 다시 씀
+	void flush() throws Exception {
+		for (String type : new ArrayList<>(dirtyParts.keySet())) {
+			List<TreeMap<String, String>> split = parts.get(type);
+			int published = OutputManifest.load(Paths.get(outputPath)).files(type).size();
+			long sizeLimit = options.getFileMB() * 1024L * 1024L;
+
+			Map<Integer, String> contents = new TreeMap<>();
+			boolean rewrite = isColumnar(type);
+			for (int index : dirtyParts.get(type)) {
+				String content = String.join("", split.get(index).values());
+				rewrite |= content.isEmpty() || index >= published;
+				contents.put(index + 1, content);
+			}
+
+			if (!rewrite) {
+				List<OutputManifest.Entry> files = DistributedBufferedWriter.replaceParts(outputPath, type, contents,
+						options.getBufferKB(), options.isCompressedOutput());
+				// 크기는 기록 후 확인 (압축 출력이면 압축 후 크기) - 파일 하나짜리 분산 파일은 나눌 수 없으므로 그대로 둠
+				rewrite = files.stream().anyMatch(
+						file -> file.getBytes() > sizeLimit && split.get(file.getPart() - 1).size() > 1);
+			}
+			if (rewrite) {
+				System.out.println(type + " 출력 전체 다시 작성");
+				TreeMap<String, String> rows = new TreeMap<>();
+				split.forEach(rows::putAll);
+				rewrite(type, rows);
+			} else {
+				System.out.println(type + " 분산 파일 교체: " + contents.keySet());
+			}
+			dirtyParts.remove(type);
+		}
+	}
+
+	private boolean isColumnar(String type) {
+		return options.isColumnarOutput() && Arrays.asList(ParserType.getAllPathKeywords()).contains(type);
+	}
+
+	// 경로가 들어갈 분산 파일 - 경로 이하의 첫 키를 가진 마지막 분산 파일 (없으면 첫 분산 파일)
+	private static int partOf(List<TreeMap<String, String>> split, String path) {
+		for (int i = split.size() - 1; i > 0; i--) {
+			TreeMap<String, String> part = split.get(i);
+			if (!part.isEmpty() && part.firstKey().compareTo(path) <= 0) {
+				return i;
+			}
+		}
+		return 0;
+	}
+
+	private static int countRows(String content) {
+		int rows = 0;
+		for (int i = 0; i < content.length(); i++) {
+			if (content.charAt(i) == '\n')
+				rows++;
+		}
+		return rows;
+	}
+}
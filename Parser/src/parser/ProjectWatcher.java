@@ -0,0 +1,242 @@
+package parser;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+import parser.data.ParseResult;
+import parser.data.StringDictionary;
+import parser.parser.ParserType;
+import parser.scan.FileManifest;
+import parser.scan.PruningWalker;
+import parser_1.SimpleJspParser;
+import parser_1.SimpleXmlQueryParser;
+
+// 감시 모드 - 프로젝트 루트의 변경을 감지해 바뀐 .java/.jsp/매퍼 .xml 파일만 다시 파싱하고 출력 갱신
+public class ProjectWatcher implements AutoCloseable {
+	// 연속 저장 등으로 이벤트가 몰릴 때 묶어서 처리 (조용한 구간 / 최대 대기)
+	private static final long QUIET_MILLIS = 150;
+	private static final long MAX_BATCH_MILLIS = 600;
+
+	private static final String JSP_TYPE = "jsp";
+	private static final String QUERY_TYPE = "query";
+
+	private final Path root;
+	private final Path outputDir;
+	private final String outputPath;
+	private final ScanOptions options;
+	private final WatchService watchService;
+	private final PruningWalker pruning;
+	private final Map<WatchKey, Path> watchedDirs = new HashMap<>();
+
+	private final LiveOutputs outputs;
+	private FileManifest manifest; // 증분 스캔 목록 (감시 중에는 메모리에만 유지, 첫 스캔 전에는 null)
+
+	public ProjectWatcher(String rootPath, String outputPath, ScanOptions options) throws IOException {
+		this.root = Paths.get(rootPath);
+		this.outputPath = outputPath;
+		this.outputDir = Paths.get(outputPath).toAbsolutePath().normalize();
+		this.options = options;
+		this.watchService = FileSystems.getDefault().newWatchService();
+		this.pruning = new PruningWalker(options.getExcludes());
+		this.outputs = new LiveOutputs(outputPath, options);
+	}
+
+	// 초기 스캔 후 close() 또는 인터럽트까지 변경 감시
+	public void run() throws Exception {
+		registerAll(root);
+		fullScan();
+		System.out.println("감시 시작: " + root + " (디렉터리 " + watchedDirs.size() + "개)");
+
+		try {
+			while (!Thread.currentThread().isInterrupted()) {
+				WatchKey first = watchService.take();
+
+				Set<Path> touched = new LinkedHashSet<>();
+				boolean overflow = collect(first, touched);
+
+				long deadline = System.currentTimeMillis() + MAX_BATCH_MILLIS;
+				long remaining;
+				while ((remaining = deadline - System.currentTimeMillis()) > 0) {
+					WatchKey next = watchService.poll(Math.min(QUIET_MILLIS, remaining), TimeUnit.MILLISECONDS);
+					if (next == null)
+						break;
+					overflow |= collect(next, touched);
+				}
+
+				long start = System.nanoTime();
+				if (overflow) {
+					System.out.println("이벤트 유실 - 전체 재확인");
+					fullScan();
+				} else {
+					applyChanges(touched);
+				}
+				System.out.println("반영 완료: " + touched.size() + "개 경로 ("
+						+ TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) + " ms)");
+			}
+		} catch (InterruptedException | ClosedWatchServiceException e) {
+			System.out.println("감시 종료");
+		}
+	}
+
+	// 증분 스캔으로 출력을 맞춘 뒤 목록과 출력 행을 메모리로 읽어 들임
+	// 디스크의 목록은 감시 중 출력과 맞지 않게 되므로 지우고, 다시 전체 확인하거나 종료할 때 저장
+	void fullScan() throws Exception {
+		if (manifest != null) {
+			manifest.save(outputDir);
+		}
+		IncrementalProcessor.process(root.toString(), outputPath, options);
+		manifest = FileManifest.load(outputDir);
+		for (String type : ParserType.getAllPathKeywords()) {
+			Map<String, String> rows = IncrementalProcessor.loadRows(outputPath, manifest, type);
+			if (rows == null) {
+				throw new IllegalStateException(type + " 출력이 목록과 일치하지 않음");
+			}
+			outputs.load(type, new TreeMap<>(rows));
+		}
+		FileManifest.delete(outputDir);
+
+		SortedMap<String, String> jspRows = new TreeMap<>();
+		SortedMap<String, String> queryRows = new TreeMap<>();
+		// 스캔과 같은 제외 디렉터리 적용 (.git, node_modules 등은 내려가지 않음)
+		for (Path path : pruning.walk(root, path -> true)) {
+			SortedMap<String, String> rows = isJspFile(path) ? jspRows : isMapperXml(path) ? queryRows : null;
+			String content = rows != null ? parseRows(path) : null;
+			if (content != null) {
+				rows.put(path.toString(), content);
+			}
+		}
+		outputs.rewrite(JSP_TYPE, jspRows);
+		outputs.rewrite(QUERY_TYPE, queryRows);
+	}
+
+	// 바뀐 파일의 행만 메모리 상태에 반영하고, 그 행이 들어 있는 분산 파일만 다시 씀
+	void applyChanges(Set<Path> touched) throws Exception {
+		StringDictionary.startScan(); // 배치 결과는 행 문자열로만 남으므로 배치마다 새 사전
+		IncrementalProcessor.Changes changes = IncrementalProcessor.detectChanges(manifest, options, touched);
+		for (String path : changes.deleted) {
+			FileManifest.Entry removed = manifest.remove(path);
+			if (removed != null) {
+				outputs.remove(removed.getType(), path, null);
+			}
+		}
+		for (Map.Entry<String, ParseResult> change : changes.changed.entrySet()) {
+			ParseResult result = change.getValue();
+			FileManifest.Entry previous = changes.previousEntries.get(change.getKey());
+			if (previous != null && !previous.getType().equals(result.getParserType())) {
+				outputs.remove(previous.getType(), change.getKey(), null);
+			}
+			outputs.put(result.getParserType(), change.getKey(), result.getOutputContent());
+			manifest.get(change.getKey()).setOutput(result.getRecords().size(), result.getClassName());
+		}
+
+		for (Path path : touched) {
+			if (Files.isRegularFile(path)) {
+				String type = isJspFile(path) ? JSP_TYPE : isMapperXml(path) ? QUERY_TYPE : null;
+				String content = type != null ? parseRows(path) : null;
+				if (content != null) {
+					outputs.put(type, path.toString(), content);
+				}
+			} else if (!Files.exists(path)) {
+				// 삭제된 파일 또는 디렉터리 하위 항목
+				String dirPrefix = path + File.separator;
+				outputs.remove(JSP_TYPE, path.toString(), dirPrefix);
+				outputs.remove(QUERY_TYPE, path.toString(), dirPrefix);
+			}
+		}
+		outputs.flush();
+	}
+
+	// JSP/매퍼 XML 파일의 출력 행 (실패하면 null)
+	private static String parseRows(Path path) {
+		try {
+			return isJspFile(path) ? SimpleJspParser.parseFileRows(path) : SimpleXmlQueryParser.parseFileRows(path);
+		} catch (IOException e) {
+			System.err.println("파일 파싱 실패: " + path);
+			return null;
+		}
+	}
+
+	private static boolean isJspFile(Path path) {
+		return path.toString().endsWith(".jsp");
+	}
+
+	// 매퍼 XML은 경로에 mapper가 포함된 .xml 파일로 판단
+	private static boolean isMapperXml(Path path) {
+		String pathStr = path.toString();
+		return pathStr.endsWith(".xml") && pathStr.toLowerCase().contains("mapper");
+	}
+
+	// 감시 키의 이벤트를 경로로 변환, 유실(OVERFLOW) 이벤트가 있으면 true
+	private boolean collect(WatchKey key, Set<Path> touched) throws IOException {
+		Path dir = watchedDirs.get(key);
+		boolean overflow = false;
+
+		for (WatchEvent<?> event : key.pollEvents()) {
+			if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+				overflow = true;
+				continue;
+			}
+			if (dir == null)
+				continue;
+
+			Path child = dir.resolve((Path) event.context());
+			touched.add(child);
+
+			// 새 디렉터리는 등록 전에 생긴 파일까지 포함
+			if (event.kind() == StandardWatchEventKinds.ENTRY_CREATE && Files.isDirectory(child)) {
+				registerAll(child);
+				touched.addAll(pruning.walk(root, child, path -> true));
+			}
+		}
+
+		if (!key.reset()) {
+			watchedDirs.remove(key);
+		}
+		return overflow;
+	}
+
+	private void registerAll(Path start) throws IOException {
+		Files.walkFileTree(start, new SimpleFileVisitor<Path>() {
+			@Override
+			public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
+				// 출력 경로가 루트 안에 있으면 자기 출력에 반응하지 않도록 제외, 제외 디렉터리도 감시하지 않음
+				if (dir.toAbsolutePath().normalize().startsWith(outputDir)
+						|| (!dir.equals(root) && pruning.isExcluded(root, dir))) {
+					return FileVisitResult.SKIP_SUBTREE;
+				}
+				WatchKey key = dir.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+						StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+				watchedDirs.put(key, dir);
+				return FileVisitResult.CONTINUE;
+			}
+		});
+	}
+
+	// 메모리의 목록을 저장 (다음 증분 스캔이 이어서 사용)
+	@Override
+	public void close() throws IOException {
+		watchService.close();
+		if (manifest != null) {
+			manifest.save(outputDir);
+		}
+	}
+}
@@ -0,0 +1,229 @@
+package parser;
+
+import java.util.List;
+
+import parser.cache.ParseResultCache;
+import parser.metrics.FileCostProfiler;
+import parser.parser.PathClassifier;
+import parser.rule.RuleSet;
+import parser.scan.PruningWalker;
+
+// 프로젝트 스캔 설정
+public class ScanOptions {
+	private int bufferKB = 50;
+	private int fileMB = 5;
+	private int workers = 1;
+	private int ioConcurrency = 0;
+	private boolean incremental = false;
+	private ParseResultCache resultCache;
+	private int pipelineReaders = 0;
+	private int pipelineQueueCapacity = 256;
+	private int reorderWindow = 0;
+	private List<String> excludes = PruningWalker.DEFAULT_EXCLUDES;
+	private boolean byteInput = false;
+	private boolean asyncOutput = false;
+	private boolean compressedOutput = false;
+	private boolean columnarOutput = false;
+	private RuleSet rules = RuleSet.EMPTY;
+	private PathClassifier classifier = PathClassifier.defaults();
+	private FileCostProfiler profiler;
+
+	public static ScanOptions defaults() {
+		return new ScanOptions();
+	}
+
+	public int getBufferKB() {
+		return bufferKB;
+	}
+
+	public int getFileMB() {
+		return fileMB;
+	}
+
+	public int getWorkers() {
+		return workers;
+	}
+
+	// 동시 파일 읽기 수 (0이면 파싱 스레드에서 직접 읽음)
+	public int getIoConcurrency() {
+		return ioConcurrency;
+	}
+
+	// 1 이하이면 단일 스레드로 처리
+	public boolean isParallel() {
+		return workers > 1;
+	}
+
+	public ScanOptions withBufferKB(int bufferKB) {
+		this.bufferKB = bufferKB;
+		return this;
+	}
+
+	public ScanOptions withFileMB(int fileMB) {
+		this.fileMB = fileMB;
+		return this;
+	}
+
+	public ScanOptions withWorkers(int workers) {
+		this.workers = Math.max(1, workers);
+		return this;
+	}
+
+	public boolean isVirtualIo() {
+		return ioConcurrency > 0;
+	}
+
+	public boolean isIncremental() {
+		return incremental;
+	}
+
+	// 출력 경로의 파일 목록과 비교해 추가/변경/삭제된 파일만 반영
+	public ScanOptions withIncremental(boolean incremental) {
+		this.incremental = incremental;
+		return this;
+	}
+
+	public boolean isPipeline() {
+		return pipelineReaders > 0;
+	}
+
+	public int getPipelineReaders() {
+		return pipelineReaders;
+	}
+
+	public int getPipelineQueueCapacity() {
+		return pipelineQueueCapacity;
+	}
+
+	// 탐색/읽기/파싱/기록 단계 분리 - 읽기 스레드 수, 파싱 스레드 수(workers), 단계 간 큐 크기
+	// 탐색과 기록 단계는 각각 한 스레드
+	public ScanOptions withPipeline(int readers, int parsers, int queueCapacity) {
+		this.pipelineReaders = Math.max(1, readers);
+		this.workers = Math.max(1, parsers);
+		this.pipelineQueueCapacity = Math.max(1, queueCapacity);
+		return this;
+	}
+
+	// 병렬 처리 시 결과를 파일 순서대로 기록하기 위해 보관하는 최대 결과 수 (지정하지 않으면 워커 수 x 4)
+	public int getReorderWindow() {
+		return reorderWindow > 0 ? reorderWindow : workers * 4;
+	}
+
+	// 창이 클수록 느린 파일 하나에 덜 막히지만 보관하는 결과가 늘어남
+	public ScanOptions withReorderWindow(int reorderWindow) {
+		this.reorderWindow = Math.max(0, reorderWindow);
+		return this;
+	}
+
+	public List<String> getExcludes() {
+		return excludes;
+	}
+
+	// 탐색 시 내려가지 않을 디렉터리 glob (디렉터리 이름 또는 루트 기준 상대 경로와 비교)
+	public ScanOptions withExcludes(List<String> excludes) {
+		this.excludes = List.copyOf(excludes);
+		return this;
+	}
+
+	public boolean isByteInput() {
+		return byteInput;
+	}
+
+	// 바이트 입력 모드 - 줄 단위 문자열 변환 없이 바이트를 검사하고 필요한 줄만 변환
+	public ScanOptions withByteInput(boolean byteInput) {
+		this.byteInput = byteInput;
+		return this;
+	}
+
+	public boolean isAsyncOutput() {
+		return asyncOutput;
+	}
+
+	// 출력 버퍼 플러시를 전용 기록 스레드에서 수행 (타입별 이중 버퍼로 파싱과 디스크 기록을 겹침)
+	public ScanOptions withAsyncOutput(boolean asyncOutput) {
+		this.asyncOutput = asyncOutput;
+		return this;
+	}
+
+	public boolean isCompressedOutput() {
+		return compressedOutput;
+	}
+
+	// 출력 파일을 블록 단위 병렬 gzip(.csv.gz)으로 기록 - 파일 크기 제한은 압축 후 크기 기준
+	public ScanOptions withCompressedOutput(boolean compressedOutput) {
+		this.compressedOutput = compressedOutput;
+		return this;
+	}
+
+	public boolean isColumnarOutput() {
+		return columnarOutput;
+	}
+
+	// CSV와 함께 타입별 컬럼 블록 출력(type.pcol) 기록 - 컬럼별 사전 인코딩, ColumnarResultReader로 컬럼 단위 읽기
+	public ScanOptions withColumnarOutput(boolean columnarOutput) {
+		this.columnarOutput = columnarOutput;
+		return this;
+	}
+
+	public RuleSet getRules() {
+		return rules;
+	}
+
+	// 사용자 정의 추출 규칙 (RuleSet.load로 규칙 파일에서 읽음) - 규칙 컬럼이 출력 행 끝에 추가됨
+	public ScanOptions withRules(RuleSet rules) {
+		this.rules = rules;
+		return this;
+	}
+
+	public PathClassifier getClassifier() {
+		return classifier;
+	}
+
+	// 파일 경로 → 파서 타입 분류 규칙 (PathClassifier.load로 규칙 파일에서 읽음)
+	public ScanOptions withClassifier(PathClassifier classifier) {
+		this.classifier = classifier;
+		return this;
+	}
+
+	// 없으면 null
+	public ParseResultCache getResultCache() {
+		return resultCache;
+	}
+
+	// 내용 해시 기반 결과 캐시 사용 (LocalDirectoryStore, HttpStore 등)
+	public ScanOptions withResultCache(ParseResultCache resultCache) {
+		this.resultCache = resultCache;
+		return this;
+	}
+
+	// 없으면 null
+	public FileCostProfiler getProfiler() {
+		return profiler;
+	}
+
+	// 파일 단위 비용 프로파일 - 스캔이 끝나면 출력 경로에 상위 K개 보고서(file-profile.txt) 저장
+	public ScanOptions withProfiler(FileCostProfiler profiler) {
+		this.profiler = profiler;
+		return this;
+	}
+
+	// 파일 읽기를 I/O 스레드(가능하면 가상 스레드)로 분리하고 동시 읽기 수를 제한
+	public ScanOptions withVirtualIo(int ioConcurrency) {
+		this.ioConcurrency = Math.max(0, ioConcurrency);
+		return this;
+	}
+
+	@Override
+	public String toString() {
+		return "버퍼: " + bufferKB + "KB, 파일 제한: " + fileMB + "MB, 워커: " + workers
+				+ (isVirtualIo() ? ", 동시 읽기: " + ioConcurrency : "") + (incremental ? ", 증분 스캔" : "")
+				+ (resultCache != null ? ", 결과 캐시" : "") + (byteInput ? ", 바이트 입력" : "")
+				+ (asyncOutput ? ", 비동기 출력" : "") + (compressedOutput ? ", gzip 출력" : "")
+				+ (columnarOutput ? ", 컬럼 출력" : "")
+				+ (!rules.isEmpty() ? ", " + rules : "")
+				+ (classifier != PathClassifier.defaults() ? ", 사용자 경로 분류 규칙" : "")
+				+ (profiler != null ? ", 파일 비용 프로파일" : "")
+				+ (isPipeline() ? ", 파이프라인(읽기 " + pipelineReaders + ", 큐 " + pipelineQueueCapacity + ")" : "")
+				+ (isParallel() || isPipeline() ? ", 재정렬 창: " + getReorderWindow() : "");
+	}
+}
@@ -0,0 +1,75 @@
+package parser.cache;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import parser.data.ParseResult;
+import parser.parser.FileParser;
+import parser.rule.RuleSet;
+
+// 파서 앞에 결과 캐시를 두는 래퍼 - 캐시 적중 시 파싱을 건너뛰고 현재 경로로 결과만 옮김
+// 오류로 중간에 멈춘 결과는 저장하지 않음 (다음 실행에서 다시 파싱)
+public class CachingFileParser implements FileParser {
+	private final FileParser delegate;
+	private final ParseResultCache cache;
+	private String rulesFingerprint = "";
+
+	public CachingFileParser(FileParser delegate, ParseResultCache cache) {
+		this.delegate = delegate;
+		this.cache = cache;
+	}
+
+	@Override
+	public void setRules(RuleSet rules) {
+		delegate.setRules(rules);
+		rulesFingerprint = rules.fingerprint();
+	}
+
+	@Override
+	public ParseResult parse(Path filePath, String parserType) {
+		byte[] content;
+		try {
+			content = Files.readAllBytes(filePath);
+		} catch (IOException e) {
+			// 읽기 오류 처리는 원래 파서에 맡김
+			return delegate.parse(filePath, parserType);
+		}
+		return parse(filePath, parserType, content);
+	}
+
+	@Override
+	public ParseResult parse(Path filePath, String parserType, byte[] content) {
+		String key = ParseResultCache.key(parserType, rulesFingerprint, ByteBuffer.wrap(content));
+
+		ParseResult cached = cache.get(key);
+		if (cached != null) {
+			return ParseResult.relocate(cached, filePath.getFileName().toString(), filePath.toString());
+		}
+
+		ParseResult result = delegate.parse(filePath, parserType, content);
+		cacheIfComplete(key, result);
+		return result;
+	}
+
+	@Override
+	public ParseResult parse(Path filePath, String parserType, ByteBuffer content) {
+		String key = ParseResultCache.key(parserType, rulesFingerprint, content);
+
+		ParseResult cached = cache.get(key);
+		if (cached != null) {
+			return ParseResult.relocate(cached, filePath.getFileName().toString(), filePath.toString());
+		}
+
+		ParseResult result = delegate.parse(filePath, parserType, content);
+		cacheIfComplete(key, result);
+		return result;
+	}
+
+	private void cacheIfComplete(String key, ParseResult result) {
+		if (!result.isFailed()) {
+			cache.put(key, result);
+		}
+	}
+}
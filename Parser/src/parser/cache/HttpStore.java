@@ -0,0 +1,67 @@
+package parser.cache;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+
+// 원격 HTTP 저장소 - GET/PUT {baseUrl}/{key}, 여러 빌드 에이전트가 공유
+// PUT은 서버와 공유한 토큰을 Authorization 헤더로 보냄 (토큰이 없으면 읽기 전용)
+public class HttpStore implements ResultStore {
+	private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+	private final String baseUrl;
+	private final String token; // 읽기 전용이면 null
+	private final HttpClient client;
+
+	public HttpStore(String baseUrl) {
+		this(baseUrl, null);
+	}
+
+	public HttpStore(String baseUrl, String token) {
+		this.baseUrl = baseUrl.endsWith("/") ? baseUrl : baseUrl + "/";
+		this.token = token;
+		this.client = HttpClient.newBuilder().connectTimeout(TIMEOUT).build();
+	}
+
+	@Override
+	public byte[] get(String key) {
+		HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + key)).timeout(TIMEOUT).GET().build();
+		try {
+			HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+			if (response.statusCode() == 200) {
+				return response.body();
+			}
+			if (response.statusCode() != 404) {
+				System.err.println("원격 캐시 응답 오류: " + key + " - HTTP " + response.statusCode());
+			}
+		} catch (IOException e) {
+			System.err.println("원격 캐시 읽기 오류: " + key + " - " + e.getMessage());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		return null;
+	}
+
+	@Override
+	public void put(String key, byte[] value) {
+		if (token == null)
+			return;
+
+		HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + key)).timeout(TIMEOUT)
+				.header("Authorization", ResultCacheServer.AUTH_SCHEME + token)
+				.PUT(HttpRequest.BodyPublishers.ofByteArray(value)).build();
+		try {
+			HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+			if (response.statusCode() / 100 != 2) {
+				System.err.println("원격 캐시 저장 실패: " + key + " - HTTP " + response.statusCode());
+			}
+		} catch (IOException e) {
+			System.err.println("원격 캐시 쓰기 오류: " + key + " - " + e.getMessage());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
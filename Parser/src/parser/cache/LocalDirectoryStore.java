@@ -0,0 +1,118 @@
+package parser.cache;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+// 로컬 디렉터리 저장소 - 키 앞 두 글자로 하위 디렉터리 분산, 용량 초과 시 오래 사용하지 않은 항목부터 삭제
+public class LocalDirectoryStore implements ResultStore {
+	private final Path root;
+	private final long maxBytes;
+	private final AtomicLong totalBytes = new AtomicLong();
+
+	public LocalDirectoryStore(Path root, long maxBytes) throws IOException {
+		this.root = root;
+		this.maxBytes = maxBytes;
+
+		Files.createDirectories(root);
+		try (Stream<Path> files = Files.walk(root)) {
+			totalBytes.set(files.filter(Files::isRegularFile).mapToLong(LocalDirectoryStore::sizeOf).sum());
+		}
+	}
+
+	@Override
+	public byte[] get(String key) {
+		Path file = pathOf(key);
+		try {
+			byte[] value = Files.readAllBytes(file);
+			// 접근 시각 갱신 (삭제 순서 기준)
+			Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+			return value;
+		} catch (NoSuchFileException e) {
+			return null;
+		} catch (IOException e) {
+			System.err.println("캐시 읽기 오류: " + key + " - " + e.getMessage());
+			return null;
+		}
+	}
+
+	@Override
+	public void put(String key, byte[] value) {
+		Path file = pathOf(key);
+		try {
+			Files.createDirectories(file.getParent());
+			long previousSize = Files.exists(file) ? sizeOf(file) : 0L;
+
+			// 동시에 같은 키를 기록해도 완성된 파일만 보이도록 임시 파일 후 교체
+			Path temp = Files.createTempFile(file.getParent(), key, ".tmp");
+			Files.write(temp, value);
+			Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+			if (totalBytes.addAndGet(value.length - previousSize) > maxBytes) {
+				evict();
+			}
+		} catch (IOException e) {
+			System.err.println("캐시 쓰기 오류: " + key + " - " + e.getMessage());
+		}
+	}
+
+	public long getTotalBytes() {
+		return totalBytes.get();
+	}
+
+	// 최대 용량의 90%까지 오래된 항목 삭제
+	private synchronized void evict() throws IOException {
+		long target = maxBytes * 9 / 10;
+		if (totalBytes.get() <= target) {
+			return;
+		}
+
+		List<Path> files;
+		try (Stream<Path> walk = Files.walk(root)) {
+			files = walk.filter(Files::isRegularFile).filter(path -> !path.toString().endsWith(".tmp"))
+					.sorted(Comparator.comparingLong(LocalDirectoryStore::lastModifiedOf))
+					.collect(Collectors.toList());
+		}
+
+		int evicted = 0;
+		for (Path file : files) {
+			if (totalBytes.get() <= target)
+				break;
+
+			long size = sizeOf(file);
+			if (Files.deleteIfExists(file)) {
+				totalBytes.addAndGet(-size);
+				evicted++;
+			}
+		}
+		System.out.println("캐시 정리: " + evicted + "개 항목 삭제 (현재 " + (totalBytes.get() / 1024) + " KB)");
+	}
+
+	private Path pathOf(String key) {
+		return root.resolve(key.substring(0, 2)).resolve(key);
+	}
+
+	private static long sizeOf(Path file) {
+		try {
+			return Files.size(file);
+		} catch (IOException e) {
+			return 0L;
+		}
+	}
+
+	private static long lastModifiedOf(Path file) {
+		try {
+			return Files.getLastModifiedTime(file).toMillis();
+		} catch (IOException e) {
+			return 0L;
+		}
+	}
+}
@@ -0,0 +1,110 @@
+package parser.cache;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.concurrent.atomic.AtomicLong;
+
+import parser.data.ParseResult;
+import parser.parser.BaseJavaParser;
+
+// 내용 주소 기반 파싱 결과 캐시 - 키는 (파서 버전, 파서 타입, 추출 규칙, 파일 내용)의 SHA-256
+// 경로와 무관하므로 브랜치/체크아웃이 달라도 내용이 같으면 재사용
+public class ParseResultCache {
+	// 캐시 값은 원격 저장소에서 올 수 있으므로 결과 클래스와 그 필드 타입만 역직렬화 허용 (그 밖의 클래스는 거부)
+	// java.lang.Object, Map$Entry는 ArrayList/HashMap이 읽을 때 검사하는 내부 배열 타입 (Object[], Entry[])
+	private static final ObjectInputFilter RESULT_FILTER = ObjectInputFilter.Config.createFilter(
+			"maxdepth=16;maxrefs=1000000;maxarray=1000000;"
+					+ "parser.data.ParseResult;parser.data.MethodInfo;parser.data.ControllerMethodInfo;"
+					+ "parser.data.RecordList;parser.data.HttpMethod;"
+					+ "java.lang.Enum;java.lang.String;java.lang.Object;java.util.ArrayList;java.util.HashMap;"
+					+ "java.util.Map$Entry;!*");
+
+	private final ResultStore store;
+	private final AtomicLong hits = new AtomicLong();
+	private final AtomicLong misses = new AtomicLong();
+
+	public ParseResultCache(ResultStore store) {
+		this.store = store;
+	}
+
+	public static String key(String parserType, byte[] content) {
+		return key(parserType, "", ByteBuffer.wrap(content));
+	}
+
+	public static String key(String parserType, ByteBuffer content) {
+		return key(parserType, "", content);
+	}
+
+	// 추출 규칙을 쓰면 규칙 해시도 키에 포함 (규칙이 없으면 기존 키와 동일)
+	// 버퍼 위치는 변경하지 않음
+	public static String key(String parserType, String rulesFingerprint, ByteBuffer content) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			digest.update(BaseJavaParser.PARSER_VERSION.getBytes(StandardCharsets.UTF_8));
+			digest.update((byte) 0);
+			digest.update(parserType.getBytes(StandardCharsets.UTF_8));
+			digest.update((byte) 0);
+			if (!rulesFingerprint.isEmpty()) {
+				digest.update(rulesFingerprint.getBytes(StandardCharsets.UTF_8));
+				digest.update((byte) 0);
+			}
+			digest.update(content.duplicate());
+			return HexFormat.of().formatHex(digest.digest());
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 미지원 런타임", e);
+		}
+	}
+
+	// 없거나 역직렬화에 실패하면 null
+	public ParseResult get(String key) {
+		byte[] value = store.get(key);
+		if (value == null) {
+			misses.incrementAndGet();
+			return null;
+		}
+
+		try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(value))) {
+			in.setObjectInputFilter(RESULT_FILTER);
+			ParseResult result = (ParseResult) in.readObject();
+			hits.incrementAndGet();
+			return result;
+		} catch (IOException | ClassNotFoundException | ClassCastException e) {
+			System.err.println("캐시 항목 손상, 무시: " + key + " - " + e.getMessage());
+			misses.incrementAndGet();
+			return null;
+		}
+	}
+
+	public void put(String key, ParseResult result) {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+			out.writeObject(result);
+		} catch (IOException e) {
+			System.err.println("캐시 직렬화 오류: " + result.getFilePath() + " - " + e.getMessage());
+			return;
+		}
+		store.put(key, bytes.toByteArray());
+	}
+
+	public long getHits() {
+		return hits.get();
+	}
+
+	public long getMisses() {
+		return misses.get();
+	}
+
+	@Override
+	public String toString() {
+		return "캐시 적중 " + hits.get() + "건, 미스 " + misses.get() + "건";
+	}
+}
@@ -0,0 +1,148 @@
+package parser.cache;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.HexFormat;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.regex.Pattern;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+// HttpStore용 캐시 서버 - 공유 서버로 띄우거나, 같은 프로세스 안에서 원격 저장소 대용으로 사용
+// 캐시 값은 클라이언트가 역직렬화하므로 PUT은 공유 토큰이 있어야 허용 (GET은 토큰 없이 허용)
+public class ResultCacheServer implements AutoCloseable {
+	public static final String AUTH_SCHEME = "Bearer ";
+	public static final String TOKEN_ENV = "RESULT_CACHE_TOKEN";
+	public static final String DEFAULT_HOST = "127.0.0.1";
+
+	private static final Pattern KEY_PATTERN = Pattern.compile("[0-9a-f]{16,128}");
+
+	private final HttpServer server;
+	private final ExecutorService executor;
+	private final ResultStore store;
+	private final byte[] expectedAuthorization;
+	private final String token;
+
+	// 같은 프로세스/호스트에서만 사용 (port가 0이면 빈 포트 자동 할당, 토큰은 임의 생성 - getToken)
+	public ResultCacheServer(int port, ResultStore store) throws IOException {
+		this(DEFAULT_HOST, port, store, randomToken());
+	}
+
+	public ResultCacheServer(String host, int port, ResultStore store, String token) throws IOException {
+		if (token == null || token.isEmpty()) {
+			throw new IllegalArgumentException("캐시 서버 토큰이 필요합니다");
+		}
+		this.token = token;
+		this.expectedAuthorization = (AUTH_SCHEME + token).getBytes(StandardCharsets.UTF_8);
+		this.store = store;
+		this.server = HttpServer.create(new InetSocketAddress(host, port), 0);
+		this.executor = Executors.newFixedThreadPool(4);
+
+		server.createContext("/", this::handle);
+		server.setExecutor(executor);
+	}
+
+	public ResultCacheServer start() {
+		server.start();
+		return this;
+	}
+
+	public int getPort() {
+		return server.getAddress().getPort();
+	}
+
+	// HttpStore(baseUrl, token)에 넘길 쓰기 토큰
+	public String getToken() {
+		return token;
+	}
+
+	public String getBaseUrl() {
+		return "http://" + server.getAddress().getHostString() + ":" + getPort() + "/";
+	}
+
+	private void handle(HttpExchange exchange) throws IOException {
+		try (exchange) {
+			String path = exchange.getRequestURI().getPath();
+			String key = path.substring(path.lastIndexOf('/') + 1);
+			if (!KEY_PATTERN.matcher(key).matches()) {
+				exchange.sendResponseHeaders(400, -1);
+				return;
+			}
+
+			switch (exchange.getRequestMethod()) {
+			case "GET":
+				byte[] value = store.get(key);
+				if (value == null) {
+					exchange.sendResponseHeaders(404, -1);
+					return;
+				}
+				exchange.sendResponseHeaders(200, value.length);
+				try (OutputStream out = exchange.getResponseBody()) {
+					out.write(value);
+				}
+				break;
+			case "PUT":
+				if (!isAuthorized(exchange)) {
+					exchange.sendResponseHeaders(401, -1);
+					return;
+				}
+				try (InputStream in = exchange.getRequestBody()) {
+					store.put(key, in.readAllBytes());
+				}
+				exchange.sendResponseHeaders(204, -1);
+				break;
+			default:
+				exchange.sendResponseHeaders(405, -1);
+			}
+		}
+	}
+
+	// 비교 시간이 토큰 내용과 무관하도록 MessageDigest.isEqual 사용
+	private boolean isAuthorized(HttpExchange exchange) {
+		String header = exchange.getRequestHeaders().getFirst("Authorization");
+		return header != null && MessageDigest.isEqual(expectedAuthorization, header.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private static String randomToken() {
+		byte[] bytes = new byte[24];
+		new SecureRandom().nextBytes(bytes);
+		return HexFormat.of().formatHex(bytes);
+	}
+
+	@Override
+	public void close() {
+		server.stop(0);
+		executor.shutdown();
+	}
+
+	// 사용법: ResultCacheServer <port> <저장 디렉터리> <최대 MB> [바인드 주소]
+	// 기본은 루프백에만 바인드 - 다른 에이전트와 공유하려면 주소를 명시 (예: 0.0.0.0)
+	// 쓰기 토큰은 환경 변수 RESULT_CACHE_TOKEN, 없으면 임의 생성해 출력
+	public static void main(String[] args) throws IOException {
+		int port = args.length > 0 ? Integer.parseInt(args[0]) : 8765;
+		String dir = args.length > 1 ? args[1] : "result-cache";
+		long maxMB = args.length > 2 ? Long.parseLong(args[2]) : 1024;
+		String host = args.length > 3 ? args[3] : DEFAULT_HOST;
+
+		String token = System.getenv(TOKEN_ENV);
+		boolean generated = token == null || token.isEmpty();
+		if (generated) {
+			token = randomToken();
+		}
+
+		ResultCacheServer server = new ResultCacheServer(host, port,
+				new LocalDirectoryStore(Paths.get(dir), maxMB * 1024L * 1024L), token).start();
+		System.out.println("캐시 서버 시작: " + server.getBaseUrl() + " (" + dir + ", " + maxMB + "MB)");
+		if (generated) {
+			System.out.println("쓰기 토큰 (" + TOKEN_ENV + "): " + token);
+		}
+	}
+}
@@ -0,0 +1,10 @@
+package parser.cache;
+
+// 파싱 결과 저장소 (키: 내용 해시, 값: 직렬화된 결과)
+// 저장소 오류는 스캔을 중단시키지 않도록 구현체 내부에서 처리하고 캐시 미스로 취급
+public interface ResultStore {
+	// 없으면 null
+	byte[] get(String key);
+
+	void put(String key, byte[] value);
+}
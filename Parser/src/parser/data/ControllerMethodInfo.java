@@ -1,22 +1,43 @@
 package parser.data;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.util.ArrayList;
 import java.util.List;
 
 public class ControllerMethodInfo extends MethodInfo {
-    private String url;
-    private String httpMethod;
+    private static final long serialVersionUID = 3L;
+
+    private transient int urlId; // 메서드명과 같은 사전의 ID (직렬화는 문자열로)
+    private HttpMethod httpMethod;
     private List<String> parameters;
     
-    public ControllerMethodInfo(String name, String comment, String url, String httpMethod) {
-        super(name, comment);
-        this.url = url;
+    public ControllerMethodInfo(String name, String comment, String url, HttpMethod httpMethod) {
+        this(StringDictionary.current(), name, comment, url, httpMethod);
+    }
+
+    public ControllerMethodInfo(StringDictionary dictionary, String name, String comment, String url,
+            HttpMethod httpMethod) {
+        super(dictionary, name, comment);
+        this.urlId = dictionary.id(url);
         this.httpMethod = httpMethod;
         this.parameters = new ArrayList<>();
     }
     
-    public String getUrl() { return url; }
-    public String getHttpMethod() { return httpMethod; }
+    public String getUrl() { return getDictionary().value(urlId); }
+    public int getUrlId() { return urlId; }
+    public HttpMethod getHttpMethod() { return httpMethod; }
     public List<String> getParameters() { return parameters; }
     public void addParameter(String param) { parameters.add(param); }
-}
\ No newline at end of file
+
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        out.defaultWriteObject();
+        out.writeObject(getUrl());
+    }
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        urlId = getDictionary().id((String) in.readObject());
+    }
+}
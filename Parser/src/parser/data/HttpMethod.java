@@ -0,0 +1,6 @@
+package parser.data;
+
+// 매핑 어노테이션에서 추출하는 HTTP 메서드
+public enum HttpMethod {
+	GET, POST, PUT, DELETE
+}
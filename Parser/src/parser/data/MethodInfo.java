@@ -1,19 +1,64 @@
 package parser.data;
 
-public class MethodInfo {
-	private String name;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+
+public class MethodInfo implements Serializable {
+	private static final long serialVersionUID = 3L;
+
+	// 메서드명은 파일마다 반복되므로 스캔 사전 ID로 보관 (직렬화는 문자열로)
+	// 메서드 주석은 대부분 서로 달라 사전에 넣지 않음
+	private transient StringDictionary dictionary;
+	private transient int nameId;
 	private String comment;
+	// 추출 규칙 컬럼 순서의 값 (규칙이 없으면 null)
+	private String[] ruleValues;
 
 	public MethodInfo(String name, String comment) {
-		this.name = name;
+		this(StringDictionary.current(), name, comment);
+	}
+
+	// 파서는 파일 결과와 같은 사전을 넘김
+	public MethodInfo(StringDictionary dictionary, String name, String comment) {
+		this.dictionary = dictionary;
+		this.nameId = dictionary.id(name);
 		this.comment = comment;
 	}
 
+	public StringDictionary getDictionary() {
+		return dictionary;
+	}
+
 	public String getName() {
-		return name;
+		return dictionary.value(nameId);
+	}
+
+	public int getNameId() {
+		return nameId;
 	}
 
 	public String getComment() {
 		return comment;
 	}
+
+	public String[] getRuleValues() {
+		return ruleValues;
+	}
+
+	public void setRuleValues(String[] ruleValues) {
+		this.ruleValues = ruleValues;
+	}
+
+	private void writeObject(ObjectOutputStream out) throws IOException {
+		out.defaultWriteObject();
+		out.writeObject(getName());
+	}
+
+	private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+		in.defaultReadObject();
+		dictionary = StringDictionary.current();
+		nameId = dictionary.id((String) in.readObject());
+	}
 }
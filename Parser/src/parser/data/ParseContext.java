@@ -13,7 +13,7 @@ public class ParseContext {
 
 	// 컨트롤러 전용 컨텍스트
 	public String pendingUrl = "";
-	public String pendingHttpMethod = "";
+	public HttpMethod pendingHttpMethod; // 없으면 null
 	public List<String> pendingParameters = new ArrayList<>();
 
 	public void reset() {
@@ -23,7 +23,7 @@ public class ParseContext {
 
 	public void resetMapping() {
 		pendingUrl = "";
-		pendingHttpMethod = "";
+		pendingHttpMethod = null;
 		pendingParameters.clear();
 	}
 
@@ -35,7 +35,7 @@ public class ParseContext {
 	}
 
 	public boolean hasPendingMapping() {
-		return !pendingUrl.isEmpty() || !pendingHttpMethod.isEmpty();
+		return !pendingUrl.isEmpty() || pendingHttpMethod != null;
 	}
 
 	// 주석 관련 메서드들
@@ -1,19 +1,32 @@
 package parser.data;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
-public class ParseResult {
+// 결과 캐시 저장을 위해 직렬화 가능 (specializedData 값도 직렬화 가능해야 함)
+// 출력 행은 문자열이 아닌 필드 단위 레코드로 보관 - 기록기가 필드를 바로 인코딩
+// 클래스명과 클래스 주석은 스캔 사전(StringDictionary) ID로 보관 (직렬화는 문자열로 하고 읽을 때 다시 등록)
+// 파서는 결과의 사전으로 이 파일의 값을 모두 등록 - 한 결과의 ID는 모두 같은 사전 기준
+public class ParseResult implements Serializable {
+	private static final long serialVersionUID = 5L;
+
 	private String fileName;
 	private String filePath;
 	private String parserType;
-	private String className;
-	private String classComment;
+	private transient StringDictionary dictionary = StringDictionary.current();
+	private transient int classNameId = StringDictionary.NONE;
+	private transient int classCommentId = StringDictionary.NONE;
 	private List<MethodInfo> methods;
 	private Map<String, Object> specializedData;
-	private StringBuffer outputContent;
+	private RecordList records;
+	private int lineCount;
+	private transient boolean failed; // 읽기/파싱 오류로 중간에 멈춘 결과 (캐시에 넣지 않음)
 
 	public ParseResult(String fileName, String filePath, String parserType) {
 		this.fileName = fileName;
@@ -21,7 +34,20 @@ public class ParseResult {
 		this.parserType = parserType;
 		this.methods = new ArrayList<>();
 		this.specializedData = new HashMap<>();
-		this.outputContent = new StringBuffer();
+		this.records = new RecordList();
+	}
+
+	// 캐시된 결과를 다른 경로의 같은 내용 파일 결과로 복사
+	public static ParseResult relocate(ParseResult source, String fileName, String filePath) {
+		ParseResult result = new ParseResult(fileName, filePath, source.parserType);
+		result.dictionary = source.dictionary;
+		result.classNameId = source.classNameId;
+		result.classCommentId = source.classCommentId;
+		result.methods = source.methods;
+		result.specializedData.putAll(source.specializedData);
+		result.records = source.records; // 파싱이 끝난 레코드는 변경하지 않으므로 공유
+		result.lineCount = source.lineCount;
+		return result;
 	}
 
 	// Getters
@@ -37,12 +63,25 @@ public class ParseResult {
 		return parserType;
 	}
 
+	// 클래스명, 클래스 주석 ID의 사전
+	public StringDictionary getDictionary() {
+		return dictionary;
+	}
+
 	public String getClassName() {
-		return className;
+		return dictionary.value(classNameId);
+	}
+
+	public int getClassNameId() {
+		return classNameId;
 	}
 
 	public String getClassComment() {
-		return classComment;
+		return dictionary.value(classCommentId);
+	}
+
+	public int getClassCommentId() {
+		return classCommentId;
 	}
 
 	public List<MethodInfo> getMethods() {
@@ -53,28 +92,60 @@ public class ParseResult {
 		return specializedData;
 	}
 
+	// 파서가 출력 레코드를 넘기는 대상이자 기록기가 읽는 레코드 목록
+	public RecordList getRecords() {
+		return records;
+	}
+
+	// 파이프 구분 텍스트가 필요할 때만 변환
 	public String getOutputContent() {
-		return outputContent.toString();
+		return records.toText();
+	}
+
+	// 원본 파일의 줄 수 (빈 줄 포함)
+	public int getLineCount() {
+		return lineCount;
+	}
+
+	public boolean isFailed() {
+		return failed;
 	}
 
 	// Setters
 	public void setClassName(String className) {
-		this.className = className;
+		this.classNameId = dictionary.id(className);
 	}
 
 	public void setClassComment(String classComment) {
-		this.classComment = classComment;
+		this.classCommentId = dictionary.id(classComment);
 	}
 
 	public void setMethods(List<MethodInfo> methods) {
 		this.methods = methods;
 	}
 
+	public void setLineCount(int lineCount) {
+		this.lineCount = lineCount;
+	}
+
+	public void markFailed() {
+		this.failed = true;
+	}
+
 	public void addSpecializedData(String key, Object value) {
 		specializedData.put(key, value);
 	}
 
-	public void appendOutput(String content) {
-		outputContent.append(content);
+	private void writeObject(ObjectOutputStream out) throws IOException {
+		out.defaultWriteObject();
+		out.writeObject(getClassName());
+		out.writeObject(getClassComment());
+	}
+
+	private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+		in.defaultReadObject();
+		dictionary = StringDictionary.current();
+		classNameId = dictionary.id((String) in.readObject());
+		classCommentId = dictionary.id((String) in.readObject());
 	}
 }
@@ -0,0 +1,195 @@
+package parser.data;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.Arrays;
+
+// 파일 하나의 출력 레코드 - 필드 참조만 한 배열에 이어서 보관 (행마다 문자열이나 배열을 만들지 않음)
+// 한 파일의 레코드는 모두 같은 모양 (필드 수, 이어 붙인 필드 위치) - 모양은 첫 레코드에서 정하고 이후 레코드와 비교
+// 이어 붙인 필드(field(first, separator, second))는 두 칸에 나눠 보관하고 꺼낼 때도 나눈 채로 넘김
+// reserve로 레코드 수를 알려 두면 첫 레코드가 끝날 때 배열을 정확한 크기로 한 번만 늘림
+// 사전 값 필드는 칸별 사전 ID도 보관해 기록기에 ID로 넘김 (한 목록의 ID는 모두 한 사전 기준)
+public class RecordList implements RecordSink, Serializable {
+	private static final long serialVersionUID = 3L;
+	private static final String[] EMPTY = new String[0];
+	private static final char NO_JOIN = 0;
+
+	private String[] slots = EMPTY;
+	private int size; // 사용 중인 칸 수
+	private int width = -1; // 레코드당 칸 수 (첫 레코드에서 결정)
+	private char[] joins; // 레코드 안 칸 위치별로 다음 칸과 이어 붙이는 구분자 (없으면 NO_JOIN)
+	private int[] ids; // 칸별 사전 ID (사전 값이 아니면 NONE, 사전 값 필드가 없으면 null)
+	private transient StringDictionary dictionary; // ids의 사전
+	private int currentSlots;
+	private transient char[] currentJoins = new char[8];
+	private transient int reservedRecords;
+
+	// 레코드 수를 미리 알 때 (첫 레코드가 끝나면 그만큼 칸을 확보)
+	public void reserve(int records) {
+		this.reservedRecords = records;
+	}
+
+	@Override
+	public void field(String value) {
+		add(value, NO_JOIN);
+	}
+
+	@Override
+	public void field(String first, char separator, String second) {
+		add(first, separator);
+		add(second, NO_JOIN);
+	}
+
+	// 다른 사전의 값은 문자열로만 보관
+	@Override
+	public void field(StringDictionary dictionary, int id) {
+		if (this.dictionary == null) {
+			this.dictionary = dictionary;
+		}
+		add(dictionary.value(id), NO_JOIN);
+		if (dictionary != this.dictionary || id == StringDictionary.NONE)
+			return;
+
+		if (ids == null || ids.length < slots.length) {
+			int filled = ids == null ? 0 : ids.length;
+			ids = ids == null ? new int[slots.length] : Arrays.copyOf(ids, slots.length);
+			Arrays.fill(ids, filled, ids.length, StringDictionary.NONE);
+		}
+		ids[size - 1] = id;
+	}
+
+	private void add(String value, char join) {
+		if (size == slots.length) {
+			slots = Arrays.copyOf(slots, Math.max(16, size * 2));
+		}
+		slots[size++] = value != null ? value : "";
+		if (width < 0) {
+			if (currentSlots == currentJoins.length) {
+				currentJoins = Arrays.copyOf(currentJoins, currentSlots * 2);
+			}
+			currentJoins[currentSlots] = join;
+		} else if (currentSlots >= width || joins[currentSlots] != join) {
+			throw new IllegalStateException("레코드 모양이 첫 레코드와 다릅니다 (" + (currentSlots + 1) + "번째 칸)");
+		}
+		currentSlots++;
+	}
+
+	@Override
+	public void endRecord() {
+		if (width < 0) {
+			width = currentSlots;
+			joins = Arrays.copyOf(currentJoins, width);
+			currentJoins = null;
+			if (reservedRecords > 1 && slots.length < reservedRecords * width) {
+				slots = Arrays.copyOf(slots, reservedRecords * width);
+			}
+		} else if (currentSlots != width) {
+			throw new IllegalStateException("레코드 필드 수가 다릅니다: " + currentSlots + " (기존 " + width + ")");
+		}
+		currentSlots = 0;
+	}
+
+	public int size() {
+		return width > 0 ? size / width : 0;
+	}
+
+	public boolean isEmpty() {
+		return size() == 0;
+	}
+
+	// 기록된 레코드를 순서대로 다른 대상에 다시 넘김
+	public void writeTo(RecordSink sink) {
+		int records = size();
+		for (int record = 0, index = 0; record < records; record++) {
+			for (int i = 0; i < width; i++) {
+				if (joins[i] != NO_JOIN) {
+					sink.field(slots[index], joins[i], slots[index + 1]);
+					index += 2;
+					i++;
+				} else if (idAt(index) != StringDictionary.NONE) {
+					sink.field(dictionary, ids[index++]);
+				} else {
+					sink.field(slots[index++]);
+				}
+			}
+			sink.endRecord();
+		}
+	}
+
+	private int idAt(int index) {
+		return ids != null && index < ids.length ? ids[index] : StringDictionary.NONE;
+	}
+
+	// 파이프 구분, 행마다 \n으로 끝나는 문자열 길이 (이어 붙인 칸의 구분자도 한 글자)
+	public int length() {
+		int length = 0;
+		for (int i = 0; i < size; i++) {
+			length += slots[i].length() + 1; // 구분자 또는 줄바꿈
+		}
+		return length;
+	}
+
+	// 파이프 구분 텍스트로 변환 (결과 캐시 비교, 증분 행 보관 등 문자열이 필요한 경우)
+	public String toText() {
+		StringBuilder text = new StringBuilder(length());
+		writeTo(new RecordSink() {
+			private boolean first = true;
+
+			@Override
+			public void field(String value) {
+				separate();
+				text.append(value);
+			}
+
+			@Override
+			public void field(String firstPart, char separator, String secondPart) {
+				separate();
+				text.append(firstPart).append(separator).append(secondPart);
+			}
+
+			private void separate() {
+				if (!first) {
+					text.append('|');
+				}
+				first = false;
+			}
+
+			@Override
+			public void endRecord() {
+				text.append('\n');
+				first = true;
+			}
+		});
+		return text.toString();
+	}
+
+	// 남는 칸은 저장하지 않음
+	private void writeObject(ObjectOutputStream out) throws IOException {
+		if (slots.length != size) {
+			slots = Arrays.copyOf(slots, size);
+		}
+		if (ids != null && ids.length > size) {
+			ids = Arrays.copyOf(ids, size);
+		}
+		out.defaultWriteObject();
+	}
+
+	// 저장된 ID는 다른 사전 기준이므로 사전 값 칸을 현재 사전에 다시 등록하고 공유 인스턴스로 교체
+	private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+		in.defaultReadObject();
+		if (width < 0) {
+			currentJoins = new char[8];
+		}
+		if (ids != null) {
+			dictionary = StringDictionary.current();
+			for (int i = 0; i < ids.length; i++) {
+				if (ids[i] != StringDictionary.NONE) {
+					ids[i] = dictionary.id(slots[i]);
+					slots[i] = dictionary.value(ids[i]);
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,20 @@
+package parser.data;
+
+// 출력 레코드를 필드 단위로 받는 대상 - 파서는 필드를 바로 넘기고, 기록기는 구분자와 함께 바로 인코딩
+// 한 레코드는 field 호출들 뒤의 endRecord로 끝남
+public interface RecordSink {
+	// null은 빈 값으로 기록
+	void field(String value);
+
+	// 두 값을 separator로 이은 한 필드 (예: 클래스명.메서드명) - 기록기는 이어 붙인 문자열 없이 바로 인코딩
+	default void field(String first, char separator, String second) {
+		field((first != null ? first : "") + separator + (second != null ? second : ""));
+	}
+
+	// 사전 값 필드 - 기록기는 같은 사전의 ID로 값을 비교하거나 인코딩한 바이트를 재사용
+	default void field(StringDictionary dictionary, int id) {
+		field(dictionary.value(id));
+	}
+
+	void endRecord();
+}
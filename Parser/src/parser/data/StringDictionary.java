@@ -0,0 +1,130 @@
+package parser.data;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+// 여러 파일에서 반복되는 값(클래스명, 클래스 주석, URL, 메서드명)을 한 인스턴스로 모으고 작은 int ID를 붙이는 사전
+// 사전은 스캔 단위 - startScan으로 새 사전을 시작하고, 값이 MAX_VALUES개를 넘으면 다음 current()부터 새 사전
+// 결과 객체는 자기 사전을 참조하므로 이전 사전은 그 결과가 모두 사라지면 함께 회수됨 (프로세스 전체에 쌓이지 않음)
+// ID는 같은 사전 안에서만 비교 가능 - 직렬화할 때는 문자열로 저장하고 읽을 때 현재 사전에 다시 등록
+// 값마다 노드나 박싱 객체를 만들지 않도록 해시 테이블은 ID+1을 담는 int 배열(선형 탐사)
+// 조회는 잠금 없이 테이블 스냅숏에서, 등록만 모니터 안에서 - 값을 먼저 넣고 칸을 채워 공개
+public final class StringDictionary {
+	public static final int NONE = -1; // null 값의 ID
+	static final int MAX_VALUES = 1 << 16; // 사전 하나의 값 수 상한 (넘으면 새 사전)
+
+	private static volatile StringDictionary current = new StringDictionary();
+
+	private volatile Table table = new Table(new AtomicIntegerArray(32), new String[16]);
+	private volatile int size; // 쓰기는 모니터 안에서
+
+	private StringDictionary() {
+	}
+
+	// 지금 등록에 쓸 사전 (상한을 넘었으면 새 사전으로 교체)
+	public static StringDictionary current() {
+		StringDictionary dictionary = current;
+		if (dictionary.size < MAX_VALUES)
+			return dictionary;
+
+		synchronized (StringDictionary.class) {
+			if (current.size >= MAX_VALUES) {
+				current = new StringDictionary();
+			}
+			return current;
+		}
+	}
+
+	// 스캔 시작 - 이전 스캔 값은 새 결과와 공유하지 않음
+	public static void startScan() {
+		current = new StringDictionary();
+	}
+
+	// 등록된 ID (없으면 등록)
+	public int id(String value) {
+		if (value == null)
+			return NONE;
+		int id = find(table, value);
+		return id != NONE ? id : register(value);
+	}
+
+	public String value(int id) {
+		return id == NONE ? null : table.values[id];
+	}
+
+	// 같은 값의 공유 인스턴스 (없으면 등록)
+	public String intern(String value) {
+		return value(id(value));
+	}
+
+	public int size() {
+		return size;
+	}
+
+	// 스냅숏에서 찾기 - 칸을 읽은 뒤 최신 테이블의 값 배열로 비교 (값 배열이 칸보다 먼저 공개됨)
+	private int find(Table snapshot, String value) {
+		AtomicIntegerArray slots = snapshot.slots;
+		int mask = slots.length() - 1;
+		for (int slot = spread(value.hashCode()) & mask;; slot = (slot + 1) & mask) {
+			int entry = slots.get(slot);
+			if (entry == 0)
+				return NONE;
+			String existing = table.values[entry - 1];
+			if (existing == value || existing.equals(value))
+				return entry - 1;
+		}
+	}
+
+	private synchronized int register(String value) {
+		int existing = find(table, value);
+		if (existing != NONE)
+			return existing;
+
+		Table registered = table;
+		if (size == registered.values.length) {
+			registered = new Table(registered.slots, Arrays.copyOf(registered.values, size * 2));
+		}
+		if ((size + 1) * 2 > registered.slots.length()) {
+			registered = registered.rehash();
+		}
+		registered.values[size] = value;
+		table = registered;
+		put(registered.slots, value, size);
+		return size++;
+	}
+
+	private static void put(AtomicIntegerArray slots, String value, int id) {
+		int mask = slots.length() - 1;
+		int slot = spread(value.hashCode()) & mask;
+		while (slots.get(slot) != 0) {
+			slot = (slot + 1) & mask;
+		}
+		slots.set(slot, id + 1);
+	}
+
+	private static int spread(int hash) {
+		return hash ^ hash >>> 16;
+	}
+
+	// 칸 배열과 값 배열 - 값 배열이 커지면 칸 배열을 공유한 새 테이블, 칸이 절반 넘게 차면 다시 해시한 새 테이블
+	private static class Table {
+		private final AtomicIntegerArray slots; // ID+1 (0이면 빈 칸)
+		private final String[] values; // ID 순서
+
+		private Table(AtomicIntegerArray slots, String[] values) {
+			this.slots = slots;
+			this.values = values;
+		}
+
+		private Table rehash() {
+			AtomicIntegerArray grown = new AtomicIntegerArray(slots.length() * 2);
+			for (int i = 0; i < slots.length(); i++) {
+				int entry = slots.get(i);
+				if (entry != 0) {
+					put(grown, values[entry - 1], entry - 1);
+				}
+			}
+			return new Table(grown, values);
+		}
+	}
+}
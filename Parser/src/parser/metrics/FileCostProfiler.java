@@ -0,0 +1,194 @@
+package parser.metrics;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.ToLongFunction;
+
+// 파일 단위 비용 프로파일 - 파싱 시간, 읽은 바이트, 줄 수, 출력 행 수, 할당 바이트를 기록하고
+// 가장 느린 파일과 가장 많이 할당한 파일 상위 K개만 크기 제한 힙으로 유지 (파일 수와 무관하게 메모리 일정)
+// 할당량은 측정 스레드의 누적 할당 바이트 차이 (begin/end는 같은 스레드에서 호출해야 함)
+public class FileCostProfiler {
+	private static final com.sun.management.ThreadMXBean THREADS = allocationCounter();
+
+	private final int topK;
+	private final PriorityQueue<FileCost> slowest;
+	private final PriorityQueue<FileCost> mostAllocating;
+
+	private long files;
+	private long totalNanos;
+	private long totalBytes;
+	private long totalAllocated;
+
+	public FileCostProfiler(int topK) {
+		this.topK = Math.max(1, topK);
+		// 최소 힙 - 가득 차면 가장 작은 항목과 비교해 교체
+		this.slowest = new PriorityQueue<>(this.topK + 1, Comparator.comparingLong(FileCost::getNanos));
+		this.mostAllocating = new PriorityQueue<>(this.topK + 1,
+				Comparator.comparingLong(FileCost::getAllocatedBytes));
+	}
+
+	public Probe begin(Path filePath) {
+		return new Probe(filePath, System.nanoTime(), currentThreadAllocatedBytes());
+	}
+
+	public void end(Probe probe, long bytes, int lines, int records) {
+		long nanos = System.nanoTime() - probe.startNanos;
+		long allocated = probe.startAllocated < 0 ? 0 : currentThreadAllocatedBytes() - probe.startAllocated;
+		record(new FileCost(probe.filePath.toString(), nanos, bytes, lines, records, allocated));
+	}
+
+	public synchronized void record(FileCost cost) {
+		files++;
+		totalNanos += cost.nanos;
+		totalBytes += cost.bytes;
+		totalAllocated += cost.allocatedBytes;
+
+		offer(slowest, cost, FileCost::getNanos);
+		offer(mostAllocating, cost, FileCost::getAllocatedBytes);
+	}
+
+	private void offer(PriorityQueue<FileCost> heap, FileCost cost, ToLongFunction<FileCost> metric) {
+		if (heap.size() < topK) {
+			heap.add(cost);
+		} else if (metric.applyAsLong(cost) > metric.applyAsLong(heap.peek())) {
+			heap.poll();
+			heap.add(cost);
+		}
+	}
+
+	// 내림차순 정렬된 상위 목록
+	public synchronized List<FileCost> getSlowest() {
+		return ranked(slowest, FileCost::getNanos);
+	}
+
+	public synchronized List<FileCost> getMostAllocating() {
+		return ranked(mostAllocating, FileCost::getAllocatedBytes);
+	}
+
+	private static List<FileCost> ranked(PriorityQueue<FileCost> heap, ToLongFunction<FileCost> metric) {
+		List<FileCost> ranked = new ArrayList<>(heap);
+		ranked.sort(Comparator.comparingLong(metric).reversed());
+		return ranked;
+	}
+
+	public synchronized void writeReport(Path reportFile) throws IOException {
+		try (PrintWriter out = new PrintWriter(Files.newBufferedWriter(reportFile, StandardCharsets.UTF_8))) {
+			out.print(report());
+		}
+		System.out.println("파일 비용 프로파일 저장: " + reportFile);
+	}
+
+	public synchronized String report() {
+		StringBuilder report = new StringBuilder("=== 파일 비용 프로파일 ===\n");
+		report.append(String.format("파일 %d개, 파싱 %.1f ms, 읽기 %,d B, 할당 %,d B%n", files, totalNanos / 1e6,
+				totalBytes, totalAllocated));
+		if (THREADS == null) {
+			report.append("(할당량 측정 미지원 JVM - 할당 바이트는 0으로 기록)\n");
+		}
+
+		report.append("\n--- 파싱 시간 상위 ").append(topK).append("개 ---\n");
+		appendTable(report, getSlowest());
+		report.append("\n--- 할당량 상위 ").append(topK).append("개 ---\n");
+		appendTable(report, getMostAllocating());
+		return report.toString();
+	}
+
+	private static void appendTable(StringBuilder report, List<FileCost> costs) {
+		report.append(String.format("%4s %10s %12s %8s %6s %14s  %s%n", "순위", "ms", "바이트", "줄", "행", "할당", "파일"));
+		int rank = 1;
+		for (FileCost cost : costs) {
+			report.append(String.format("%4d %10.2f %,12d %,8d %,6d %,14d  %s%n", rank++, cost.nanos / 1e6, cost.bytes,
+					cost.lines, cost.records, cost.allocatedBytes, cost.path));
+		}
+	}
+
+	// from 위치 이후에 추가된 출력 행 수 (행은 \n으로 끝남)
+	public static int countRows(CharSequence output, int from) {
+		int rows = 0;
+		for (int i = from; i < output.length(); i++) {
+			if (output.charAt(i) == '\n')
+				rows++;
+		}
+		return rows;
+	}
+
+	// 측정 불가하면 -1
+	private static long currentThreadAllocatedBytes() {
+		return THREADS != null ? THREADS.getCurrentThreadAllocatedBytes() : -1;
+	}
+
+	private static com.sun.management.ThreadMXBean allocationCounter() {
+		if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean) {
+			com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory
+					.getThreadMXBean();
+			if (threads.isThreadAllocatedMemorySupported()) {
+				threads.setThreadAllocatedMemoryEnabled(true);
+				return threads;
+			}
+		}
+		return null;
+	}
+
+	// 측정 시작 시점 (측정 스레드 전용)
+	public static class Probe {
+		private final Path filePath;
+		private final long startNanos;
+		private final long startAllocated;
+
+		private Probe(Path filePath, long startNanos, long startAllocated) {
+			this.filePath = filePath;
+			this.startNanos = startNanos;
+			this.startAllocated = startAllocated;
+		}
+	}
+
+	public static class FileCost {
+		private final String path;
+		private final long nanos;
+		private final long bytes;
+		private final int lines;
+		private final int records;
+		private final long allocatedBytes;
+
+		public FileCost(String path, long nanos, long bytes, int lines, int records, long allocatedBytes) {
+			this.path = path;
+			this.nanos = nanos;
+			this.bytes = bytes;
+			this.lines = lines;
+			this.records = records;
+			this.allocatedBytes = allocatedBytes;
+		}
+
+		public String getPath() {
+			return path;
+		}
+
+		public long getNanos() {
+			return nanos;
+		}
+
+		public long getBytes() {
+			return bytes;
+		}
+
+		public int getLines() {
+			return lines;
+		}
+
+		public int getRecords() {
+			return records;
+		}
+
+		public long getAllocatedBytes() {
+			return allocatedBytes;
+		}
+	}
+}
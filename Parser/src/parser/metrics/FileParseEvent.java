@@ -0,0 +1,25 @@
+package parser.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+// 파일 한 개의 파싱 구간 (내용을 미리 읽지 않은 모드에서는 읽기 시간 포함)
+@Name("parser.FileParse")
+@Label("파일 파싱")
+@Category({ "Parser", "Scan" })
+public class FileParseEvent extends jdk.jfr.Event {
+	@Label("파일 경로")
+	public String path;
+
+	@Label("크기")
+	@DataAmount
+	public long size;
+
+	@Label("파서 타입")
+	public String parserType;
+
+	@Label("메서드 수")
+	public int records;
+}
@@ -0,0 +1,37 @@
+package parser.metrics;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+// 파일 한 개를 메모리로 읽는 구간 (미리 읽기, 파이프라인 읽기 단계, 바이트 입력 로더)
+@Name("parser.FileRead")
+@Label("파일 읽기")
+@Category({ "Parser", "Scan" })
+public class FileReadEvent extends jdk.jfr.Event {
+	@Label("파일 경로")
+	public String path;
+
+	@Label("크기")
+	@DataAmount
+	public long size;
+
+	// 기록 중이 아니면 경로 문자열 변환 없이 읽기만 함
+	public static byte[] readAllBytes(Path filePath) throws IOException {
+		FileReadEvent event = new FileReadEvent();
+		event.begin();
+		byte[] content = Files.readAllBytes(filePath);
+		event.end();
+		if (event.shouldCommit()) {
+			event.path = filePath.toString();
+			event.size = content.length;
+			event.commit();
+		}
+		return content;
+	}
+}
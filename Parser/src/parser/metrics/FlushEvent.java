@@ -0,0 +1,25 @@
+package parser.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+// 타입별 출력 버퍼를 파일에 기록하는 구간 (파일 열기/닫기 포함)
+@Name("parser.Flush")
+@Label("버퍼 플러시")
+@Category({ "Parser", "Output" })
+public class FlushEvent extends jdk.jfr.Event {
+	@Label("출력 타입")
+	public String outputType;
+
+	@Label("출력 파일")
+	public String path;
+
+	@Label("기록 크기")
+	@DataAmount
+	public long size;
+
+	@Label("파일 번호")
+	public int fileIndex;
+}
@@ -0,0 +1,23 @@
+package parser.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+// 파싱 결과를 출력 행으로 만드는 구간
+@Name("parser.Format")
+@Label("출력 포맷")
+@Category({ "Parser", "Scan" })
+public class FormatEvent extends jdk.jfr.Event {
+	@Label("파일 경로")
+	public String path;
+
+	@Label("파서 타입")
+	public String parserType;
+
+	@Label("메서드 수")
+	public int records;
+
+	@Label("출력 문자 수")
+	public int outputChars;
+}
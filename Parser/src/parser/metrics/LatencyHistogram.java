@@ -0,0 +1,83 @@
+package parser.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+// 2의 거듭제곱 마이크로초 구간 히스토그램 - 고정 크기라 파일 수와 무관하게 메모리 일정
+public class LatencyHistogram implements LatencyHistogramMXBean {
+	private static final int BUCKETS = 32;
+
+	private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+	private final LongAdder count = new LongAdder();
+	private final LongAdder totalNanos = new LongAdder();
+	private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+	public void record(long nanos) {
+		long micros = Math.max(1, nanos / 1000);
+		int bucket = Math.min(BUCKETS - 1, 63 - Long.numberOfLeadingZeros(micros));
+		buckets.incrementAndGet(bucket);
+		count.increment();
+		totalNanos.add(nanos);
+		maxNanos.accumulate(nanos);
+	}
+
+	@Override
+	public long getCount() {
+		return count.sum();
+	}
+
+	@Override
+	public double getMeanMillis() {
+		long n = count.sum();
+		return n == 0 ? 0.0 : totalNanos.sum() / 1e6 / n;
+	}
+
+	@Override
+	public double getMaxMillis() {
+		return maxNanos.get() / 1e6;
+	}
+
+	@Override
+	public double getP50Millis() {
+		return percentile(0.50);
+	}
+
+	@Override
+	public double getP90Millis() {
+		return percentile(0.90);
+	}
+
+	@Override
+	public double getP99Millis() {
+		return percentile(0.99);
+	}
+
+	@Override
+	public long[] getBucketCounts() {
+		long[] counts = new long[BUCKETS];
+		for (int i = 0; i < BUCKETS; i++) {
+			counts[i] = buckets.get(i);
+		}
+		return counts;
+	}
+
+	private double percentile(double fraction) {
+		long[] counts = getBucketCounts();
+		long total = 0;
+		for (long c : counts)
+			total += c;
+		if (total == 0)
+			return 0.0;
+
+		long rank = (long) Math.ceil(total * fraction);
+		long seen = 0;
+		for (int i = 0; i < BUCKETS; i++) {
+			seen += counts[i];
+			if (seen >= rank) {
+				return (1L << (i + 1)) / 1000.0; // 구간 상한 (마이크로초 → 밀리초)
+			}
+		}
+		return getMaxMillis();
+	}
+}
@@ -0,0 +1,19 @@
+package parser.metrics;
+
+// 파싱 지연 분포 (JMX 속성) - 백분위는 구간 상한값으로 근사
+public interface LatencyHistogramMXBean {
+	long getCount();
+
+	double getMeanMillis();
+
+	double getMaxMillis();
+
+	double getP50Millis();
+
+	double getP90Millis();
+
+	double getP99Millis();
+
+	// 구간 i는 [2^i, 2^(i+1)) 마이크로초 (0번 구간은 2마이크로초 미만 포함)
+	long[] getBucketCounts();
+}
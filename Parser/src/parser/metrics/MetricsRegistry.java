@@ -0,0 +1,64 @@
+package parser.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+// JMX 지표 등록소 - 플랫폼 MBean 서버의 "parser" 도메인에 스캔 지표를 노출
+//   parser:type=Scan                          전체 처리량, 오류 수, 마지막 처리 이후 경과 시간
+//   parser:type=ParseLatency,parserType=...   파서 타입별 파싱 지연 분포
+//   parser:type=OutputBuffer,outputType=...   출력 타입별 버퍼 점유량과 플러시 수
+//   parser:type=Queue,stage=...               파이프라인 단계 큐 깊이
+// 등록 실패는 스캔에 영향을 주지 않도록 오류 출력만 함
+public class MetricsRegistry {
+	private static final String DOMAIN = "parser";
+
+	private static final ScanMetrics SCAN = register(new ScanMetrics(), "type=Scan");
+	private static final Map<String, LatencyHistogram> LATENCIES = new ConcurrentHashMap<>();
+	private static final Map<String, OutputBufferStats> BUFFERS = new ConcurrentHashMap<>();
+
+	private MetricsRegistry() {
+		// 유틸리티 클래스이므로 인스턴스 생성 방지
+	}
+
+	public static ScanMetrics scan() {
+		return SCAN;
+	}
+
+	// 파서 타입별 지연 분포 (GENERAL 타입은 빈 문자열이므로 "general"로 등록)
+	public static LatencyHistogram parseLatency(String parserType) {
+		String key = parserType.isEmpty() ? "general" : parserType;
+		return LATENCIES.computeIfAbsent(key,
+				name -> register(new LatencyHistogram(), "type=ParseLatency,parserType=" + ObjectName.quote(name)));
+	}
+
+	public static OutputBufferStats outputBuffer(String outputType) {
+		return BUFFERS.computeIfAbsent(outputType,
+				name -> register(new OutputBufferStats(), "type=OutputBuffer,outputType=" + ObjectName.quote(name)));
+	}
+
+	// 같은 이름의 기존 항목은 교체 (파이프라인을 다시 실행하면 새 큐로 바뀜)
+	public static <T> T registerQueue(String stage, T queue) {
+		return register(queue, "type=Queue,stage=" + ObjectName.quote(stage));
+	}
+
+	private static <T> T register(T mbean, String properties) {
+		try {
+			MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+			ObjectName name = new ObjectName(DOMAIN + ":" + properties);
+			synchronized (MetricsRegistry.class) {
+				if (server.isRegistered(name)) {
+					server.unregisterMBean(name);
+				}
+				server.registerMBean(mbean, name);
+			}
+		} catch (JMException | RuntimeException e) {
+			System.err.println("JMX 지표 등록 실패: " + properties + " - " + e.getMessage());
+		}
+		return mbean;
+	}
+}
@@ -0,0 +1,44 @@
+package parser.metrics;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+// 출력 타입별 버퍼 통계 - 기록기가 갱신하고 JMX로 조회
+public class OutputBufferStats implements OutputBufferStatsMXBean {
+	private final AtomicLong bufferedBytes = new AtomicLong();
+	private final LongAdder flushCount = new LongAdder();
+	private final LongAdder flushedBytes = new LongAdder();
+	private final AtomicInteger fileIndex = new AtomicInteger(1);
+
+	public void setBufferedBytes(long bytes) {
+		bufferedBytes.set(bytes);
+	}
+
+	public void recordFlush(long bytes, int currentFileIndex) {
+		flushCount.increment();
+		flushedBytes.add(bytes);
+		fileIndex.set(currentFileIndex);
+		bufferedBytes.set(0);
+	}
+
+	@Override
+	public long getBufferedBytes() {
+		return bufferedBytes.get();
+	}
+
+	@Override
+	public long getFlushCount() {
+		return flushCount.sum();
+	}
+
+	@Override
+	public long getFlushedBytes() {
+		return flushedBytes.sum();
+	}
+
+	@Override
+	public int getFileIndex() {
+		return fileIndex.get();
+	}
+}
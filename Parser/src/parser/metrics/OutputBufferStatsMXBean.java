@@ -0,0 +1,14 @@
+package parser.metrics;
+
+// 출력 타입별 버퍼 상태 (JMX 속성)
+public interface OutputBufferStatsMXBean {
+	// 아직 파일에 쓰지 않은 버퍼 바이트 (추정치)
+	long getBufferedBytes();
+
+	long getFlushCount();
+
+	long getFlushedBytes();
+
+	// 현재 기록 중인 분할 파일 번호
+	int getFileIndex();
+}
@@ -0,0 +1,83 @@
+package parser.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+// 스캔 단위 누적 지표 - 여러 워커 스레드에서 동시에 기록
+public class ScanMetrics implements ScanMetricsMXBean {
+	private final LongAdder files = new LongAdder();
+	private final LongAdder bytes = new LongAdder();
+	private final LongAdder errors = new LongAdder();
+
+	private volatile long startNanos = System.nanoTime();
+	private volatile long endNanos = 0;
+	private volatile long lastFileNanos = System.nanoTime();
+
+	// 새 스캔 시작 - 처리량 계산 기준 초기화 (타입별 지연 분포와 버퍼 통계는 누적 유지)
+	public void startScan() {
+		files.reset();
+		bytes.reset();
+		errors.reset();
+		startNanos = System.nanoTime();
+		lastFileNanos = startNanos;
+		endNanos = 0;
+	}
+
+	public void endScan() {
+		endNanos = System.nanoTime();
+	}
+
+	public void recordFile(String parserType, long byteCount, long parseNanos) {
+		files.increment();
+		bytes.add(byteCount);
+		lastFileNanos = System.nanoTime();
+		MetricsRegistry.parseLatency(parserType).record(parseNanos);
+	}
+
+	public void recordError() {
+		errors.increment();
+	}
+
+	@Override
+	public long getFilesProcessed() {
+		return files.sum();
+	}
+
+	@Override
+	public long getBytesRead() {
+		return bytes.sum();
+	}
+
+	@Override
+	public long getErrors() {
+		return errors.sum();
+	}
+
+	@Override
+	public double getElapsedSeconds() {
+		long end = endNanos != 0 ? endNanos : System.nanoTime();
+		return (end - startNanos) / 1e9;
+	}
+
+	@Override
+	public double getFilesPerSecond() {
+		double seconds = getElapsedSeconds();
+		return seconds > 0 ? files.sum() / seconds : 0.0;
+	}
+
+	@Override
+	public double getBytesPerSecond() {
+		double seconds = getElapsedSeconds();
+		return seconds > 0 ? bytes.sum() / seconds : 0.0;
+	}
+
+	@Override
+	public long getMillisSinceLastFile() {
+		return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - lastFileNanos);
+	}
+
+	@Override
+	public boolean isScanning() {
+		return endNanos == 0;
+	}
+}
@@ -0,0 +1,21 @@
+package parser.metrics;
+
+// 전체 스캔 지표 (JMX 속성)
+public interface ScanMetricsMXBean {
+	long getFilesProcessed();
+
+	long getBytesRead();
+
+	long getErrors();
+
+	double getElapsedSeconds();
+
+	double getFilesPerSecond();
+
+	double getBytesPerSecond();
+
+	// 마지막 파일 처리 이후 경과 시간 - 계속 커지면 정체 상태
+	long getMillisSinceLastFile();
+
+	boolean isScanning();
+}
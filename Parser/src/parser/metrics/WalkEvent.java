@@ -0,0 +1,25 @@
+package parser.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+// 디렉터리 탐색 구간 (PruningWalker.walk 전체)
+@Name("parser.Walk")
+@Label("디렉터리 탐색")
+@Category({ "Parser", "Scan" })
+@Description("파싱 대상 파일 목록을 만드는 디렉터리 탐색")
+public class WalkEvent extends jdk.jfr.Event {
+	@Label("루트 경로")
+	public String root;
+
+	@Label("방문 디렉터리 수")
+	public int visitedDirs;
+
+	@Label("제외 디렉터리 수")
+	public int skippedDirs;
+
+	@Label("대상 파일 수")
+	public int matchedFiles;
+}
@@ -1,60 +1,158 @@
 package parser.parser;
 
 import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.regex.Pattern;
 
 import parser.data.MethodInfo;
 import parser.data.ParseContext;
 import parser.data.ParseResult;
+import parser.data.RecordSink;
+import parser.data.StringDictionary;
+import parser.metrics.FormatEvent;
+import parser.metrics.MetricsRegistry;
+import parser.rule.RuleSet;
 
 abstract public class BaseJavaParser implements FileParser {
-	// 정규식 패턴 미리 컴파일 및 static 선언으로 메모리 절약
-	private static final Pattern METHOD_PATTERN = Pattern.compile(".*(public|private|protected).*\\(.*\\).*\\{.*");
-	private static final Pattern CLASS_PATTERN = Pattern.compile(".*class\\s+\\w+.*");
-	private static final Pattern JAVADOC_START_PATTERN = Pattern.compile("\\s*/\\*\\*.*");
-	private static final Pattern JAVADOC_END_PATTERN = Pattern.compile(".*\\*/.*");
+	// 파싱 규칙이나 출력 형식이 바뀌면 올려서 기존 결과 캐시를 무효화
+	public static final String PARSER_VERSION = "7";
 
+	// 바이트 입력 모드에서 줄을 문자열로 변환할지 판단하는 표식
+	// 주석/리터럴/어노테이션 시작 문자가 있는 줄은 렉서 상태가 바뀔 수 있으므로 항상 변환
+	private static final byte[] LEXER_TRIGGERS = { '/', '"', '\'', '@' };
+	private static final byte[] CLASS_KEYWORD = "class".getBytes(StandardCharsets.US_ASCII);
+	private static final byte[][] ACCESS_MODIFIERS = { "public".getBytes(StandardCharsets.US_ASCII),
+			"private".getBytes(StandardCharsets.US_ASCII), "protected".getBytes(StandardCharsets.US_ASCII) };
+	private static final byte[][] NO_MARKERS = {};
+
+	protected StringDictionary dictionary = StringDictionary.current(); // 지금 파싱 중인 결과의 사전 (파싱이 끝나면 null)
 	protected String className = "";
 	protected String classComment = "";
 	protected final int commentMaxLength = 30;
 	protected List<MethodInfo> methods = new ArrayList<>();
 	protected ParseContext context = new ParseContext();
+	// 문자열/주석 속 중괄호나 키워드를 구분하는 줄 단위 렉서 (현재 줄 토큰은 parseSpecialized에서도 사용)
+	protected final JavaLexer lexer = new JavaLexer();
+
+	// 사용자 정의 추출 규칙 - 다음 클래스/메서드 선언까지 모인 값을 그 선언에 붙임
+	private RuleSet rules = RuleSet.EMPTY;
+	private String[] pendingRuleValues = new String[0];
+	protected String[] classRuleValues = new String[0];
+
+	private int lineCount;
+
+	// 직접 버퍼의 줄을 변환할 때 쓰는 재사용 배열
+	private byte[] lineBytes = new byte[256];
+
+	@Override
+	public void setRules(RuleSet rules) {
+		this.rules = rules;
+	}
 
 	@Override
 	public ParseResult parse(Path filePath, String parserType) {
+		return parse(filePath, parserType, () -> Files.newBufferedReader(filePath));
+	}
+
+	@Override
+	public ParseResult parse(Path filePath, String parserType, byte[] content) {
+		return parse(filePath, parserType, () -> new BufferedReader(
+				new InputStreamReader(new ByteArrayInputStream(content), StandardCharsets.UTF_8)));
+	}
+
+	// 바이트 입력 모드 - 줄 경계와 구조 문자만 바이트로 검사하고, 결과에 영향을 줄 수 있는 줄만 문자열로 변환
+	@Override
+	public ParseResult parse(Path filePath, String parserType, ByteBuffer content) {
 		ParseResult result = new ParseResult(filePath.getFileName().toString(), filePath.toString(), parserType);
 
-		try (BufferedReader reader = Files.newBufferedReader(filePath)) {
+		try {
 			System.out.println("파싱 중: " + filePath.getFileName());
 
-			resetParserState();
-			parseFile(reader);
+			resetParserState(result);
+			parseBytes(content);
+			collectResult(result);
 
-			result.setClassName(className);
-			result.setClassComment(classComment);
-			result.setMethods(new ArrayList<>(methods));
+		} catch (Exception e) {
+			System.err.println("파싱 오류: " + filePath + " - " + e.getMessage());
+			MetricsRegistry.scan().recordError();
+			result.markFailed();
+		} finally {
+			releaseParserState();
+		}
 
-			addSpecializedDataToResult(result);
+		return result;
+	}
+
+	private ParseResult parse(Path filePath, String parserType, ReaderSource source) {
+		ParseResult result = new ParseResult(filePath.getFileName().toString(), filePath.toString(), parserType);
+
+		try (BufferedReader reader = source.open()) {
+			System.out.println("파싱 중: " + filePath.getFileName());
+
+			resetParserState(result);
+			parseFile(reader);
+			collectResult(result);
 
 		} catch (IOException ie) {
 			System.err.println("파일 읽기 오류: " + filePath + " - " + ie.getMessage());
+			MetricsRegistry.scan().recordError();
+			result.markFailed();
 		} catch (Exception e) {
 			System.err.println("파싱 오류: " + filePath + " - " + e.getMessage());
+			MetricsRegistry.scan().recordError();
+			result.markFailed();
+		} finally {
+			releaseParserState();
 		}
 
 		return result;
 	}
 
-	private void resetParserState() {
+	private void collectResult(ParseResult result) {
+		result.setClassName(className);
+		result.setClassComment(classComment);
+		result.setMethods(new ArrayList<>(methods));
+		result.setLineCount(lineCount);
+
+		FormatEvent event = new FormatEvent();
+		event.begin();
+		addSpecializedDataToResult(result);
+		event.end();
+		if (event.shouldCommit()) {
+			event.path = result.getFilePath();
+			event.parserType = result.getParserType();
+			event.records = result.getRecords().size();
+			event.outputChars = result.getRecords().length();
+			event.commit();
+		}
+	}
+
+	// 파서는 스레드별로 재사용되므로 파싱이 끝나면 이 파일의 사전 참조를 놓음 (지난 스캔 사전이 남지 않도록)
+	private void releaseParserState() {
+		dictionary = null;
 		className = "";
 		classComment = "";
 		methods.clear();
-		context.reset(); // ParseContext에 전체 초기화 메서드 추가
+		resetSpecializedState();
+	}
+
+	private void resetParserState(ParseResult result) {
+		dictionary = result.getDictionary();
+		className = "";
+		classComment = "";
+		methods.clear();
+		lineCount = 0;
+		context.resetAll(); // 중괄호 깊이와 대기 중인 매핑도 파일마다 초기화
+		lexer.reset();
+		pendingRuleValues = new String[rules.getColumns().size()];
+		classRuleValues = new String[rules.getColumns().size()];
 		resetSpecializedState();
 	}
 
@@ -62,71 +160,180 @@ abstract public class BaseJavaParser implements FileParser {
 		String line;
 
 		while ((line = reader.readLine()) != null) {
+			lineCount++;
 			line = line.trim(); // 미리 trim 처리로 중복 호출 방지
 			if (line.isEmpty())
 				continue; // 빈 줄 스킵
 
-			updateContext(line);
-
-			if (JAVADOC_START_PATTERN.matcher(line).matches()) {
-				context.inJavaDoc = true;
-				context.startComment(line);
-			} else if (context.inJavaDoc && JAVADOC_END_PATTERN.matcher(line).matches()) {
-				context.inJavaDoc = false;
-			} else if (context.inJavaDoc && !isJavaDocAnnotation(line)) {
-				context.appendComment(line);
-			} else if (CLASS_PATTERN.matcher(line).matches() && context.braceLevel == 1) {
-				className = extractClassName(line);
-				classComment = context.hasComment() ? extractComment(context.getComment()) : "주석 없음";
-				context.reset();
-			} else if (METHOD_PATTERN.matcher(line).matches()) {
-				String methodName = extractMethodName(line);
-				String methodComment = context.hasComment() ? extractComment(context.getComment()) : "주석 없음";
-				methods.add(new MethodInfo(methodName, methodComment));
-				context.reset();
+			processLine(line);
+		}
+	}
+
+	// 줄 구분과 trim을 바이트 단위로 처리 - 비ASCII 바이트는 0x80 이상이라 공백 판정에 걸리지 않음
+	// 줄 끝은 readLine과 같이 \n, \r, \r\n 모두 한 줄로 셈
+	private void parseBytes(ByteBuffer content) {
+		int limit = content.limit();
+		int pos = content.position();
+
+		while (pos < limit) {
+			int end = pos;
+			while (end < limit) {
+				byte b = content.get(end);
+				if (b == '\n' || b == '\r')
+					break;
+				end++;
+			}
+			lineCount++;
+
+			int start = pos;
+			int stop = end;
+			while (start < stop && (content.get(start) & 0xFF) <= ' ')
+				start++;
+			while (stop > start && (content.get(stop - 1) & 0xFF) <= ' ')
+				stop--;
+			pos = end + 1;
+			if (end < limit && content.get(end) == '\r' && pos < limit && content.get(pos) == '\n')
+				pos++; // \r\n
+
+			if (start == stop)
+				continue; // 빈 줄 스킵
+
+			if (needsDecoding(content, start, stop)) {
+				processLine(decode(content, start, stop));
+			} else {
+				// 어떤 패턴에도 걸리지 않는 줄은 중괄호 수만 반영
+				for (int i = start; i < stop; i++) {
+					byte b = content.get(i);
+					if (b == '{')
+						context.braceLevel++;
+					else if (b == '}')
+						context.braceLevel--;
+				}
+			}
+		}
+	}
+
+	// processLine의 분기 조건이 성립하거나 렉서 상태가 바뀔 가능성이 있는 줄인지
+	private boolean needsDecoding(ByteBuffer content, int start, int stop) {
+		if (context.inJavaDoc || lexer.isInsideMultiLineToken() || indexOf(content, start, stop, CLASS_KEYWORD) >= 0
+				|| rules.mayMatch(content, start, stop)) {
+			return true;
+		}
+
+		for (byte trigger : LEXER_TRIGGERS) {
+			if (indexOf(content, start, stop, trigger) >= 0)
+				return true;
+		}
+
+		if (indexOf(content, start, stop, (byte) '(') >= 0 && indexOf(content, start, stop, (byte) '{') >= 0) {
+			for (byte[] modifier : ACCESS_MODIFIERS) {
+				if (indexOf(content, start, stop, modifier) >= 0)
+					return true;
 			}
+		}
 
-			parseSpecialized(line);
+		for (byte[] marker : specializedLineMarkers()) {
+			if (indexOf(content, start, stop, marker) >= 0)
+				return true;
 		}
+		return false;
 	}
 
-	private boolean isJavaDocAnnotation(String line) {
-		return line.contains("@param") || line.contains("@return") || line.contains("@throws")
-				|| line.contains("@author");
+	private String decode(ByteBuffer content, int start, int stop) {
+		int length = stop - start;
+		if (content.hasArray()) {
+			return new String(content.array(), content.arrayOffset() + start, length, StandardCharsets.UTF_8);
+		}
+
+		if (lineBytes.length < length) {
+			lineBytes = new byte[Math.max(length, lineBytes.length * 2)];
+		}
+		content.get(start, lineBytes, 0, length);
+		return new String(lineBytes, 0, length, StandardCharsets.UTF_8);
 	}
 
-	private void updateContext(String line) {
-		context.braceLevel += countOccurrences(line, '{');
-		context.braceLevel -= countOccurrences(line, '}');
+	private static boolean startsWith(ByteBuffer content, int start, int stop, byte[] prefix) {
+		if (stop - start < prefix.length)
+			return false;
+		for (int i = 0; i < prefix.length; i++) {
+			if (content.get(start + i) != prefix[i])
+				return false;
+		}
+		return true;
 	}
 
-	private int countOccurrences(String str, char ch) {
-		int count = 0;
-		for (int i = 0; i < str.length(); i++) {
-			if (str.charAt(i) == ch)
-				count++;
+	private static int indexOf(ByteBuffer content, int start, int stop, byte target) {
+		for (int i = start; i < stop; i++) {
+			if (content.get(i) == target)
+				return i;
 		}
-		return count;
+		return -1;
 	}
 
-	protected String extractClassName(String line) {
-		String[] parts = line.split("\\s+");
-		for (int i = 0; i < parts.length - 1; i++) {
-			if ("class".equals(parts[i])) {
-				return parts[i + 1].replaceAll("[{<].*", ""); // 제네릭 타입도 제거
+	private static int indexOf(ByteBuffer content, int start, int stop, byte[] needle) {
+		byte first = needle[0];
+		for (int i = start; i <= stop - needle.length; i++) {
+			if (content.get(i) == first && startsWith(content, i, stop, needle))
+				return i;
+		}
+		return -1;
+	}
+
+	private void processLine(String line) {
+		lexer.scan(line, context.braceLevel);
+		context.braceLevel += lexer.getBraceDelta();
+
+		if (!rules.isEmpty() && !context.inJavaDoc && !lexer.isJavadocStart()) {
+			rules.apply(line, pendingRuleValues);
+		}
+
+		if (lexer.isJavadocStart()) {
+			context.inJavaDoc = !lexer.isCommentClosed(); // 한 줄짜리 /** ... */ 는 바로 종료
+			context.startComment(line);
+		} else if (context.inJavaDoc && lexer.isCommentClosed()) {
+			context.inJavaDoc = false;
+		} else if (context.inJavaDoc && !isJavaDocAnnotation(line)) {
+			context.appendComment(line);
+		} else if (lexer.isTopLevelClass()) {
+			// 클래스명과 클래스 주석은 행마다 반복되므로 사전의 공유 인스턴스로 보관
+			className = dictionary.intern(lexer.getClassName());
+			classComment = dictionary.intern(context.hasComment() ? extractComment(context.getComment()) : "주석 없음");
+			classRuleValues = takePendingRuleValues();
+			context.reset();
+		} else if (lexer.isMethodDeclaration()) {
+			String methodName = lexer.getMethodName();
+			String methodComment = context.hasComment() ? extractComment(context.getComment()) : "주석 없음";
+			MethodInfo method = new MethodInfo(dictionary, methodName, methodComment);
+			if (!rules.isEmpty()) {
+				method.setRuleValues(takePendingRuleValues());
 			}
+			methods.add(method);
+			context.reset();
 		}
-		return "Unknown";
+
+		parseSpecialized(line);
+	}
+
+	private String[] takePendingRuleValues() {
+		String[] values = pendingRuleValues;
+		pendingRuleValues = new String[values.length];
+		return values;
 	}
 
-	protected String extractMethodName(String line) {
-		int parenIndex = line.indexOf('(');
-		if (parenIndex > 0) {
-			String beforeParen = line.substring(0, parenIndex).trim();
-			String[] parts = beforeParen.split("\\s+");
-			return parts[parts.length - 1];
+	// 행 끝에 규칙 컬럼 추가 - 메서드 값이 없으면 클래스 값 (예: 클래스에 붙은 @Transactional)
+	protected void appendRuleColumns(RecordSink sink, MethodInfo method) {
+		String[] methodValues = method.getRuleValues();
+		for (int i = 0; i < classRuleValues.length; i++) {
+			String value = methodValues != null && i < methodValues.length ? methodValues[i] : null;
+			if (value == null)
+				value = classRuleValues[i];
+			sink.field(value);
 		}
-		return "Unknown";
+	}
+
+	private boolean isJavaDocAnnotation(String line) {
+		return line.contains("@param") || line.contains("@return") || line.contains("@throws")
+				|| line.contains("@author");
 	}
 
 	protected String extractComment(String comment) {
@@ -138,6 +345,17 @@ abstract public class BaseJavaParser implements FileParser {
 				: formatComment;
 	}
 
+	// 파일 또는 메모리에서 읽기 스트림 생성
+	private interface ReaderSource {
+		BufferedReader open() throws IOException;
+	}
+
+	// 바이트 입력 모드에서 parseSpecialized가 처리해야 하는 줄의 표식 (기본: 없음)
+	// 메서드 선언/클래스/주석/어노테이션 줄은 항상 변환되므로 그 외에 필요한 줄만 지정
+	protected byte[][] specializedLineMarkers() {
+		return NO_MARKERS;
+	}
+
 	protected abstract void resetSpecializedState();
 
 	protected abstract void parseSpecialized(String line);
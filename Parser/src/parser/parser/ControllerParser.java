@@ -2,113 +2,116 @@ package parser.parser;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.StringJoiner;
-import java.util.regex.Pattern;
 
 import parser.data.ControllerMethodInfo;
+import parser.data.HttpMethod;
 import parser.data.MethodInfo;
 import parser.data.ParseResult;
+import parser.data.RecordSink;
 
 public class ControllerParser extends BaseJavaParser {
-	// 정규식 패턴 미리 컴파일
-	private static final Pattern MAPPING_PATTERN = Pattern.compile("@(Request|Get|Post|Put|Delete)Mapping");
-	private static final Pattern URL_PATTERN = Pattern.compile("\"([^\"]+)\"");
+	// 매핑 어노테이션 이름 (렉서가 주석/문자열 밖의 어노테이션만 인식)
+	private static final String[] MAPPING_ANNOTATIONS = { "RequestMapping", "GetMapping", "PostMapping",
+			"PutMapping", "DeleteMapping" };
 
 	private String classCommonURL = "/";
 	private List<ControllerMethodInfo> controllerMethods = new ArrayList<>();
 
 	@Override
 	protected void parseSpecialized(String line) {
-		if (MAPPING_PATTERN.matcher(line).find()) {
-			parseMappingAnnotation(line);
+		if (hasMappingAnnotation()) {
+			parseMappingAnnotation();
 		}
 
 		if (className.isEmpty() && context.hasPendingMapping()) {
-			classCommonURL = context.pendingUrl;
+			classCommonURL = dictionary.intern(context.pendingUrl);
 			context.resetMapping();
-		} else if (isMethodDeclaration(line) && context.hasPendingMapping()) {
+		} else if (lexer.isMethodDeclaration() && context.hasPendingMapping() && !methods.isEmpty()) {
 			MethodInfo target = methods.get(methods.size() - 1);
 
-			ControllerMethodInfo controllerMethod = new ControllerMethodInfo(target.getName(), target.getComment(),
-					context.pendingUrl, context.pendingHttpMethod);
+			ControllerMethodInfo controllerMethod = new ControllerMethodInfo(dictionary, target.getName(),
+					target.getComment(), context.pendingUrl, context.pendingHttpMethod);
+			controllerMethod.setRuleValues(target.getRuleValues());
 
 			controllerMethods.add(controllerMethod);
 			context.resetMapping();
 		}
 	}
 
-	private boolean isMethodDeclaration(String line) {
-		return line.matches(".*(public|private|protected).*\\(.*\\).*\\{.*");
+	private boolean hasMappingAnnotation() {
+		for (String annotation : MAPPING_ANNOTATIONS) {
+			if (lexer.hasAnnotation(annotation))
+				return true;
+		}
+		return false;
 	}
 
-	private void parseMappingAnnotation(String line) {
-		// HTTP 메서드 추출 최적화
-		context.pendingHttpMethod = extractHttpMethod(line);
+	private void parseMappingAnnotation() {
+		// HTTP 메서드 추출
+		context.pendingHttpMethod = extractHttpMethod();
 
-		// URL 추출 최적화
-		String extractedUrl = extractMapping(line);
+		// URL 추출 - 첫 번째 문자열 리터럴
+		String extractedUrl = extractMapping();
 		if (!extractedUrl.isEmpty()) {
 			context.pendingUrl = extractedUrl;
 		}
 	}
 
-	private String extractHttpMethod(String line) {
-		if (line.contains("@GetMapping"))
-			return "GET";
-		if (line.contains("@PostMapping"))
-			return "POST";
-		if (line.contains("@PutMapping"))
-			return "PUT";
-		if (line.contains("@DeleteMapping"))
-			return "DELETE";
-		if (line.contains("@RequestMapping")) {
-			return extractHttpMethodFromRequestMapping(line);
+	private HttpMethod extractHttpMethod() {
+		if (lexer.hasAnnotation("GetMapping"))
+			return HttpMethod.GET;
+		if (lexer.hasAnnotation("PostMapping"))
+			return HttpMethod.POST;
+		if (lexer.hasAnnotation("PutMapping"))
+			return HttpMethod.PUT;
+		if (lexer.hasAnnotation("DeleteMapping"))
+			return HttpMethod.DELETE;
+		if (lexer.hasAnnotation("RequestMapping")) {
+			return extractHttpMethodFromRequestMapping();
 		}
-		return "GET"; // 기본값
+		return HttpMethod.GET; // 기본값
 	}
 
-	private String extractHttpMethodFromRequestMapping(String line) {
-		if (line.contains("RequestMethod.GET"))
-			return "GET";
-		if (line.contains("RequestMethod.POST"))
-			return "POST";
-		if (line.contains("RequestMethod.PUT"))
-			return "PUT";
-		if (line.contains("RequestMethod.DELETE"))
-			return "DELETE";
-		return "GET";
+	// method = RequestMethod.POST 형태 - 코드 영역 식별자로만 판단
+	private HttpMethod extractHttpMethodFromRequestMapping() {
+		if (lexer.hasIdentifier("RequestMethod")) {
+			for (HttpMethod httpMethod : HttpMethod.values()) {
+				if (lexer.hasIdentifier(httpMethod.name()))
+					return httpMethod;
+			}
+		}
+		return HttpMethod.GET;
 	}
 
-	private String extractMapping(String line) {
-		java.util.regex.Matcher matcher = URL_PATTERN.matcher(line);
-		return matcher.find() ? matcher.group(1) : "";
+	private String extractMapping() {
+		String literal = lexer.getFirstStringLiteral();
+		return literal != null ? literal : "";
 	}
 
 	@Override
 	protected void addSpecializedDataToResult(ParseResult result) {
+		// 파서 필드는 다음 파일에서 초기화되므로 복사본 보관
 		List<MethodInfo> methodInfoList = new ArrayList<>(controllerMethods);
 		result.setMethods(methodInfoList);
-		result.addSpecializedData("controllerMethods", controllerMethods);
-		buildOutputContent(result);
+		result.getRecords().reserve(methods.size());
+		emitRecords(result.getRecords());
 	}
 
-	private void buildOutputContent(ParseResult result) {
-		StringBuilder content = new StringBuilder(); // StringBuffer → StringBuilder
-
-		controllerMethods.forEach(method -> {
-			StringJoiner joiner = new StringJoiner("|");
-
-			joiner.add(result.getClassName())
-				  .add(result.getClassComment())
-			      .add(classCommonURL)
-			      .add(method.getUrl())
-				  .add(method.getName())
-			      .add(method.getComment());
-
-			content.append(joiner.toString()).append("\n");
-		});
-
-		result.appendOutput(content.toString());
+	// ParserType.CONTROLLER 출력 컬럼 순서 - 사전 값은 ID로 넘김
+	private void emitRecords(RecordSink sink) {
+		int classNameId = dictionary.id(className);
+		int classCommentId = dictionary.id(classComment);
+		int classCommonUrlId = dictionary.id(classCommonURL);
+		for (ControllerMethodInfo method : controllerMethods) {
+			sink.field(dictionary, classNameId);
+			sink.field(dictionary, classCommentId);
+			sink.field(dictionary, classCommonUrlId);
+			sink.field(dictionary, method.getUrlId());
+			sink.field(dictionary, method.getNameId());
+			sink.field(method.getComment());
+			appendRuleColumns(sink, method);
+			sink.endRecord();
+		}
 	}
 
 	@Override
@@ -1,9 +1,21 @@
 package parser.parser;
 
+import java.nio.ByteBuffer;
 import java.nio.file.Path;
 
 import parser.data.ParseResult;
+import parser.rule.RuleSet;
 
 public interface FileParser {
 	ParseResult parse(Path filePath, String parserType);
+
+	// 이미 읽어 둔 파일 내용으로 파싱 (I/O와 파싱을 분리할 때 사용)
+	ParseResult parse(Path filePath, String parserType, byte[] content);
+
+	// 바이트 단위 입력으로 파싱 (매핑된 버퍼 또는 재사용 버퍼)
+	ParseResult parse(Path filePath, String parserType, ByteBuffer content);
+
+	// 사용자 정의 추출 규칙 지정 (규칙을 지원하지 않는 파서는 무시)
+	default void setRules(RuleSet rules) {
+	}
 }
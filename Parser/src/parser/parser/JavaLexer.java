@@ -0,0 +1,315 @@
+package parser.parser;
+
+// 줄 단위 Java 토큰 스캐너 - 한 번의 순회로 문자열/문자 리터럴/주석/어노테이션/중괄호를 구분
+// 블록 주석과 텍스트 블록 상태는 줄 사이에 유지되며, 결과는 다음 scan 호출 전까지 유효
+// 토큰은 문자열로 만들지 않고 줄 안의 위치로만 기록
+public class JavaLexer {
+	// 줄 사이에 유지되는 상태
+	private boolean inBlockComment = false;
+	private boolean inTextBlock = false;
+
+	// 현재 줄 결과
+	private CharSequence line;
+	private int braceDelta;
+	private boolean javadocStart;
+	private boolean commentClosed;
+	private boolean topLevelClass;
+	private int classNameStart;
+	private int classNameEnd;
+	private boolean methodDeclaration;
+	private int methodNameStart;
+	private int methodNameEnd;
+	private int stringStart;
+	private int stringEnd;
+	private int[] identifiers = new int[64];
+	private int identifierCount;
+	private int[] annotations = new int[8];
+	private int annotationCount;
+
+	// 메서드 선언 판별용 (접근 제어자 → 식별자 → ( ... ) → {)
+	private boolean modifierSeen;
+	private int parenDepth;
+	private boolean paramsClosed;
+	private boolean classKeywordPending;
+	private int lastIdentStart;
+	private int lastIdentEnd;
+	private char lastSignificant;
+
+	public void reset() {
+		inBlockComment = false;
+		inTextBlock = false;
+	}
+
+	// depth: 줄 시작 시점의 중괄호 깊이 (최상위 클래스 판별용)
+	public void scan(CharSequence line, int depth) {
+		this.line = line;
+		resetLine();
+
+		int length = line.length();
+		int i = 0;
+
+		if (inBlockComment) {
+			i = skipBlockComment(0);
+		} else if (inTextBlock) {
+			i = skipTextBlock(0);
+		} else {
+			int first = skipWhitespace(0);
+			javadocStart = startsWith(first, "/**") && !startsWith(first, "/**/");
+		}
+
+		while (i < length) {
+			char ch = line.charAt(i);
+
+			if (Character.isWhitespace(ch)) {
+				i++;
+			} else if (ch == '/' && i + 1 < length && line.charAt(i + 1) == '/') {
+				break; // 줄 주석
+			} else if (ch == '/' && i + 1 < length && line.charAt(i + 1) == '*') {
+				inBlockComment = true;
+				i = skipBlockComment(i + 2);
+			} else if (ch == '"') {
+				i = startsWith(i, "\"\"\"") ? skipTextBlock(i + 3) : skipQuoted(i, '"');
+			} else if (ch == '\'') {
+				i = skipQuoted(i, '\'');
+			} else if (ch == '@' && i + 1 < length && Character.isJavaIdentifierStart(line.charAt(i + 1))) {
+				int end = identifierEnd(i + 1);
+				annotations = add(annotations, annotationCount++, i + 1, end);
+				lastSignificant = '@';
+				i = end;
+			} else if (Character.isJavaIdentifierStart(ch)) {
+				int end = identifierEnd(i);
+				onIdentifier(i, end, depth + braceDelta);
+				i = end;
+			} else {
+				onSymbol(ch);
+				i++;
+			}
+		}
+	}
+
+	private void resetLine() {
+		braceDelta = 0;
+		javadocStart = false;
+		commentClosed = false;
+		topLevelClass = false;
+		classNameStart = -1;
+		classNameEnd = -1;
+		methodDeclaration = false;
+		methodNameStart = -1;
+		methodNameEnd = -1;
+		stringStart = -1;
+		stringEnd = -1;
+		identifierCount = 0;
+		annotationCount = 0;
+		modifierSeen = false;
+		parenDepth = 0;
+		paramsClosed = false;
+		classKeywordPending = false;
+		lastIdentStart = -1;
+		lastIdentEnd = -1;
+		lastSignificant = 0;
+	}
+
+	private void onIdentifier(int start, int end, int depth) {
+		identifiers = add(identifiers, identifierCount++, start, end);
+
+		if (classKeywordPending) {
+			classKeywordPending = false;
+			classNameStart = start;
+			classNameEnd = end;
+			topLevelClass = depth == 0;
+		} else if (lastSignificant != '.' && regionEquals(start, end, "class")) {
+			classKeywordPending = true; // Foo.class 는 제외
+		} else if (regionEquals(start, end, "public") || regionEquals(start, end, "private")
+				|| regionEquals(start, end, "protected")) {
+			modifierSeen = true;
+		}
+
+		lastIdentStart = start;
+		lastIdentEnd = end;
+		lastSignificant = 'a';
+	}
+
+	private void onSymbol(char ch) {
+		switch (ch) {
+		case '{':
+			braceDelta++;
+			if (paramsClosed && methodNameStart >= 0) {
+				methodDeclaration = true;
+			}
+			break;
+		case '}':
+			braceDelta--;
+			break;
+		case '(':
+			// 접근 제어자 뒤 첫 "식별자(" 를 메서드 이름으로
+			if (parenDepth == 0 && modifierSeen && methodNameStart < 0 && lastSignificant == 'a') {
+				methodNameStart = lastIdentStart;
+				methodNameEnd = lastIdentEnd;
+			}
+			parenDepth++;
+			break;
+		case ')':
+			if (parenDepth > 0 && --parenDepth == 0 && methodNameStart >= 0) {
+				paramsClosed = true;
+			}
+			break;
+		default:
+			break;
+		}
+		lastSignificant = ch;
+	}
+
+	// 블록 주석 끝(*/) 다음 위치, 줄 안에서 끝나지 않으면 줄 길이
+	private int skipBlockComment(int from) {
+		int length = line.length();
+		for (int i = from; i + 1 < length; i++) {
+			if (line.charAt(i) == '*' && line.charAt(i + 1) == '/') {
+				inBlockComment = false;
+				commentClosed = true;
+				return i + 2;
+			}
+		}
+		return length;
+	}
+
+	private int skipTextBlock(int from) {
+		inTextBlock = true;
+		int length = line.length();
+		for (int i = from; i < length; i++) {
+			char ch = line.charAt(i);
+			if (ch == '\\') {
+				i++;
+			} else if (ch == '"' && startsWith(i, "\"\"\"")) {
+				inTextBlock = false;
+				return i + 3;
+			}
+		}
+		return length;
+	}
+
+	// 문자열/문자 리터럴 끝 다음 위치 (닫히지 않으면 줄 끝까지)
+	private int skipQuoted(int start, char quote) {
+		int length = line.length();
+		int i = start + 1;
+		while (i < length) {
+			char ch = line.charAt(i);
+			if (ch == '\\') {
+				i += 2;
+				continue;
+			}
+			if (ch == quote) {
+				break;
+			}
+			i++;
+		}
+
+		if (quote == '"' && stringStart < 0) {
+			stringStart = start + 1;
+			stringEnd = Math.min(i, length);
+		}
+		lastSignificant = quote;
+		return Math.min(i + 1, length);
+	}
+
+	private int identifierEnd(int start) {
+		int i = start + 1;
+		while (i < line.length() && Character.isJavaIdentifierPart(line.charAt(i))) {
+			i++;
+		}
+		return i;
+	}
+
+	private int skipWhitespace(int from) {
+		int i = from;
+		while (i < line.length() && Character.isWhitespace(line.charAt(i))) {
+			i++;
+		}
+		return i;
+	}
+
+	private boolean startsWith(int from, String prefix) {
+		if (from + prefix.length() > line.length())
+			return false;
+		for (int i = 0; i < prefix.length(); i++) {
+			if (line.charAt(from + i) != prefix.charAt(i))
+				return false;
+		}
+		return true;
+	}
+
+	private boolean regionEquals(int start, int end, String word) {
+		return end - start == word.length() && startsWith(start, word);
+	}
+
+	private static int[] add(int[] spans, int index, int start, int end) {
+		if (spans.length < (index + 1) * 2) {
+			int[] grown = new int[spans.length * 2];
+			System.arraycopy(spans, 0, grown, 0, spans.length);
+			spans = grown;
+		}
+		spans[index * 2] = start;
+		spans[index * 2 + 1] = end;
+		return spans;
+	}
+
+	// 다음 줄이 주석/텍스트 블록 안에서 시작하는지 (바이트 입력 모드에서 줄을 건너뛸 수 있는지 판단)
+	public boolean isInsideMultiLineToken() {
+		return inBlockComment || inTextBlock;
+	}
+
+	// 문자열/주석을 제외한 코드 중괄호 증감
+	public int getBraceDelta() {
+		return braceDelta;
+	}
+
+	// 줄이 /** 로 시작
+	public boolean isJavadocStart() {
+		return javadocStart;
+	}
+
+	// 이 줄에서 블록 주석이 닫힘
+	public boolean isCommentClosed() {
+		return commentClosed;
+	}
+
+	// 중괄호 깊이 0에서 선언된 클래스
+	public boolean isTopLevelClass() {
+		return topLevelClass;
+	}
+
+	public String getClassName() {
+		return classNameStart < 0 ? null : line.subSequence(classNameStart, classNameEnd).toString();
+	}
+
+	// 접근 제어자, 식별자(, ), { 순서로 나온 줄
+	public boolean isMethodDeclaration() {
+		return methodDeclaration;
+	}
+
+	public String getMethodName() {
+		return methodNameStart < 0 ? null : line.subSequence(methodNameStart, methodNameEnd).toString();
+	}
+
+	// 첫 번째 문자열 리터럴 내용 (따옴표 제외), 없으면 null
+	public String getFirstStringLiteral() {
+		return stringStart < 0 ? null : line.subSequence(stringStart, stringEnd).toString();
+	}
+
+	public boolean hasAnnotation(String name) {
+		for (int i = 0; i < annotationCount; i++) {
+			if (regionEquals(annotations[i * 2], annotations[i * 2 + 1], name))
+				return true;
+		}
+		return false;
+	}
+
+	// 코드 영역의 식별자만 검사 (문자열/주석 속 단어는 제외)
+	public boolean hasIdentifier(String name) {
+		for (int i = 0; i < identifierCount; i++) {
+			if (regionEquals(identifiers[i * 2], identifiers[i * 2 + 1], name))
+				return true;
+		}
+		return false;
+	}
+}
@@ -8,14 +8,22 @@ public class ParserFactory {
 	// 파서 인스턴스 캐싱
 	private static final Map<ParserType, FileParser> PARSER_CACHE = new EnumMap<>(ParserType.class);
 
+	// 병렬 모드용 스레드 한정 파서 (파서가 상태를 필드로 가지므로 스레드 간 공유 금지)
+	private static final ThreadLocal<Map<ParserType, FileParser>> THREAD_PARSERS = ThreadLocal
+			.withInitial(() -> new EnumMap<>(ParserType.class));
+
 	private ParserFactory() {
 		// 유틸리티 클래스이므로 인스턴스 생성 방지
 	}
 
-	// 파일 경로로부터 적절한 파서 반환
+	// 파일 경로로부터 적절한 파서 반환 (기본 분류 규칙)
 	public static FileParser getParser(Path filePath) {
-		ParserType type = ParserType.fromPath(filePath.toString());
-		return getParser(type);
+		return getParser(filePath, PathClassifier.defaults());
+	}
+
+	// 설정된 분류 규칙으로 파일 경로의 파서 반환
+	public static FileParser getParser(Path filePath, PathClassifier classifier) {
+		return getParser(classifier.classify(filePath));
 	}
 
 	// 파서 타입으로부터 파서 반환 (캐싱 적용)
@@ -23,6 +31,16 @@ public class ParserFactory {
 		return PARSER_CACHE.computeIfAbsent(type, ParserFactory::createParser);
 	}
 
+	// 현재 스레드 전용 파서 반환 (워커 스레드마다 별도 인스턴스)
+	public static FileParser getThreadLocalParser(ParserType type) {
+		return THREAD_PARSERS.get().computeIfAbsent(type, ParserFactory::createParser);
+	}
+
+	// 캐시를 거치지 않은 새 파서 인스턴스 반환
+	public static FileParser newParser(ParserType type) {
+		return createParser(type);
+	}
+
 	// 파서 타입에 따른 파서 인스턴스 생성
 	private static FileParser createParser(ParserType type) {
 		switch (type) {
@@ -41,5 +59,6 @@ public class ParserFactory {
 	// 테스트나 메모리 정리용
 	public static void clearCache() {
 		PARSER_CACHE.clear();
+		THREAD_PARSERS.remove();
 	}
 }
@@ -1,6 +1,7 @@
 package parser.parser;
 
 import java.util.Arrays;
+import java.util.List;
 
 public enum ParserType {
 	CONTROLLER("controller"), 
@@ -19,12 +20,26 @@ public enum ParserType {
 		return pathKeyword;
 	}
 
-	// 경로에서 파서 타입 결정 (단순 판별만)
+	// 경로에서 파서 타입 결정 (기본 분류 규칙 - 설정된 규칙은 ScanOptions.getClassifier 사용)
 	public static ParserType fromPath(String path) {
-		String lowerPath = path.toLowerCase();
-		return Arrays.stream(values())
-				.filter(type -> !type.pathKeyword.isEmpty() && lowerPath.contains(type.pathKeyword)).findFirst()
-				.orElse(GENERAL);
+		return PathClassifier.defaults().classify(path);
+	}
+
+	// 경로 키워드(출력 타입)에 해당하는 파서 타입 - 없으면 GENERAL
+	public static ParserType fromPathKeyword(String pathKeyword) {
+		return Arrays.stream(values()).filter(type -> type != GENERAL && type.pathKeyword.equals(pathKeyword))
+				.findFirst().orElse(GENERAL);
+	}
+
+	// 출력 행의 기본 컬럼 이름 (ControllerParser/ServiceParser의 buildOutputContent 순서, 규칙 컬럼 제외)
+	public List<String> getOutputColumns() {
+		if (this == CONTROLLER) {
+			return List.of("className", "classComment", "classUrl", "methodUrl", "methodName", "methodComment");
+		}
+		if (isServiceType()) {
+			return List.of("methodId", "className", "classComment", "methodName", "methodComment");
+		}
+		return List.of();
 	}
 
 	// 모든 경로 키워드 반환
@@ -0,0 +1,304 @@
+package parser.parser;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 파일 경로 → 파서 타입 분류기 - 규칙을 한 번 컴파일해 두고 경로마다 재사용
+// 규칙 파일 형식 (한 줄에 하나, #으로 시작하면 주석, 위에 있는 규칙이 우선):
+//   segment 이름 = 타입    (디렉터리 이름이 정확히 일치, 대소문자 무시)
+//   suffix 접미사 = 타입   (확장자를 뺀 파일 이름이 접미사로 끝남, 대소문자 구분)
+//   glob 패턴 = 타입       (전체 경로에 대한 glob)
+// 타입은 출력 타입 키워드(controller, cbc, bc, qc) 또는 general(파싱 제외)
+// 예) segment api = controller
+//     suffix RestController = controller
+//     glob **/legacy/** = general
+//
+// 디렉터리 이름 규칙은 트라이 하나로 모아 디렉터리 경로를 한 번만 훑고, 결과는 상위 디렉터리별로 기억
+// 같은 패키지의 파일은 캐시 조회 한 번 + 디렉터리 규칙보다 우선인 파일 규칙만 검사
+public final class PathClassifier {
+	private static final String GENERAL_KEYWORD = "general";
+	private static final int NO_MATCH = Integer.MAX_VALUE;
+	// 디렉터리 캐시 상한 - 감시 모드처럼 오래 도는 프로세스에서 지나간 디렉터리가 계속 쌓이지 않도록
+	private static final int MAX_CACHED_DIRECTORIES = 4096;
+
+	// 기본 규칙 - 패키지 디렉터리 이름이 우선이고, 그 밖의 위치는 클래스 이름 접미사로 판별
+	// (접미사는 대소문자를 구분하므로 OrderCbcImpl이 BcImpl에 걸리지 않음)
+	private static final List<String> DEFAULT_RULES = List.of(
+			"segment controller = controller",
+			"segment cbc = cbc",
+			"segment bc = bc",
+			"segment qc = qc",
+			"suffix Controller = controller",
+			"suffix CbcImpl = cbc",
+			"suffix Cbc = cbc",
+			"suffix BcImpl = bc",
+			"suffix Bc = bc",
+			"suffix QcImpl = qc",
+			"suffix Qc = qc");
+
+	private static final class DefaultHolder {
+		private static final PathClassifier DEFAULT = parse(DEFAULT_RULES);
+	}
+
+	private final List<Rule> rules;
+	private final SegmentTrie segments;
+	private final Rule[] fileRules; // suffix/glob 규칙 (우선순위 순)
+	private final ConcurrentHashMap<String, Integer> directoryCache = new ConcurrentHashMap<>();
+	// 마지막으로 판별한 디렉터리 - 정렬된 탐색 순서에서는 연속된 파일이 같은 디렉터리라 문자열을 만들지 않고 재사용
+	private volatile DirectoryDecision lastDirectory;
+
+	private PathClassifier(List<Rule> rules) {
+		this.rules = List.copyOf(rules);
+		this.segments = new SegmentTrie();
+		List<Rule> files = new ArrayList<>();
+		for (Rule rule : this.rules) {
+			if (rule.kind == Kind.SEGMENT) {
+				segments.add(rule.pattern.toLowerCase(Locale.ROOT), rule.priority);
+			} else {
+				files.add(rule);
+			}
+		}
+		this.fileRules = files.toArray(new Rule[0]);
+	}
+
+	public static PathClassifier defaults() {
+		return DefaultHolder.DEFAULT;
+	}
+
+	public static PathClassifier load(Path ruleFile) throws IOException {
+		return parse(Files.readAllLines(ruleFile, StandardCharsets.UTF_8));
+	}
+
+	public static PathClassifier parse(List<String> lines) {
+		List<Rule> rules = new ArrayList<>();
+
+		for (int i = 0; i < lines.size(); i++) {
+			String line = lines.get(i).trim();
+			if (line.isEmpty() || line.startsWith("#"))
+				continue;
+
+			int space = line.indexOf(' ');
+			int equals = line.lastIndexOf('=');
+			if (space <= 0 || equals <= space) {
+				throw new IllegalArgumentException("분류 규칙 형식 오류 (" + (i + 1) + "행): " + line);
+			}
+			Kind kind = Kind.of(line.substring(0, space));
+			String pattern = line.substring(space + 1, equals).trim();
+			String typeKeyword = line.substring(equals + 1).trim();
+			if (kind == null || pattern.isEmpty()) {
+				throw new IllegalArgumentException("분류 규칙 형식 오류 (" + (i + 1) + "행): " + line);
+			}
+			if (kind == Kind.SEGMENT && (pattern.indexOf('/') >= 0 || pattern.indexOf('\\') >= 0)) {
+				throw new IllegalArgumentException("디렉터리 이름에 경로 구분자 포함 (" + (i + 1) + "행): " + line);
+			}
+
+			ParserType type = typeOf(typeKeyword);
+			if (type == null) {
+				throw new IllegalArgumentException("알 수 없는 파서 타입 (" + (i + 1) + "행): " + typeKeyword);
+			}
+			rules.add(new Rule(rules.size(), kind, pattern, type));
+		}
+
+		return new PathClassifier(rules);
+	}
+
+	private static ParserType typeOf(String keyword) {
+		if (keyword.equals(GENERAL_KEYWORD)) {
+			return ParserType.GENERAL;
+		}
+		ParserType type = ParserType.fromPathKeyword(keyword);
+		return type != ParserType.GENERAL ? type : null;
+	}
+
+	public ParserType classify(Path path) {
+		return classify(path.toString());
+	}
+
+	// 디렉터리 규칙은 상위 디렉터리별로 기억, 그보다 우선인 파일 규칙만 파일마다 검사
+	public ParserType classify(String path) {
+		int nameStart = lastSeparator(path) + 1;
+		int directoryRule = directoryRule(path, nameStart);
+
+		Path parsed = null;
+		for (Rule rule : fileRules) {
+			if (rule.priority > directoryRule)
+				break;
+			if (rule.kind == Kind.SUFFIX ? matchesSuffix(path, nameStart, rule.pattern)
+					: rule.glob.matches(parsed != null ? parsed : (parsed = Paths.get(path)))) {
+				return rule.type;
+			}
+		}
+		return directoryRule != NO_MATCH ? rules.get(directoryRule).type : ParserType.GENERAL;
+	}
+
+	private int directoryRule(String path, int nameStart) {
+		if (segments.isEmpty() || nameStart == 0)
+			return NO_MATCH;
+
+		DirectoryDecision last = lastDirectory;
+		if (last != null && last.directory.length() == nameStart - 1 && path.startsWith(last.directory)) {
+			return last.rule;
+		}
+
+		String directory = path.substring(0, nameStart - 1);
+		Integer cached = directoryCache.get(directory);
+		if (cached == null) {
+			cached = segments.bestMatch(directory);
+			if (directoryCache.size() >= MAX_CACHED_DIRECTORIES) {
+				directoryCache.clear(); // 상한에 닿으면 비우고 다시 채움 (판별 결과는 규칙만으로 다시 계산 가능)
+			}
+			directoryCache.put(directory, cached);
+		}
+		lastDirectory = new DirectoryDecision(directory, cached);
+		return cached;
+	}
+
+	// 확장자를 뺀 파일 이름이 접미사로 끝나는지 (파일 이름 문자열을 만들지 않음)
+	private static boolean matchesSuffix(String path, int nameStart, String suffix) {
+		int dot = path.lastIndexOf('.');
+		int nameEnd = dot > nameStart ? dot : path.length();
+		int start = nameEnd - suffix.length();
+		return start >= nameStart && path.startsWith(suffix, start);
+	}
+
+	private static int lastSeparator(String path) {
+		return Math.max(path.lastIndexOf('/'), path.lastIndexOf('\\'));
+	}
+
+	public List<String> getRules() {
+		return rules.stream().map(Rule::toString).toList();
+	}
+
+	public int getCachedDirectories() {
+		return directoryCache.size();
+	}
+
+	@Override
+	public String toString() {
+		return "경로 분류 규칙 " + rules.size() + "개 (캐시된 디렉터리 " + directoryCache.size() + "개)";
+	}
+
+	private enum Kind {
+		SEGMENT, SUFFIX, GLOB;
+
+		private static Kind of(String name) {
+			for (Kind kind : values()) {
+				if (kind.name().equalsIgnoreCase(name))
+					return kind;
+			}
+			return null;
+		}
+	}
+
+	private static final class DirectoryDecision {
+		private final String directory;
+		private final int rule;
+
+		private DirectoryDecision(String directory, int rule) {
+			this.directory = directory;
+			this.rule = rule;
+		}
+	}
+
+	private static final class Rule {
+		private final int priority; // 규칙 파일 순서 (작을수록 우선)
+		private final Kind kind;
+		private final String pattern;
+		private final ParserType type;
+		private final PathMatcher glob; // glob 규칙이 아니면 null
+
+		private Rule(int priority, Kind kind, String pattern, ParserType type) {
+			this.priority = priority;
+			this.kind = kind;
+			this.pattern = pattern;
+			this.type = type;
+			this.glob = kind == Kind.GLOB ? FileSystems.getDefault().getPathMatcher("glob:" + pattern) : null;
+		}
+
+		@Override
+		public String toString() {
+			return kind.name().toLowerCase(Locale.ROOT) + " " + pattern + " = "
+					+ (type == ParserType.GENERAL ? GENERAL_KEYWORD : type.getPathKeyword());
+		}
+	}
+
+	// 디렉터리 이름(소문자) 트라이 - 경로의 각 구간을 문자 단위로 따라가 구간 끝에서 규칙 번호 확인
+	private static final class SegmentTrie {
+		private char[][] labels = new char[1][0]; // 노드별 자식 문자
+		private int[][] children = new int[1][0]; // 노드별 자식 노드
+		private int[] terminal = { NO_MATCH }; // 노드에서 끝나는 규칙 (같은 이름이면 앞 규칙)
+		private int nodes = 1;
+
+		private void add(String segment, int priority) {
+			int node = 0;
+			for (int i = 0; i < segment.length(); i++) {
+				node = childOrCreate(node, segment.charAt(i));
+			}
+			terminal[node] = Math.min(terminal[node], priority);
+		}
+
+		private boolean isEmpty() {
+			return nodes == 1;
+		}
+
+		// 경로 구간 중 일치하는 규칙의 가장 앞 번호 (없으면 NO_MATCH)
+		private int bestMatch(String directory) {
+			int best = NO_MATCH;
+			int node = 0;
+			for (int i = 0; i <= directory.length(); i++) {
+				char c = i < directory.length() ? directory.charAt(i) : '/';
+				if (c == '/' || c == '\\') {
+					if (node >= 0) {
+						best = Math.min(best, terminal[node]);
+					}
+					node = 0;
+				} else if (node >= 0) {
+					node = child(node, Character.toLowerCase(c));
+				}
+			}
+			return best;
+		}
+
+		private int child(int node, char c) {
+			char[] nodeLabels = labels[node];
+			for (int i = 0; i < nodeLabels.length; i++) {
+				if (nodeLabels[i] == c)
+					return children[node][i];
+			}
+			return -1;
+		}
+
+		private int childOrCreate(int node, char c) {
+			int existing = child(node, c);
+			if (existing >= 0)
+				return existing;
+
+			if (nodes == labels.length) {
+				labels = Arrays.copyOf(labels, nodes * 2);
+				children = Arrays.copyOf(children, nodes * 2);
+				terminal = Arrays.copyOf(terminal, nodes * 2);
+			}
+			int created = nodes++;
+			labels[created] = new char[0];
+			children[created] = new int[0];
+			terminal[created] = NO_MATCH;
+
+			int size = labels[node].length;
+			labels[node] = Arrays.copyOf(labels[node], size + 1);
+			children[node] = Arrays.copyOf(children[node], size + 1);
+			labels[node][size] = c;
+			children[node][size] = created;
+			return created;
+		}
+	}
+}
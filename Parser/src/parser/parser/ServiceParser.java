@@ -1,8 +1,8 @@
 package parser.parser;
 
-import java.util.StringJoiner;
-
+import parser.data.MethodInfo;
 import parser.data.ParseResult;
+import parser.data.RecordSink;
 
 public class ServiceParser extends BaseJavaParser {
 
@@ -13,25 +13,23 @@ public class ServiceParser extends BaseJavaParser {
 
 	@Override
 	protected void addSpecializedDataToResult(ParseResult result) {
-		buildOutputContent(result);
+		result.getRecords().reserve(methods.size());
+		emitRecords(result.getRecords());
 	}
 
-	private void buildOutputContent(ParseResult result) {
-		StringBuilder content = new StringBuilder(); // StringBuffer → StringBuilder
-
-		result.getMethods().forEach(method -> {
-			StringJoiner joiner = new StringJoiner("|");
-
-			joiner.add(result.getClassName() + "." + method.getName())
-				  .add(result.getClassName())
-				  .add(result.getClassComment())
-				  .add(method.getName())
-				  .add(method.getComment());
-
-			content.append(joiner.toString()).append("\n");
-		});
-
-		result.appendOutput(content.toString());
+	// 서비스 타입 출력 컬럼 순서 (methodId = 클래스명.메서드명) - 사전 값은 ID로 넘김
+	private void emitRecords(RecordSink sink) {
+		int classNameId = dictionary.id(className);
+		int classCommentId = dictionary.id(classComment);
+		for (MethodInfo method : methods) {
+			sink.field(className, '.', method.getName());
+			sink.field(dictionary, classNameId);
+			sink.field(dictionary, classCommentId);
+			sink.field(dictionary, method.getNameId());
+			sink.field(method.getComment());
+			appendRuleColumns(sink, method);
+			sink.endRecord();
+		}
 	}
 
 	@Override
@@ -0,0 +1,58 @@
+package parser.parser;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import parser.metrics.FileReadEvent;
+
+// 바이트 입력 모드용 파일 로더 - 작은 파일은 스레드별 재사용 직접 버퍼로 읽고, 큰 파일은 메모리 매핑
+// 반환된 버퍼는 같은 스레드에서 다음 load 호출 전까지만 유효
+public class SourceBuffers {
+	private static final int MAP_THRESHOLD = 1024 * 1024;
+	private static final int INITIAL_CAPACITY = 64 * 1024;
+
+	private static final ThreadLocal<ByteBuffer> READ_BUFFER = ThreadLocal
+			.withInitial(() -> ByteBuffer.allocateDirect(INITIAL_CAPACITY));
+
+	private SourceBuffers() {
+		// 유틸리티 클래스이므로 인스턴스 생성 방지
+	}
+
+	public static ByteBuffer load(Path filePath) throws IOException {
+		FileReadEvent event = new FileReadEvent();
+		event.begin();
+		ByteBuffer buffer = read(filePath);
+		event.end();
+		if (event.shouldCommit()) {
+			event.path = filePath.toString();
+			event.size = buffer.remaining();
+			event.commit();
+		}
+		return buffer;
+	}
+
+	private static ByteBuffer read(Path filePath) throws IOException {
+		try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+			long size = channel.size();
+			if (size > MAP_THRESHOLD) {
+				return channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+			}
+
+			ByteBuffer buffer = READ_BUFFER.get();
+			if (buffer.capacity() < size) {
+				buffer = ByteBuffer.allocateDirect(Math.max((int) size, buffer.capacity() * 2));
+				READ_BUFFER.set(buffer);
+			}
+
+			buffer.clear();
+			while (channel.read(buffer) > 0 && buffer.hasRemaining()) {
+				// 파일 끝 또는 버퍼가 찰 때까지 읽음
+			}
+			buffer.flip();
+			return buffer;
+		}
+	}
+}
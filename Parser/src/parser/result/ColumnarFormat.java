@@ -0,0 +1,77 @@
+package parser.result;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+// 컬럼 블록 출력 형식(type.pcol) 공통 상수와 가변 길이 정수/문자열 인코딩
+//
+// 파일 = 헤더 + 블록들 + 푸터 + 푸터 길이(4바이트) + MAGIC
+//   헤더: MAGIC, VERSION
+//   블록: 컬럼 청크를 컬럼 순서대로 이어 붙임
+//     청크: 인코딩 1바이트 + 내용
+//       PLAIN: 행마다 문자열
+//       DICTIONARY: 사전 크기, 사전 문자열들, 행마다 사전 번호
+//   푸터: 컬럼 수, 컬럼 이름들, 블록 수, 블록마다 (시작 위치, 행 수, 컬럼별 청크 길이)
+//   - 읽을 때 푸터만 보고 필요한 컬럼 청크 위치를 계산해 그 부분만 읽음
+// 정수는 모두 7비트 가변 길이(varint), 문자열은 바이트 길이 + UTF-8
+final class ColumnarFormat {
+	static final byte[] MAGIC = { 'P', 'C', 'O', 'L' };
+	static final byte VERSION = 1;
+	static final String SUFFIX = ".pcol";
+
+	static final byte PLAIN = 0;
+	static final byte DICTIONARY = 1;
+
+	// 푸터 길이 + MAGIC
+	static final int TRAILER_SIZE = 4 + MAGIC.length;
+
+	private ColumnarFormat() {
+		// 유틸리티 클래스이므로 인스턴스 생성 방지
+	}
+
+	static void writeVarint(ByteArrayOutputStream out, long value) {
+		while ((value & ~0x7FL) != 0) {
+			out.write((int) ((value & 0x7F) | 0x80));
+			value >>>= 7;
+		}
+		out.write((int) value);
+	}
+
+	static int varintSize(long value) {
+		int size = 1;
+		while ((value & ~0x7FL) != 0) {
+			size++;
+			value >>>= 7;
+		}
+		return size;
+	}
+
+	static void writeString(ByteArrayOutputStream out, byte[] utf8) {
+		writeVarint(out, utf8.length);
+		out.write(utf8, 0, utf8.length);
+	}
+
+	static long readVarint(ByteBuffer in) {
+		long value = 0;
+		for (int shift = 0; shift < 64; shift += 7) {
+			byte b = in.get();
+			value |= (long) (b & 0x7F) << shift;
+			if (b >= 0) {
+				return value;
+			}
+		}
+		throw new IllegalStateException("잘못된 varint");
+	}
+
+	static int readInt(ByteBuffer in) {
+		return Math.toIntExact(readVarint(in));
+	}
+
+	static String readString(ByteBuffer in) {
+		int length = readInt(in);
+		String value = new String(in.array(), in.arrayOffset() + in.position(), length, StandardCharsets.UTF_8);
+		in.position(in.position() + length);
+		return value;
+	}
+}
@@ -0,0 +1,176 @@
+package parser.result;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+// 컬럼 블록 출력(type.pcol) 읽기 - 열 때 푸터만 읽고, 컬럼을 요청하면 해당 컬럼 청크만 파일에서 읽음
+// 사전 인코딩 청크는 사전 문자열을 한 번만 만들고 행마다 같은 인스턴스를 공유
+public class ColumnarResultReader implements AutoCloseable {
+	private final Path file;
+	private final FileChannel channel;
+	private final List<String> columns;
+	private final long[] blockOffsets;
+	private final int[] blockRows;
+	private final long[][] chunkLengths; // 블록 → 컬럼별 청크 길이
+	private final long rowCount;
+
+	public ColumnarResultReader(Path file) throws IOException {
+		this.file = file;
+		this.channel = FileChannel.open(file, StandardOpenOption.READ);
+		try {
+			ByteBuffer header = read(0, ColumnarFormat.MAGIC.length + 1);
+			checkMagic(header);
+			if (header.get() != ColumnarFormat.VERSION) {
+				throw new IOException("지원하지 않는 컬럼 출력 버전: " + file);
+			}
+
+			long size = channel.size();
+			ByteBuffer trailer = read(size - ColumnarFormat.TRAILER_SIZE, ColumnarFormat.TRAILER_SIZE);
+			int footerSize = trailer.getInt();
+			checkMagic(trailer);
+
+			ByteBuffer footer = read(size - ColumnarFormat.TRAILER_SIZE - footerSize, footerSize);
+			int columnCount = ColumnarFormat.readInt(footer);
+			List<String> names = new ArrayList<>(columnCount);
+			for (int i = 0; i < columnCount; i++) {
+				names.add(ColumnarFormat.readString(footer));
+			}
+			this.columns = List.copyOf(names);
+
+			int blockCount = ColumnarFormat.readInt(footer);
+			this.blockOffsets = new long[blockCount];
+			this.blockRows = new int[blockCount];
+			this.chunkLengths = new long[blockCount][columnCount];
+			long rows = 0;
+			for (int block = 0; block < blockCount; block++) {
+				blockOffsets[block] = ColumnarFormat.readVarint(footer);
+				blockRows[block] = ColumnarFormat.readInt(footer);
+				for (int column = 0; column < columnCount; column++) {
+					chunkLengths[block][column] = ColumnarFormat.readVarint(footer);
+				}
+				rows += blockRows[block];
+			}
+			this.rowCount = rows;
+		} catch (IOException | RuntimeException e) {
+			channel.close();
+			throw e instanceof IOException ? (IOException) e : new IOException("손상된 컬럼 출력: " + file, e);
+		}
+	}
+
+	public List<String> getColumns() {
+		return columns;
+	}
+
+	public long getRowCount() {
+		return rowCount;
+	}
+
+	public int getBlockCount() {
+		return blockOffsets.length;
+	}
+
+	// 컬럼 하나의 전체 값 (행 순서)
+	public List<String> readColumn(String column) throws IOException {
+		int index = columnIndex(column);
+		List<String> values = new ArrayList<>(Math.toIntExact(rowCount));
+		for (int block = 0; block < blockOffsets.length; block++) {
+			values.addAll(Arrays.asList(readChunk(block, index)));
+		}
+		return values;
+	}
+
+	// 지정한 컬럼들만 행 단위로 (지정하지 않으면 전체 컬럼)
+	public List<String[]> readRows(String... projection) throws IOException {
+		int[] indexes = projection.length == 0 ? allColumns()
+				: Arrays.stream(projection).mapToInt(this::columnIndex).toArray();
+
+		List<String[]> rows = new ArrayList<>(Math.toIntExact(rowCount));
+		for (int block = 0; block < blockOffsets.length; block++) {
+			String[][] chunks = new String[indexes.length][];
+			for (int i = 0; i < indexes.length; i++) {
+				chunks[i] = readChunk(block, indexes[i]);
+			}
+			for (int row = 0; row < blockRows[block]; row++) {
+				String[] values = new String[indexes.length];
+				for (int i = 0; i < indexes.length; i++) {
+					values[i] = chunks[i][row];
+				}
+				rows.add(values);
+			}
+		}
+		return rows;
+	}
+
+	private int[] allColumns() {
+		int[] indexes = new int[columns.size()];
+		Arrays.setAll(indexes, i -> i);
+		return indexes;
+	}
+
+	private int columnIndex(String column) {
+		int index = columns.indexOf(column);
+		if (index < 0) {
+			throw new IllegalArgumentException("알 수 없는 컬럼: " + column + " (" + file.getFileName() + ")");
+		}
+		return index;
+	}
+
+	private String[] readChunk(int block, int column) throws IOException {
+		long offset = blockOffsets[block];
+		for (int i = 0; i < column; i++) {
+			offset += chunkLengths[block][i];
+		}
+
+		ByteBuffer chunk = read(offset, Math.toIntExact(chunkLengths[block][column]));
+		String[] values = new String[blockRows[block]];
+		byte encoding = chunk.get();
+		if (encoding == ColumnarFormat.DICTIONARY) {
+			String[] dictionary = new String[ColumnarFormat.readInt(chunk)];
+			for (int i = 0; i < dictionary.length; i++) {
+				dictionary[i] = ColumnarFormat.readString(chunk);
+			}
+			for (int row = 0; row < values.length; row++) {
+				values[row] = dictionary[ColumnarFormat.readInt(chunk)];
+			}
+		} else if (encoding == ColumnarFormat.PLAIN) {
+			for (int row = 0; row < values.length; row++) {
+				values[row] = ColumnarFormat.readString(chunk);
+			}
+		} else {
+			throw new IOException("알 수 없는 청크 인코딩 " + encoding + ": " + file);
+		}
+		return values;
+	}
+
+	private ByteBuffer read(long position, int length) throws IOException {
+		if (position < 0 || length < 0) {
+			throw new IOException("컬럼 출력 형식이 아닙니다: " + file);
+		}
+		ByteBuffer buffer = ByteBuffer.allocate(length);
+		while (buffer.hasRemaining()) {
+			if (channel.read(buffer, position + buffer.position()) < 0) {
+				throw new IOException("컬럼 출력이 잘렸습니다: " + file);
+			}
+		}
+		return buffer.flip();
+	}
+
+	private void checkMagic(ByteBuffer buffer) throws IOException {
+		for (byte expected : ColumnarFormat.MAGIC) {
+			if (buffer.get() != expected) {
+				throw new IOException("컬럼 출력 형식이 아닙니다: " + file);
+			}
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		channel.close();
+	}
+}
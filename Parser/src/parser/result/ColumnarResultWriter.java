@@ -0,0 +1,425 @@
+package parser.result;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import parser.data.RecordList;
+import parser.data.RecordSink;
+import parser.data.StringDictionary;
+import parser.parser.ParserType;
+
+// 타입별 컬럼 블록 출력 기록기 (type.pcol, 형식은 ColumnarFormat 참고)
+// 파이프 구분 출력 행을 컬럼으로 나눠 BLOCK_ROWS 행씩 모은 뒤 컬럼마다 한 청크로 기록
+// 청크는 사전 인코딩과 일반 인코딩 중 작은 쪽을 선택 - 행마다 반복되는 클래스명, 클래스 주석, URL은 사전 번호로만 남음
+// 사전 값 필드(RecordSink.field(dictionary, id))는 블록 안에서 사전 ID로 같은 값을 찾음 (문자열 비교 없이 청크 사전 번호 재사용)
+// 타입마다 자기 모니터로 잠그므로 여러 워커 스레드에서 동시에 호출 가능
+// 블록은 모든 컬럼 청크를 인코딩한 뒤 한 번에 기록 - 기록에 실패하면 그 타입은 실패 상태가 되어
+// 이후 행은 버리고 close 시 푸터 없이 IOException을 던짐 (푸터와 맞지 않는 파일을 완성본으로 남기지 않음)
+public class ColumnarResultWriter implements AutoCloseable {
+	static final int BLOCK_ROWS = 4096;
+
+	private final Map<String, TypeColumns> columnsByType; // 생성 후 변경 없음
+
+	// 타입별 컬럼 = 파서 타입의 기본 컬럼 + 규칙 컬럼
+	public ColumnarResultWriter(String outputPath, String[] types, List<String> ruleColumns) throws IOException {
+		Files.createDirectories(Paths.get(outputPath));
+
+		Map<String, TypeColumns> created = new HashMap<>();
+		for (String type : types) {
+			List<String> columns = new ArrayList<>(ParserType.fromPathKeyword(type).getOutputColumns());
+			columns.addAll(ruleColumns);
+			created.put(type, new TypeColumns(outputFile(outputPath, type), columns));
+		}
+		this.columnsByType = created;
+	}
+
+	public static Path outputFile(String outputPath, String type) {
+		return Paths.get(outputPath, type + ColumnarFormat.SUFFIX);
+	}
+
+	// 파이프 구분 출력 행들(\n으로 끝남)을 컬럼으로 나눠 추가
+	public void writeContent(String type, String content) {
+		TypeColumns columns = columnsByType.get(type);
+		if (columns == null) {
+			throw new IllegalArgumentException("알 수 없는 출력 타입: " + type);
+		}
+		columns.append(content);
+	}
+
+	// 파서가 남긴 레코드를 필드 그대로 컬럼에 추가 (행 문자열을 다시 나누지 않음)
+	public void writeRecords(String type, RecordList records) {
+		TypeColumns columns = columnsByType.get(type);
+		if (columns == null) {
+			throw new IllegalArgumentException("알 수 없는 출력 타입: " + type);
+		}
+		columns.append(records);
+	}
+
+	// 남은 행을 블록으로 기록하고 푸터를 붙인 뒤 파일을 닫음
+	@Override
+	public void close() throws IOException {
+		IOException failure = null;
+		for (TypeColumns columns : columnsByType.values()) {
+			try {
+				columns.close();
+			} catch (IOException e) {
+				failure = e;
+			}
+		}
+		if (failure != null) {
+			throw failure;
+		}
+	}
+
+	// 게시된 출력 경로 기준 파일 크기 출력
+	public void printSummary(String outputPath) {
+		columnsByType.forEach((type, columns) -> {
+			Path file = outputFile(outputPath, type);
+			try {
+				long size = Files.size(file);
+				System.out.println("  - " + file.getFileName() + ": " + DistributedBufferedWriter.formatSize(size) + " ("
+						+ columns.totalRows + "행, 블록 " + columns.blocks.size() + "개)");
+			} catch (IOException e) {
+				System.out.println("  - " + file.getFileName() + ": 생성 실패");
+			}
+		});
+	}
+
+	private static class TypeColumns {
+		private final Path file;
+		private final List<String> names;
+		private final List<List<String>> pending = new ArrayList<>(); // 컬럼별 현재 블록 값
+		private final int[][] pendingIds; // 컬럼별 현재 블록 값의 사전 ID (blockDictionary 기준, 없으면 NONE)
+		private StringDictionary blockDictionary; // 현재 블록의 첫 사전 값 필드의 사전
+		private final List<BlockInfo> blocks = new ArrayList<>();
+
+		private FileChannel channel;
+		private long position;
+		private int pendingRows;
+		private long totalRows;
+		private IOException failure; // 블록 기록 실패 (없으면 null)
+		private final FieldCollector collector = new FieldCollector();
+
+		private TypeColumns(Path file, List<String> names) throws IOException {
+			if (names.isEmpty()) {
+				throw new IllegalArgumentException("출력 컬럼이 정의되지 않은 타입: " + file.getFileName());
+			}
+			this.file = file;
+			this.names = List.copyOf(names);
+			for (int i = 0; i < names.size(); i++) {
+				pending.add(new ArrayList<>());
+			}
+			this.pendingIds = new int[names.size()][BLOCK_ROWS];
+
+			this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+					StandardOpenOption.WRITE);
+			ByteArrayOutputStream header = new ByteArrayOutputStream();
+			header.write(ColumnarFormat.MAGIC, 0, ColumnarFormat.MAGIC.length);
+			header.write(ColumnarFormat.VERSION);
+			write(header);
+		}
+
+		private synchronized void append(String content) {
+			if (channel == null) {
+				throw new IllegalStateException("이미 닫힌 출력: " + file);
+			}
+
+			int start = 0;
+			while (start < content.length()) {
+				int end = content.indexOf('\n', start);
+				if (end < 0) {
+					end = content.length();
+				}
+				addRow(content, start, end);
+				start = end + 1;
+
+				if (pendingRows == BLOCK_ROWS) {
+					writeBlock();
+				}
+			}
+		}
+
+		private synchronized void append(RecordList records) {
+			if (channel == null) {
+				throw new IllegalStateException("이미 닫힌 출력: " + file);
+			}
+			records.writeTo(collector);
+		}
+
+		// 컬럼 수만큼 나누고 남는 구분자는 마지막 컬럼에 포함, 모자란 컬럼은 빈 값
+		private void addRow(String line, int start, int end) {
+			int column = 0;
+			int fieldStart = start;
+			for (; column < names.size() - 1; column++) {
+				int separator = line.indexOf('|', fieldStart);
+				if (separator < 0 || separator >= end) {
+					break;
+				}
+				add(column, line.substring(fieldStart, separator), StringDictionary.NONE);
+				fieldStart = separator + 1;
+			}
+			add(column++, line.substring(fieldStart, end), StringDictionary.NONE);
+			for (; column < names.size(); column++) {
+				add(column, "", StringDictionary.NONE);
+			}
+			pendingRows++;
+		}
+
+		private void add(int column, String value, int dictionaryId) {
+			pendingIds[column][pendingRows] = dictionaryId;
+			pending.get(column).add(value);
+		}
+
+		// 텍스트 행을 나눌 때와 같은 규칙: 남는 필드는 구분자와 함께 마지막 컬럼에, 모자란 컬럼은 빈 값
+		private class FieldCollector implements RecordSink {
+			private final StringBuilder overflow = new StringBuilder();
+			private int column;
+
+			@Override
+			public void field(String value) {
+				int last = names.size() - 1;
+				if (column < last) {
+					add(column++, value, StringDictionary.NONE);
+				} else {
+					if (column > last) {
+						overflow.append('|');
+					}
+					overflow.append(value);
+					column++;
+				}
+			}
+
+			// 마지막 컬럼이 아니면 블록 사전과 같은 사전의 ID를 함께 보관
+			@Override
+			public void field(StringDictionary dictionary, int id) {
+				if (column >= names.size() - 1 || id == StringDictionary.NONE) {
+					field(dictionary.value(id));
+					return;
+				}
+				if (blockDictionary == null) {
+					blockDictionary = dictionary;
+				}
+				add(column++, dictionary.value(id), dictionary == blockDictionary ? id : StringDictionary.NONE);
+			}
+
+			@Override
+			public void endRecord() {
+				if (column > names.size() - 1) {
+					add(names.size() - 1, overflow.toString(), StringDictionary.NONE);
+				} else {
+					for (; column < names.size(); column++) {
+						add(column, "", StringDictionary.NONE);
+					}
+				}
+				overflow.setLength(0);
+				column = 0;
+				pendingRows++;
+				if (pendingRows == BLOCK_ROWS) {
+					writeBlock();
+				}
+			}
+		}
+
+		private void writeBlock() {
+			if (pendingRows == 0)
+				return;
+
+			int rows = pendingRows;
+			long[] chunkLengths = new long[names.size()];
+			ByteArrayOutputStream block = new ByteArrayOutputStream();
+			if (failure == null) {
+				for (int column = 0; column < names.size(); column++) {
+					ByteArrayOutputStream chunk = encodeChunk(pending.get(column), pendingIds[column]);
+					chunkLengths[column] = chunk.size();
+					block.writeBytes(chunk.toByteArray());
+				}
+			}
+			pending.forEach(List::clear);
+			pendingRows = 0;
+			blockDictionary = null;
+			if (failure != null)
+				return; // 이미 실패한 출력 - 행은 버림
+
+			long offset = position;
+			try {
+				write(block);
+			} catch (IOException e) {
+				failure = e;
+				return;
+			}
+			blocks.add(new BlockInfo(offset, rows, chunkLengths));
+			totalRows += rows;
+		}
+
+		// 사전 인코딩과 일반 인코딩의 크기를 미리 계산해 작은 쪽으로 인코딩
+		// 사전 ID가 있는 값은 ID로 먼저 찾고, 처음 보는 ID만 문자열로 찾음 (ID 없는 같은 값과 번호 공유)
+		private static ByteArrayOutputStream encodeChunk(List<String> values, int[] dictionaryIds) {
+			Map<String, Integer> ids = new LinkedHashMap<>();
+			IdMap idsByDictionaryId = new IdMap(); // 사전 ID → 청크 사전 번호
+			List<byte[]> dictionary = new ArrayList<>();
+			int[] rowIds = new int[values.size()];
+			long plainSize = 0;
+			long dictionarySize = 0;
+
+			for (int row = 0; row < values.size(); row++) {
+				int dictionaryId = dictionaryIds[row];
+				int known = dictionaryId != StringDictionary.NONE ? idsByDictionaryId.get(dictionaryId) : -1;
+				Integer id = known >= 0 ? known : null;
+				if (id == null) {
+					String value = values.get(row);
+					id = ids.get(value);
+					if (id == null) {
+						id = dictionary.size();
+						ids.put(value, id);
+						byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+						dictionary.add(utf8);
+						dictionarySize += ColumnarFormat.varintSize(utf8.length) + utf8.length;
+					}
+					if (dictionaryId != StringDictionary.NONE) {
+						idsByDictionaryId.put(dictionaryId, id);
+					}
+				}
+				rowIds[row] = id;
+				byte[] utf8 = dictionary.get(id);
+				plainSize += ColumnarFormat.varintSize(utf8.length) + utf8.length;
+				dictionarySize += ColumnarFormat.varintSize(id);
+			}
+			dictionarySize += ColumnarFormat.varintSize(dictionary.size());
+
+			boolean useDictionary = dictionarySize < plainSize;
+			ByteArrayOutputStream chunk = new ByteArrayOutputStream(
+					(int) Math.min(Integer.MAX_VALUE - 8, 1 + Math.min(plainSize, dictionarySize)));
+			if (useDictionary) {
+				chunk.write(ColumnarFormat.DICTIONARY);
+				ColumnarFormat.writeVarint(chunk, dictionary.size());
+				dictionary.forEach(utf8 -> ColumnarFormat.writeString(chunk, utf8));
+				for (int id : rowIds) {
+					ColumnarFormat.writeVarint(chunk, id);
+				}
+			} else {
+				chunk.write(ColumnarFormat.PLAIN);
+				for (int id : rowIds) {
+					ColumnarFormat.writeString(chunk, dictionary.get(id));
+				}
+			}
+			return chunk;
+		}
+
+		private synchronized void close() throws IOException {
+			if (channel == null)
+				return;
+
+			try {
+				writeBlock();
+				if (failure != null) {
+					throw new IOException("컬럼 블록 기록 실패: " + file, failure);
+				}
+				ByteArrayOutputStream footer = new ByteArrayOutputStream();
+				ColumnarFormat.writeVarint(footer, names.size());
+				names.forEach(name -> ColumnarFormat.writeString(footer, name.getBytes(StandardCharsets.UTF_8)));
+				ColumnarFormat.writeVarint(footer, blocks.size());
+				for (BlockInfo block : blocks) {
+					ColumnarFormat.writeVarint(footer, block.offset);
+					ColumnarFormat.writeVarint(footer, block.rows);
+					for (long length : block.chunkLengths) {
+						ColumnarFormat.writeVarint(footer, length);
+					}
+				}
+
+				int footerSize = footer.size();
+				footer.write(footerSize >>> 24);
+				footer.write(footerSize >>> 16);
+				footer.write(footerSize >>> 8);
+				footer.write(footerSize);
+				footer.write(ColumnarFormat.MAGIC, 0, ColumnarFormat.MAGIC.length);
+				write(footer);
+			} finally {
+				channel.close();
+				channel = null;
+			}
+		}
+
+		private void write(ByteArrayOutputStream bytes) throws IOException {
+			ByteBuffer buffer = ByteBuffer.wrap(bytes.toByteArray());
+			while (buffer.hasRemaining()) {
+				position += channel.write(buffer);
+			}
+		}
+	}
+
+	// 0 이상의 int 키 → 0 이상의 int 값 (선형 탐사, 박싱 없음) - 없는 키는 -1
+	private static class IdMap {
+		private int[] keys = new int[16];
+		private int[] values = new int[16];
+		private int size;
+
+		private IdMap() {
+			Arrays.fill(keys, -1);
+		}
+
+		private int get(int key) {
+			int mask = keys.length - 1;
+			for (int slot = hash(key) & mask;; slot = (slot + 1) & mask) {
+				if (keys[slot] == key)
+					return values[slot];
+				if (keys[slot] < 0)
+					return -1;
+			}
+		}
+
+		private void put(int key, int value) {
+			if ((size + 1) * 2 > keys.length) {
+				int[] oldKeys = keys;
+				int[] oldValues = values;
+				keys = new int[oldKeys.length * 2];
+				values = new int[oldKeys.length * 2];
+				Arrays.fill(keys, -1);
+				size = 0;
+				for (int i = 0; i < oldKeys.length; i++) {
+					if (oldKeys[i] >= 0) {
+						put(oldKeys[i], oldValues[i]);
+					}
+				}
+			}
+			int mask = keys.length - 1;
+			int slot = hash(key) & mask;
+			while (keys[slot] >= 0 && keys[slot] != key) {
+				slot = (slot + 1) & mask;
+			}
+			if (keys[slot] < 0) {
+				size++;
+			}
+			keys[slot] = key;
+			values[slot] = value;
+		}
+
+		private static int hash(int key) {
+			return key * 0x9E3779B9 >>> 16 ^ key;
+		}
+	}
+
+	private static class BlockInfo {
+		private final long offset;
+		private final int rows;
+		private final long[] chunkLengths;
+
+		private BlockInfo(long offset, int rows, long[] chunkLengths) {
+			this.offset = offset;
+			this.rows = rows;
+			this.chunkLengths = chunkLengths;
+		}
+	}
+}
@@ -1,171 +1,385 @@
 package parser.result;
 
-import java.io.BufferedWriter;
+import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.nio.file.StandardOpenOption;
-import java.util.Arrays;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
 
 import parser.data.ParseResult;
-
-public class DistributedBufferedWriter {
-	private String outputPath;
-	private Map<String, StringBuilder> buffers;
-	private Map<String, Integer> bufferSizes;
-	private Map<String, Integer> fileCounters;
-	private Map<String, Long> currentFileSizes;
-	private Map<String, Boolean> firstWrite; // 첫 번째 쓰기 여부 추적
+import parser.metrics.MetricsRegistry;
+
+// 타입별 버퍼 분산 기록기 (여러 워커 스레드에서 동시에 호출 가능)
+// 출력 타입마다 독립적으로 잠그는 OutputShard에 위임하므로 서로 다른 타입 기록은 경합하지 않음
+// 타입별 출력 파일 채널은 열어 둔 채로 플러시마다 재사용하고, 파일 분산 시에만 해당 타입 채널을 교체
+// 버퍼 크기와 파일 크기는 UTF-8 인코딩 기준 정확한 바이트 수로 계산
+// 비동기 모드: 타입마다 버퍼 두 개를 번갈아 사용 - 가득 찬 버퍼는 기록 스레드가 디스크에 쓰는 동안
+// 호출 스레드는 다른 버퍼를 채우고, 두 버퍼가 모두 쓰는 중이면 하나가 돌아올 때까지 대기 (역압)
+// 압축 모드: 출력 파일을 블록 단위 병렬 gzip(type.csv.gz)으로 기록 - 파일 분산은 압축 후 크기 기준
+// 컬럼 출력을 연결하면 같은 행을 컬럼 블록 형식(type.pcol)으로도 기록
+// 기록은 출력 경로 아래 세대 디렉터리(.generations/N)에서 하고 close 시 게시
+// - 출력 목록(OutputManifest)을 새 세대 파일을 가리키도록 원자적으로 교체 - 목록을 읽는 쪽은 이전 세대 전체 또는
+//   새 세대 전체만 봄 (이전 세대 파일은 교체 전까지 그대로 유지)
+// - 교체 후 출력 경로의 type.csv 등을 새 세대 파일로 원자적으로 바꾸고(하드 링크, 안 되면 복사) 남은 이전 분산 파일 삭제
+// - 목록이 더 이상 가리키지 않는 세대 파일은 교체 후에 삭제
+// - 기록이나 게시가 실패하면 close가 예외를 던짐 - 목록 교체 전에 실패하면 기존 출력과 목록은 그대로 유지
+// 한 번 close한 기록기는 다시 사용할 수 없음 (중간 기록은 flush)
+public class DistributedBufferedWriter implements AutoCloseable {
+	private final String outputPath;
+	private final Path stagingPath; // 이번 세대 디렉터리
+	private final String generation; // 출력 경로 기준 세대 디렉터리 경로 ('/' 구분, '/'로 끝남)
+	private final Map<String, OutputShard> shards; // 생성 후 변경 없음
 
 	private final int BUFFER_THRESHOLD;
 	private final long FILE_SIZE_LIMIT;
-	private final String LAST_NAME = ".csv";
+	private static final String LAST_NAME = ".csv";
+	private static final String GZIP_SUFFIX = ".gz";
+	public static final String GENERATIONS_DIR = ".generations";
 
 	private final String[] types;
 
+	// 비동기 모드 기록 스레드 (필요할 때 생성, close 시 종료)
+	private final Object flusherLock = new Object();
+	private ExecutorService flusher;
+
+	private ColumnarResultWriter columnar; // 연결하지 않으면 null (기록 시작 전에 연결)
+	private volatile boolean closed;
+
 	public DistributedBufferedWriter(String outputPath, int bufferThresholdKB, int fileSizeLimitMB, String[] types)
 			throws Exception {
+		this(outputPath, bufferThresholdKB, fileSizeLimitMB, types, false);
+	}
+
+	public DistributedBufferedWriter(String outputPath, int bufferThresholdKB, int fileSizeLimitMB, String[] types,
+			boolean asyncFlush) throws Exception {
+		this(outputPath, bufferThresholdKB, fileSizeLimitMB, types, asyncFlush, false);
+	}
+
+	public DistributedBufferedWriter(String outputPath, int bufferThresholdKB, int fileSizeLimitMB, String[] types,
+			boolean asyncFlush, boolean compressed) throws Exception {
 		this.outputPath = outputPath;
+		this.stagingPath = prepareGeneration(Paths.get(outputPath)); // 이전 실행이 남긴 세대 정리 후 새 세대 생성
+		this.generation = generationName(stagingPath);
 		this.BUFFER_THRESHOLD = bufferThresholdKB * 1024;
 		this.FILE_SIZE_LIMIT = fileSizeLimitMB * 1024L * 1024L;
-
-		this.buffers = new HashMap<>();
-		this.bufferSizes = new HashMap<>();
-		this.fileCounters = new HashMap<>();
-		this.currentFileSizes = new HashMap<>();
-		this.firstWrite = new HashMap<>();
 		this.types = types;
 
-		initializeBuffers();
-		cleanupExistingFiles(); // 기존 파일 정리
-
-		try {
-			Files.createDirectories(Paths.get(outputPath));
-		} catch (IOException e) {
-			e.printStackTrace();
-		}
+		this.shards = initializeShards(asyncFlush, compressed);
 	}
 
-	private void initializeBuffers() throws Exception {
+	private Map<String, OutputShard> initializeShards(boolean asyncFlush, boolean compressed) throws Exception {
 		if (this.types.length < 1) {
 			throw new Exception("ERROR: 파서 타입이 비어있습니다.");
 		}
 
+		Map<String, OutputShard> created = new HashMap<>();
 		for (String type : this.types) {
-			buffers.put(type, new StringBuilder());
-			bufferSizes.put(type, 0);
-			fileCounters.put(type, 1);
-			currentFileSizes.put(type, 0L);
-			firstWrite.put(type, true);
+			created.put(type, new OutputShard(type, stagingPath.toString(), BUFFER_THRESHOLD, FILE_SIZE_LIMIT,
+					asyncFlush ? this::flusher : null, compressed));
 		}
+		return created;
 	}
 
-	private void cleanupExistingFiles() {
-		for (String type : this.types) {
-			try {
-				// 기본 파일 삭제
-				Path mainFile = Paths.get(outputPath, type + LAST_NAME);
-				Files.deleteIfExists(mainFile);
-
-				// 분산 파일들 삭제 최적화
-				for (int i = 2; i <= 10; i++) {
-					Path splitFile = Paths.get(outputPath, type + "_" + i + LAST_NAME);
-					if (!Files.deleteIfExists(splitFile)) {
-						break;
-					}
-				}
-
-				System.out.println("기존 " + type + " 파일들 삭제 완료");
+	// 목록이 가리키지 않는 세대 파일(중단된 실행)을 지우고 남은 세대 번호 다음 번호로 디렉터리 생성
+	private static Path prepareGeneration(Path target) throws IOException {
+		Path generations = target.resolve(GENERATIONS_DIR);
+		Files.createDirectories(generations);
+		deleteUnreferencedGenerations(target, OutputManifest.load(target));
 
-			} catch (IOException e) {
-				System.err.println("파일 정리 중 오류: " + e.getMessage());
+		long last = 0;
+		try (Stream<Path> dirs = Files.list(generations)) {
+			for (Path dir : (Iterable<Path>) dirs::iterator) {
+				try {
+					last = Math.max(last, Long.parseLong(dir.getFileName().toString()));
+				} catch (NumberFormatException e) {
+					// 세대 디렉터리가 아님
+				}
 			}
 		}
+		return Files.createDirectory(generations.resolve(Long.toString(last + 1)));
+	}
+
+	// 목록에 적는 세대 디렉터리 경로 (출력 경로 기준, '/' 구분, '/'로 끝남)
+	private static String generationName(Path dir) {
+		return GENERATIONS_DIR + "/" + dir.getFileName() + "/";
 	}
 
+	// CSV와 함께 기록할 컬럼 블록 출력 연결 (세대 디렉터리에 기록하고 close 시 함께 게시)
+	public DistributedBufferedWriter withColumnarOutput(List<String> ruleColumns) throws IOException {
+		this.columnar = new ColumnarResultWriter(stagingPath.toString(), types, ruleColumns);
+		return this;
+	}
+
+	// 파서가 남긴 레코드를 필드 단위로 바로 인코딩해 기록 (행 문자열을 만들지 않음)
 	public void writeResult(ParseResult result) {
 		String type = result.getParserType();
-		String content = result.getOutputContent();
-
-		buffers.get(type).append(content);
+		shard(type).append(result.getRecords());
+		if (columnar != null) {
+			columnar.writeRecords(type, result.getRecords());
+		}
+	}
 
-		int estimatedBytes = content.length() * 2; // UTF-8 한글 고려한 대략적 계산
-		bufferSizes.put(type, bufferSizes.get(type) + estimatedBytes);
+	// 이미 포맷된 출력 행을 그대로 기록 (증분 스캔에서 기존 행 재사용)
+	public void writeContent(String type, String content) {
+		shard(type).append(content);
+		if (columnar != null) {
+			columnar.writeContent(type, content);
+		}
+	}
 
-		if (bufferSizes.get(type) >= BUFFER_THRESHOLD) {
-			flushBuffer(type);
+	private OutputShard shard(String type) {
+		if (closed) {
+			throw new IllegalStateException("이미 닫힌 기록기");
+		}
+		OutputShard shard = shards.get(type);
+		if (shard == null) {
+			throw new IllegalArgumentException("알 수 없는 출력 타입: " + type);
 		}
+		return shard;
 	}
 
-	private void flushBuffer(String type) {
-		try {
-			StringBuilder buffer = buffers.get(type);
-			if (buffer.length() == 0) return;
+	private Executor flusher() {
+		synchronized (flusherLock) {
+			if (flusher == null) {
+				flusher = Executors.newSingleThreadExecutor(task -> {
+					Thread thread = new Thread(task, "output-writer");
+					thread.setDaemon(true);
+					return thread;
+				});
+			}
+			return flusher;
+		}
+	}
 
-			String content = buffer.toString();
-			int contentSize = content.getBytes().length;
-			long currentFileSize = currentFileSizes.get(type);
+	// 출력 경로에 존재하는 타입별 분산 파일 목록 (순서대로, 압축 출력이면 .csv.gz 목록)
+	public static List<Path> existingOutputFiles(String outputPath, String type) {
+		boolean compressed = !Files.exists(Paths.get(outputPath, fileName(type, 1, false)))
+				&& Files.exists(Paths.get(outputPath, fileName(type, 1, true)));
 
-			if (currentFileSize + contentSize > FILE_SIZE_LIMIT) {
-				moveToNextFile(type);
+		List<Path> files = new ArrayList<>();
+		for (int i = 1;; i++) {
+			Path file = Paths.get(outputPath, fileName(type, i, compressed));
+			if (!Files.exists(file)) {
+				return files;
 			}
+			files.add(file);
+		}
+	}
 
-			Path filePath = getCurrentFilePath(type);
+	// 출력 파일을 행 단위로 읽음 (.gz 파일은 이어 붙은 gzip 멤버를 연속해서 풀어 읽음)
+	public static BufferedReader openOutput(Path file) throws IOException {
+		if (!file.toString().endsWith(GZIP_SUFFIX)) {
+			return Files.newBufferedReader(file);
+		}
+		GZIPInputStream input = new GZIPInputStream(Files.newInputStream(file), 64 * 1024);
+		return new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+	}
 
-			// 첫 번째 쓰기면 덮어쓰기(CREATE), 이후는 추가(APPEND)
-			StandardOpenOption writeOption = firstWrite.get(type) ? StandardOpenOption.CREATE
-					: StandardOpenOption.APPEND;
+	static String fileName(String type, int counter, boolean compressed) {
+		String name = counter == 1 ? type + LAST_NAME : type + "_" + counter + LAST_NAME;
+		return compressed ? name + GZIP_SUFFIX : name;
+	}
 
-			try (BufferedWriter writer = Files.newBufferedWriter(filePath, StandardOpenOption.CREATE, writeOption)) {
+	// 타입별 남은 버퍼를 스테이징 파일에 기록 (비동기 모드에서는 기록 스레드로 넘기기만 함)
+	public void flush() {
+		shards.values().forEach(OutputShard::flush);
+	}
 
-				writer.write(buffer.toString());
+	// 남은 버퍼를 모두 기록하고 게시한 뒤 결과 요약 출력
+	public void flushAll() throws IOException {
+		close();
+		printFinalSummary();
+	}
 
-				currentFileSizes.put(type, currentFileSizes.get(type) + contentSize);
-				buffer.setLength(0);
-				bufferSizes.put(type, 0);
-				firstWrite.put(type, false); // 첫 번째 쓰기 완료
+	// 비동기 모드에서도 넘겨진 모든 버퍼가 기록된 뒤에 게시
+	// 기록 중 실패가 있었으면 게시하지 않고 이번 세대를 지운 뒤 예외
+	@Override
+	public synchronized void close() throws IOException {
+		if (closed)
+			return;
+		closed = true;
+
+		shards.values().forEach(OutputShard::close);
+		synchronized (flusherLock) {
+			if (flusher != null) {
+				flusher.shutdown();
+				flusher = null;
+			}
+		}
 
-				System.out.println(type + " 버퍼 플러시: " + filePath.getFileName() + " (현재 크기: "
-						+ formatSize(currentFileSizes.get(type)) + ")");
+		try {
+			for (String type : types) {
+				IOException failure = shards.get(type).getFailure();
+				if (failure != null) {
+					throw new IOException(type + " 출력 기록 실패 - 게시하지 않음", failure);
+				}
+			}
+			if (columnar != null) {
+				columnar.close();
 			}
 		} catch (IOException e) {
-			e.printStackTrace();
+			MetricsRegistry.scan().recordError();
+			deleteDirectory(stagingPath);
+			throw e;
+		}
+
+		try {
+			publish();
+		} catch (IOException e) {
+			MetricsRegistry.scan().recordError();
+			throw e;
 		}
 	}
 
-	private void moveToNextFile(String type) {
-		int currentCounter = fileCounters.get(type);
-		fileCounters.put(type, currentCounter + 1);
-		currentFileSizes.put(type, 0L);
-		firstWrite.put(type, true); // 새 파일은 첫 번째 쓰기로 설정
+	// 출력 목록을 새 세대로 교체 → 출력 경로의 파일 교체, 남은 이전 분산 파일 삭제 → 목록이 가리키지 않는 세대 삭제
+	private void publish() throws IOException {
+		Path target = Paths.get(outputPath);
+		OutputManifest manifest = OutputManifest.load(target);
+		Map<String, List<OutputManifest.Entry>> published = new HashMap<>();
+		for (String type : types) {
+			List<OutputManifest.Entry> files = shards.get(type).manifestEntries(generation);
+			manifest.replace(type, files);
+			published.put(type, files);
+		}
+		manifest.save(target);
+
+		// 출력 경로의 파일 이름으로 읽는 쪽을 위한 교체 - 파일마다 원자적
+		for (String type : types) {
+			OutputShard shard = shards.get(type);
+			List<OutputManifest.Entry> files = published.get(type);
+			for (OutputManifest.Entry file : files) {
+				Path source = target.resolve(file.getFileName());
+				replaceAtomically(source, target.resolve(source.getFileName()));
+			}
+			if (columnar != null) {
+				Path columnarFile = ColumnarResultWriter.outputFile(stagingPath.toString(), type);
+				replaceAtomically(columnarFile, target.resolve(columnarFile.getFileName()));
+			}
+			deleteStaleFiles(type, files.size(), shard.isCompressed());
+		}
 
-		System.out.println(
-				type + " 파일 분산: " + getCurrentFileName(type) + " (크기 제한 " + formatSize(FILE_SIZE_LIMIT) + " 초과)");
+		deleteUnreferencedGenerations(target, manifest);
 	}
 
-	private Path getCurrentFilePath(String type) {
-		return Paths.get(outputPath, getCurrentFileName(type));
+	// 감시 모드용 - 타입의 분산 파일 중 지정한 번호(1부터)의 파일만 새 내용으로 교체하고 나머지 분산 파일과 다른 타입은
+	// 그대로 둠. 새 세대 디렉터리에 기록한 뒤 목록에서 해당 항목만 바꿔 한 번에 교체
+	// 내용은 비어 있으면 안 되고 기존 분산 파일 번호만 교체 가능 - 크기 제한은 확인하지 않으므로 반환된 항목으로 호출하는
+	// 쪽이 판단
+	public static List<OutputManifest.Entry> replaceParts(String outputPath, String type, Map<Integer, String> contents,
+			int bufferThresholdKB, boolean compressed) throws IOException {
+		Path target = Paths.get(outputPath);
+		OutputManifest manifest = OutputManifest.load(target);
+		Path dir = prepareGeneration(target);
+		List<OutputManifest.Entry> replaced = new ArrayList<>();
+		try {
+			for (Map.Entry<Integer, String> part : contents.entrySet()) {
+				OutputShard shard = new OutputShard(type, dir.toString(), bufferThresholdKB * 1024, Long.MAX_VALUE,
+						null, compressed, part.getKey());
+				shard.append(part.getValue());
+				shard.close();
+				if (shard.getFailure() != null) {
+					throw new IOException(type + " 출력 기록 실패 - 게시하지 않음", shard.getFailure());
+				}
+				List<OutputManifest.Entry> files = shard.manifestEntries(generationName(dir));
+				if (files.size() != 1) {
+					throw new IllegalArgumentException(type + " 출력의 " + part.getKey() + "번 분산 파일 내용이 비어 있음");
+				}
+				manifest.replacePart(type, files.get(0));
+				replaced.add(files.get(0));
+			}
+		} catch (IOException | RuntimeException e) {
+			MetricsRegistry.scan().recordError();
+			deleteDirectory(dir);
+			throw e;
+		}
+
+		manifest.save(target);
+		for (OutputManifest.Entry file : replaced) {
+			Path source = target.resolve(file.getFileName());
+			replaceAtomically(source, target.resolve(source.getFileName()));
+		}
+		deleteUnreferencedGenerations(target, manifest);
+		return replaced;
 	}
 
-	private String getCurrentFileName(String type) {
-		int counter = fileCounters.get(type);
-		return counter == 1 ? type + LAST_NAME : type + "_" + counter + LAST_NAME;
+	// source와 같은 내용의 임시 파일(하드 링크, 지원하지 않으면 복사)을 만든 뒤 원자적 이름 변경으로 교체
+	private static void replaceAtomically(Path source, Path target) throws IOException {
+		Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+		Files.deleteIfExists(temp);
+		try {
+			Files.createLink(temp, source);
+		} catch (UnsupportedOperationException | IOException e) {
+			Files.copy(source, temp);
+		}
+		Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
 	}
 
-	public void flushAll() {
-		buffers.keySet().forEach(this::flushBuffer);
-		printFinalSummary();
+	// 세대 디렉터리의 파일 중 목록이 가리키지 않는 파일을 지우고 빈 세대 디렉터리 삭제
+	private static void deleteUnreferencedGenerations(Path target, OutputManifest manifest) throws IOException {
+		Set<String> referenced = manifest.fileNames();
+		try (Stream<Path> dirs = Files.list(target.resolve(GENERATIONS_DIR))) {
+			for (Path dir : (Iterable<Path>) dirs::iterator) {
+				boolean empty = true;
+				try (Stream<Path> files = Files.list(dir)) {
+					for (Path file : (Iterable<Path>) files::iterator) {
+						String fileName = GENERATIONS_DIR + "/" + dir.getFileName() + "/" + file.getFileName();
+						if (referenced.contains(fileName)) {
+							empty = false;
+						} else {
+							Files.deleteIfExists(file);
+						}
+					}
+				}
+				if (empty) {
+					Files.deleteIfExists(dir);
+				}
+			}
+		}
+	}
+
+	private static void deleteDirectory(Path dir) {
+		if (!Files.isDirectory(dir))
+			return;
+		try (Stream<Path> files = Files.list(dir)) {
+			for (Path file : (Iterable<Path>) files::iterator) {
+				Files.deleteIfExists(file);
+			}
+			Files.deleteIfExists(dir);
+		} catch (IOException e) {
+			System.err.println("세대 디렉터리 삭제 실패: " + dir);
+		}
+	}
+
+	// 이번에 기록한 파일 수 이후의 분산 파일과 다른 형식(압축/비압축) 파일 삭제
+	private void deleteStaleFiles(String type, int published, boolean compressed) throws IOException {
+		for (boolean format : new boolean[] { false, true }) {
+			int first = format == compressed ? published + 1 : 1;
+			for (int i = first; Files.deleteIfExists(Paths.get(outputPath, fileName(type, i, format))); i++) {
+				// 연속된 번호가 끊길 때까지 삭제
+			}
+		}
 	}
 
 	private void printFinalSummary() {
 		System.out.println("\n=== 파일 결과 ===");
-		fileCounters.forEach((type, count) -> {
+		shards.forEach((type, shard) -> {
+			int count = shard.getFileCounter();
 			System.out.println(type + ": " + count + "처리");
 			for (int i = 1; i <= count; i++) {
-				String fileName = (i == 1) ? type + LAST_NAME : type + "_" + i + LAST_NAME;
+				String fileName = fileName(type, i, shard.isCompressed());
 				Path filePath = Paths.get(outputPath, fileName);
 				try {
 					long size = Files.size(filePath);
@@ -175,9 +389,13 @@ public class DistributedBufferedWriter {
 				}
 			}
 		});
+		if (columnar != null) {
+			System.out.println("컬럼 출력:");
+			columnar.printSummary(outputPath);
+		}
 	}
 
-	private String formatSize(long bytes) {
+	static String formatSize(long bytes) {
 		if (bytes < 1024)
 			return bytes + " B";
 		if (bytes < 1024 * 1024)
@@ -186,12 +404,10 @@ public class DistributedBufferedWriter {
 	}
 
 	public void printCurrentStatus() {
-		System.out.println("\n=== 현재 상태 ===");
-		bufferSizes.forEach((type, bufferSize) -> {
-			long currentFileSize = currentFileSizes.get(type);
-			int fileNumber = fileCounters.get(type);
-			System.out.println(type + " [파일#" + fileNumber + "]: " + formatSize(currentFileSize) + " + 버퍼("
-					+ formatSize(bufferSize) + ")");
-		});
+		StringBuilder status = new StringBuilder("\n=== 현재 상태 ===\n");
+		shards.forEach((type, shard) -> status.append(type).append(" [파일#").append(shard.getFileCounter())
+				.append("]: ").append(formatSize(shard.getCurrentFileSize())).append(" + 버퍼(")
+				.append(formatSize(shard.getBufferedBytes())).append(")\n"));
+		System.out.print(status);
 	}
 }
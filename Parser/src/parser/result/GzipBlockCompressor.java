@@ -0,0 +1,78 @@
+package parser.result;
+
+import java.io.ByteArrayOutputStream;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+// 고정 크기 블록 단위 병렬 gzip 압축 (pigz 방식)
+// 블록마다 독립된 gzip 멤버로 압축하므로 순서대로 이어 붙인 파일이 그대로 유효한 gzip (gunzip, GZIPInputStream으로 읽힘)
+// 압축은 프로세서 수만큼의 공용 작업 스레드에서 수행
+class GzipBlockCompressor {
+	static final int BLOCK_SIZE = 128 * 1024;
+
+	private static final byte[] HEADER = { 0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte) 0xff };
+	private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+	private static final ExecutorService POOL = Executors
+			.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), task -> {
+				Thread thread = new Thread(task, "gzip-" + THREAD_COUNT.incrementAndGet());
+				thread.setDaemon(true);
+				return thread;
+			});
+
+	// 스레드별 재사용 (raw deflate - 헤더/트레일러는 직접 기록)
+	private static final ThreadLocal<Deflater> DEFLATER = ThreadLocal
+			.withInitial(() -> new Deflater(Deflater.DEFAULT_COMPRESSION, true));
+	private static final ThreadLocal<byte[]> SCRATCH = ThreadLocal.withInitial(() -> new byte[64 * 1024]);
+
+	private GzipBlockCompressor() {
+		// 유틸리티 클래스이므로 인스턴스 생성 방지
+	}
+
+	// data[0, length)를 블록으로 나눠 병렬 압축 - 결과는 블록 순서대로의 gzip 멤버 배열
+	static CompletableFuture<byte[][]> compress(byte[] data, int length) {
+		int blocks = Math.max(1, (length + BLOCK_SIZE - 1) / BLOCK_SIZE);
+		byte[][] members = new byte[blocks][];
+		CompletableFuture<?>[] tasks = new CompletableFuture<?>[blocks];
+
+		for (int i = 0; i < blocks; i++) {
+			int index = i;
+			int offset = i * BLOCK_SIZE;
+			int size = Math.min(BLOCK_SIZE, length - offset);
+			tasks[i] = CompletableFuture.runAsync(() -> members[index] = member(data, offset, size), POOL);
+		}
+		return CompletableFuture.allOf(tasks).thenApply(done -> members);
+	}
+
+	// gzip 멤버 하나 = 헤더 + raw deflate + CRC32 + 원본 크기 (리틀 엔디언)
+	static byte[] member(byte[] data, int offset, int length) {
+		Deflater deflater = DEFLATER.get();
+		byte[] scratch = SCRATCH.get();
+		ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, length / 4));
+		out.write(HEADER, 0, HEADER.length);
+
+		deflater.reset();
+		deflater.setInput(data, offset, length);
+		deflater.finish();
+		while (!deflater.finished()) {
+			int written = deflater.deflate(scratch);
+			out.write(scratch, 0, written);
+		}
+
+		CRC32 crc = new CRC32();
+		crc.update(data, offset, length);
+		writeIntLE(out, (int) crc.getValue());
+		writeIntLE(out, length);
+		return out.toByteArray();
+	}
+
+	private static void writeIntLE(ByteArrayOutputStream out, int value) {
+		out.write(value);
+		out.write(value >>> 8);
+		out.write(value >>> 16);
+		out.write(value >>> 24);
+	}
+}
@@ -0,0 +1,268 @@
+package parser.result;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.GZIPInputStream;
+
+// 출력 파일 목록 (분산 파일마다 타입, 순번, 첫 행 번호, 행 수, 파일 크기, 원본 크기, 희소 행 위치 색인, gzip 멤버 위치)
+// 파일 이름은 출력 경로 기준 경로 ('/' 구분) - 기록기는 세대 디렉터리에 파일을 모두 기록한 뒤 목록을 원자적으로
+// 교체하고, 목록이 가리키지 않게 된 세대 파일만 나중에 지우므로 목록에 있는 파일은 완성된 파일
+// 행 위치 색인: INDEX_INTERVAL 행마다 (파일 내 행 번호, 원본 바이트 위치) - 원본은 압축 전 UTF-8 기준
+// gzip 멤버 위치: 멤버마다 (파일 내 위치, 원본 바이트 위치) - 멤버 경계에서 바로 풀기 시작할 수 있음
+public class OutputManifest {
+	public static final String FILE_NAME = "output-manifest.tsv";
+	public static final int INDEX_INTERVAL = 1024;
+	private static final String HEADER = "#file\ttype\tpart\tfirstRow\trows\tbytes\tdataBytes\tindex\tmembers";
+	private static final String NONE = "-";
+
+	private final Map<String, List<Entry>> filesByType = new LinkedHashMap<>();
+
+	// 출력 경로의 목록 파일 로드 (없으면 빈 목록)
+	public static OutputManifest load(Path outputDir) throws IOException {
+		OutputManifest manifest = new OutputManifest();
+		Path file = outputDir.resolve(FILE_NAME);
+		if (!Files.exists(file)) {
+			return manifest;
+		}
+
+		try (BufferedReader reader = Files.newBufferedReader(file)) {
+			String line;
+			while ((line = reader.readLine()) != null) {
+				if (line.isEmpty() || line.startsWith("#"))
+					continue;
+
+				String[] cols = line.split("\t", -1);
+				if (cols.length != 9) {
+					System.err.println("출력 목록 형식 오류, 무시: " + line);
+					continue;
+				}
+				long[][] index = parsePairs(cols[7]);
+				long[][] members = parsePairs(cols[8]);
+				manifest.filesByType.computeIfAbsent(cols[1], type -> new ArrayList<>())
+						.add(new Entry(cols[0], cols[1], Integer.parseInt(cols[2]), Long.parseLong(cols[3]),
+								Long.parseLong(cols[4]), Long.parseLong(cols[5]), Long.parseLong(cols[6]), index[0],
+								index[1], members[0], members[1]));
+			}
+		}
+		return manifest;
+	}
+
+	// 타입의 분산 파일 목록 교체 (파일 순서대로, 첫 행 번호는 앞 파일 행 수 누적)
+	void replace(String type, List<Entry> files) {
+		List<Entry> numbered = new ArrayList<>(files.size());
+		long firstRow = 0;
+		for (Entry file : files) {
+			numbered.add(file.withFirstRow(firstRow));
+			firstRow += file.rows;
+		}
+		filesByType.put(type, numbered);
+	}
+
+	// 타입의 분산 파일 하나만 교체 (같은 번호의 기존 항목이 있어야 함, 뒤 파일의 첫 행 번호는 다시 계산)
+	void replacePart(String type, Entry file) {
+		List<Entry> files = new ArrayList<>(files(type));
+		if (file.part < 1 || file.part > files.size()) {
+			throw new IllegalArgumentException(type + " 출력에 " + file.part + "번 분산 파일이 없음");
+		}
+		files.set(file.part - 1, file);
+		replace(type, files);
+	}
+
+	// 임시 파일에 기록 후 교체 - 읽는 쪽은 항상 이전 목록 또는 새 목록 전체를 봄
+	void save(Path outputDir) throws IOException {
+		Path temp = outputDir.resolve(FILE_NAME + ".tmp");
+		try (BufferedWriter writer = Files.newBufferedWriter(temp)) {
+			writer.write(HEADER);
+			writer.newLine();
+			for (List<Entry> files : filesByType.values()) {
+				for (Entry entry : files) {
+					writer.write(entry.fileName + "\t" + entry.type + "\t" + entry.part + "\t" + entry.firstRow + "\t"
+							+ entry.rows + "\t" + entry.bytes + "\t" + entry.dataBytes + "\t"
+							+ formatPairs(entry.indexRows, entry.indexOffsets) + "\t"
+							+ formatPairs(entry.memberOffsets, entry.memberDataOffsets));
+					writer.newLine();
+				}
+			}
+		}
+		Files.move(temp, outputDir.resolve(FILE_NAME), StandardCopyOption.REPLACE_EXISTING,
+				StandardCopyOption.ATOMIC_MOVE);
+	}
+
+	// 목록이 가리키는 모든 파일 이름
+	Set<String> fileNames() {
+		Set<String> names = new HashSet<>();
+		filesByType.values().forEach(files -> files.forEach(file -> names.add(file.fileName)));
+		return names;
+	}
+
+	// 타입의 분산 파일 목록 (없으면 빈 목록) - 파일별로 나눠 병렬로 읽을 때 사용
+	public List<Entry> files(String type) {
+		return filesByType.getOrDefault(type, List.of());
+	}
+
+	public long rowCount(String type) {
+		return files(type).stream().mapToLong(Entry::getRows).sum();
+	}
+
+	// 타입 전체에서 row번째 행(0부터)부터 읽는 리더 - 분산 파일을 색인으로 바로 찾아가고 그 파일 끝까지 읽음
+	public BufferedReader openAt(Path outputDir, String type, long row) throws IOException {
+		for (Entry entry : files(type)) {
+			if (row < entry.firstRow + entry.rows) {
+				return entry.openAt(outputDir, row - entry.firstRow);
+			}
+		}
+		throw new IllegalArgumentException(type + " 출력 행 범위 초과: " + row + " (총 " + rowCount(type) + "행)");
+	}
+
+	private static String formatPairs(long[] keys, long[] values) {
+		if (keys.length == 0) {
+			return NONE;
+		}
+		StringBuilder pairs = new StringBuilder();
+		for (int i = 0; i < keys.length; i++) {
+			if (i > 0) {
+				pairs.append(',');
+			}
+			pairs.append(keys[i]).append(':').append(values[i]);
+		}
+		return pairs.toString();
+	}
+
+	private static long[][] parsePairs(String column) {
+		if (column.equals(NONE)) {
+			return new long[][] { new long[0], new long[0] };
+		}
+		String[] pairs = column.split(",");
+		long[][] parsed = new long[2][pairs.length];
+		for (int i = 0; i < pairs.length; i++) {
+			int separator = pairs[i].indexOf(':');
+			parsed[0][i] = Long.parseLong(pairs[i].substring(0, separator));
+			parsed[1][i] = Long.parseLong(pairs[i].substring(separator + 1));
+		}
+		return parsed;
+	}
+
+	public static class Entry {
+		private final String fileName;
+		private final String type;
+		private final int part;
+		private final long firstRow;
+		private final long rows;
+		private final long bytes;
+		private final long dataBytes;
+		private final long[] indexRows;
+		private final long[] indexOffsets;
+		private final long[] memberOffsets; // 압축 파일이 아니면 빈 배열
+		private final long[] memberDataOffsets;
+
+		Entry(String fileName, String type, int part, long firstRow, long rows, long bytes, long dataBytes,
+				long[] indexRows, long[] indexOffsets, long[] memberOffsets, long[] memberDataOffsets) {
+			this.fileName = fileName;
+			this.type = type;
+			this.part = part;
+			this.firstRow = firstRow;
+			this.rows = rows;
+			this.bytes = bytes;
+			this.dataBytes = dataBytes;
+			this.indexRows = indexRows;
+			this.indexOffsets = indexOffsets;
+			this.memberOffsets = memberOffsets;
+			this.memberDataOffsets = memberDataOffsets;
+		}
+
+		private Entry withFirstRow(long firstRow) {
+			return new Entry(fileName, type, part, firstRow, rows, bytes, dataBytes, indexRows, indexOffsets,
+					memberOffsets, memberDataOffsets);
+		}
+
+		// 파일 안의 row번째 행부터 읽는 리더 - 가장 가까운 앞쪽 색인 위치로 이동 후 남은 행만 건너뜀
+		public BufferedReader openAt(Path outputDir, long row) throws IOException {
+			int slot = floorIndex(indexRows, row);
+			long startRow = slot < 0 ? 0 : indexRows[slot];
+			long dataOffset = slot < 0 ? 0 : indexOffsets[slot];
+
+			FileChannel channel = FileChannel.open(outputDir.resolve(fileName), StandardOpenOption.READ);
+			InputStream input = Channels.newInputStream(channel);
+			try {
+				if (memberOffsets.length == 0) {
+					channel.position(dataOffset);
+				} else {
+					// 원본 위치를 포함하는 gzip 멤버부터 풀고 멤버 안에서의 차이만큼 건너뜀
+					int member = Math.max(0, floorIndex(memberDataOffsets, dataOffset));
+					channel.position(memberOffsets[member]);
+					input = new GZIPInputStream(input, 64 * 1024);
+					input.skipNBytes(dataOffset - memberDataOffsets[member]);
+				}
+
+				BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+				for (long skipped = startRow; skipped < row; skipped++) {
+					if (reader.readLine() == null)
+						break;
+				}
+				return reader;
+			} catch (IOException e) {
+				input.close();
+				throw e;
+			}
+		}
+
+		// sorted에서 value 이하인 마지막 위치 (없으면 -1)
+		private static int floorIndex(long[] sorted, long value) {
+			int low = 0;
+			int high = sorted.length - 1;
+			while (low <= high) {
+				int mid = (low + high) >>> 1;
+				if (sorted[mid] <= value) {
+					low = mid + 1;
+				} else {
+					high = mid - 1;
+				}
+			}
+			return high;
+		}
+
+		public String getFileName() {
+			return fileName;
+		}
+
+		public String getType() {
+			return type;
+		}
+
+		public int getPart() {
+			return part;
+		}
+
+		public long getFirstRow() {
+			return firstRow;
+		}
+
+		public long getRows() {
+			return rows;
+		}
+
+		public long getBytes() {
+			return bytes;
+		}
+
+		public long getDataBytes() {
+			return dataBytes;
+		}
+	}
+}
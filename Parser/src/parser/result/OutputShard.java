@@ -0,0 +1,424 @@
+package parser.result;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+import parser.data.RecordList;
+import parser.data.RecordSink;
+import parser.data.StringDictionary;
+import parser.metrics.FlushEvent;
+import parser.metrics.MetricsRegistry;
+
+// 출력 타입 하나의 버퍼와 파일 상태 - 타입마다 자기 모니터로만 잠그므로 다른 타입 기록과 경합하지 않음
+// 버퍼 쪽 상태(버퍼, 예비 버퍼, 기록 중 수)는 모니터로 보호
+// 파일 쪽 상태(채널, 파일 번호, 파일 크기)는 동기 모드에서는 모니터 안에서, 비동기 모드에서는 기록 스레드에서만 변경
+// 버퍼는 UTF-8 바이트 버퍼 - 레코드 필드와 문자열을 넣을 때 바로 인코딩하므로 플러시는 바이트를 그대로 기록
+// 압축 모드: 플러시할 바이트의 블록 압축을 먼저 맡기고, 파일에는 압축이 끝난 멤버를 순서대로 기록
+// 파일 크기 제한과 파일 크기는 압축 후 바이트 기준
+// 기록한 분산 파일마다 행 수, 원본 크기, 희소 행 위치 색인, gzip 멤버 위치를 모아 출력 목록(OutputManifest)에 제공
+class OutputShard {
+	private final String type;
+	private final String outputPath;
+	private final int bufferThreshold;
+	private final long fileSizeLimit;
+	private final Supplier<Executor> flusher; // 비동기 모드가 아니면 null
+	private final boolean compressed;
+	private final int firstPart; // 첫 파일 번호 (분산 파일 일부만 교체할 때 1이 아님)
+
+	private Utf8Buffer buffer;
+	private Utf8Buffer spare; // 비동기 모드 예비 버퍼 (기록 중이면 null)
+	private int inFlight;
+	private final RecordEncoder recordEncoder = new RecordEncoder(); // 모니터 안에서만 사용
+
+	// 상태 출력에서 잠금 없이 읽음
+	private volatile int fileCounter;
+	private volatile long currentFileSize;
+	private boolean firstWrite = true; // 현재 파일에 아직 기록하지 않았는지 (열 때 기존 내용 삭제)
+	private FileChannel channel; // 현재 출력 파일 (첫 플러시 때 열림)
+	private final List<SplitFile> splits = new ArrayList<>(); // 파일 번호 순서, 기록 스레드에서만 변경
+	private volatile IOException failure; // 첫 기록 실패 (있으면 게시하지 않음)
+
+	OutputShard(String type, String outputPath, int bufferThreshold, long fileSizeLimit, Supplier<Executor> flusher,
+			boolean compressed) {
+		this(type, outputPath, bufferThreshold, fileSizeLimit, flusher, compressed, 1);
+	}
+
+	OutputShard(String type, String outputPath, int bufferThreshold, long fileSizeLimit, Supplier<Executor> flusher,
+			boolean compressed, int firstPart) {
+		this.type = type;
+		this.compressed = compressed;
+		this.firstPart = firstPart;
+		this.fileCounter = firstPart;
+		this.outputPath = outputPath;
+		this.bufferThreshold = bufferThreshold;
+		this.fileSizeLimit = fileSizeLimit;
+		this.flusher = flusher;
+		this.buffer = new Utf8Buffer(bufferThreshold);
+		if (flusher != null) {
+			this.spare = new Utf8Buffer(bufferThreshold);
+		}
+	}
+
+	// 이미 포맷된 행 (증분 스캔에서 재사용하는 기존 행)
+	synchronized void append(String content) {
+		buffer.append(content);
+		afterAppend();
+	}
+
+	// 파서가 남긴 레코드를 필드 단위로 바로 인코딩 (파일별 중간 문자열 없음)
+	synchronized void append(RecordList records) {
+		records.writeTo(recordEncoder);
+		afterAppend();
+	}
+
+	private void afterAppend() {
+		if (buffer.size() >= bufferThreshold) {
+			flush();
+		} else {
+			MetricsRegistry.outputBuffer(type).setBufferedBytes(buffer.size());
+		}
+	}
+
+	synchronized void flush() {
+		if (flusher == null) {
+			if (buffer.size() > 0 && writeBuffer(prepare(buffer))) {
+				buffer.clear();
+			}
+			return;
+		}
+
+		// 예비 버퍼로 교체하고 가득 찬 버퍼는 기록 스레드로 넘김 (실패하면 오류만 기록하고 버림)
+		// 대기 중에는 모니터를 놓으므로 다른 스레드가 이어서 채운 내용까지 대기 후에 읽음
+		awaitUninterruptibly(() -> spare != null);
+		if (buffer.size() == 0)
+			return;
+
+		Utf8Buffer full = buffer;
+		PendingWrite pending = prepare(full);
+		buffer = spare;
+		spare = null;
+		inFlight++;
+
+		// 압축은 작업 스레드에서 진행되고 기록 스레드는 순서대로 완료를 기다려 기록
+		flusher.get().execute(() -> {
+			try {
+				writeBuffer(pending);
+			} finally {
+				full.clear();
+				returnSpare(full);
+			}
+		});
+	}
+
+	private synchronized void returnSpare(Utf8Buffer returned) {
+		spare = returned;
+		inFlight--;
+		notifyAll();
+	}
+
+	// 남은 버퍼를 기록하고 넘긴 버퍼가 모두 기록될 때까지 기다린 뒤 채널을 닫음
+	synchronized void close() {
+		flush();
+		awaitUninterruptibly(() -> inFlight == 0);
+		closeChannel();
+	}
+
+	// 모니터를 놓고 조건이 성립할 때까지 대기 (인터럽트는 대기 후 복원)
+	private void awaitUninterruptibly(BooleanSupplier ready) {
+		boolean interrupted = false;
+		while (!ready.getAsBoolean()) {
+			try {
+				wait();
+			} catch (InterruptedException e) {
+				interrupted = true;
+			}
+		}
+		if (interrupted) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	// 압축 모드면 블록 압축을 시작 (압축은 작업 스레드) - 버퍼는 기록이 끝날 때까지 변경되지 않음
+	private PendingWrite prepare(Utf8Buffer content) {
+		byte[] data = content.array();
+		int size = content.size();
+		return new PendingWrite(data, size, compressed ? GzipBlockCompressor.compress(data, size) : null);
+	}
+
+	// 버퍼 내용을 현재 파일에 기록
+	private boolean writeBuffer(PendingWrite pending) {
+		// 압축 대기부터 채널 기록까지를 한 구간으로 기록
+		FlushEvent event = new FlushEvent();
+		event.begin();
+
+		byte[][] members = pending.members != null ? pending.members.join() : null;
+		long contentSize = pending.size;
+		if (members != null) {
+			contentSize = 0;
+			for (byte[] member : members) {
+				contentSize += member.length;
+			}
+		}
+
+		if (currentFileSize + contentSize > fileSizeLimit && currentFileSize > 0) {
+			moveToNextFile();
+		}
+
+		Path filePath = getCurrentFilePath();
+		SplitFile split = currentSplit();
+		try {
+			if (members != null) {
+				FileChannel target = openChannel();
+				long memberOffset = currentFileSize;
+				long memberDataOffset = split.dataBytes;
+				for (byte[] member : members) {
+					split.addMember(memberOffset, memberDataOffset);
+					memberOffset += member.length;
+					memberDataOffset += GzipBlockCompressor.BLOCK_SIZE;
+					ByteBuffer bytes = ByteBuffer.wrap(member);
+					while (bytes.hasRemaining()) {
+						target.write(bytes);
+					}
+				}
+			} else {
+				ByteBuffer bytes = ByteBuffer.wrap(pending.data, 0, pending.size);
+				FileChannel target = openChannel();
+				while (bytes.hasRemaining()) {
+					target.write(bytes);
+				}
+			}
+
+			currentFileSize += contentSize;
+			split.bytes = currentFileSize;
+			split.index(pending.data, pending.size);
+			MetricsRegistry.outputBuffer(type).recordFlush(contentSize, fileCounter);
+		} catch (IOException e) {
+			fail(e);
+			return false;
+		}
+		event.end();
+		if (event.shouldCommit()) {
+			event.outputType = type;
+			event.path = filePath.toString();
+			event.size = contentSize;
+			event.fileIndex = fileCounter;
+			event.commit();
+		}
+
+		System.out.println(type + " 버퍼 플러시: " + filePath.getFileName() + " (현재 크기: "
+				+ DistributedBufferedWriter.formatSize(currentFileSize) + ")");
+		return true;
+	}
+
+	// 파일의 첫 기록이면 기존 내용을 지우고 열고, 이후에는 이어서 기록
+	private FileChannel openChannel() throws IOException {
+		if (channel == null) {
+			channel = firstWrite
+					? FileChannel.open(getCurrentFilePath(), StandardOpenOption.CREATE,
+							StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)
+					: FileChannel.open(getCurrentFilePath(), StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+			firstWrite = false;
+		}
+		return channel;
+	}
+
+	private SplitFile currentSplit() {
+		if (splits.size() <= fileCounter - firstPart) {
+			splits.add(new SplitFile());
+		}
+		return splits.get(fileCounter - firstPart);
+	}
+
+	private void moveToNextFile() {
+		closeChannel();
+		fileCounter++;
+		currentFileSize = 0;
+		firstWrite = true; // 새 파일은 첫 번째 쓰기로 설정
+
+		System.out.println(type + " 파일 분산: " + DistributedBufferedWriter.fileName(type, fileCounter, compressed)
+				+ " (크기 제한 " + DistributedBufferedWriter.formatSize(fileSizeLimit) + " 초과)");
+	}
+
+	private void closeChannel() {
+		if (channel == null)
+			return;
+
+		try {
+			channel.close();
+		} catch (IOException e) {
+			fail(e);
+		}
+		channel = null;
+	}
+
+	private void fail(IOException e) {
+		e.printStackTrace();
+		MetricsRegistry.scan().recordError();
+		if (failure == null) {
+			failure = e;
+		}
+	}
+
+	// 기록 중 실패가 있었으면 첫 예외 (없으면 null, close 이후 호출)
+	IOException getFailure() {
+		return failure;
+	}
+
+	private Path getCurrentFilePath() {
+		return Paths.get(outputPath, DistributedBufferedWriter.fileName(type, fileCounter, compressed));
+	}
+
+	boolean isCompressed() {
+		return compressed;
+	}
+
+	int getFileCounter() {
+		return fileCounter;
+	}
+
+	long getCurrentFileSize() {
+		return currentFileSize;
+	}
+
+	synchronized int getBufferedBytes() {
+		return buffer.size();
+	}
+
+	// 기록한 분산 파일 목록 (close 이후 호출) - 파일 이름은 출력 경로 기준 directory 아래 경로
+	synchronized List<OutputManifest.Entry> manifestEntries(String directory) {
+		List<OutputManifest.Entry> entries = new ArrayList<>(splits.size());
+		for (int i = 0; i < splits.size(); i++) {
+			SplitFile split = splits.get(i);
+			int part = firstPart + i;
+			String fileName = directory + DistributedBufferedWriter.fileName(type, part, compressed);
+			entries.add(new OutputManifest.Entry(fileName, type, part, 0, split.rows, split.bytes, split.dataBytes,
+					split.indexRows.toArray(), split.indexOffsets.toArray(), split.memberOffsets.toArray(),
+					split.memberDataOffsets.toArray()));
+		}
+		return entries;
+	}
+
+	// 분산 파일 하나의 기록 현황
+	private static class SplitFile {
+		private long rows;
+		private long bytes;
+		private long dataBytes; // 압축 전 UTF-8 바이트
+		private final LongList indexRows = new LongList();
+		private final LongList indexOffsets = new LongList();
+		private final LongList memberOffsets = new LongList();
+		private final LongList memberDataOffsets = new LongList();
+
+		private void addMember(long offset, long dataOffset) {
+			memberOffsets.add(offset);
+			memberDataOffsets.add(dataOffset);
+		}
+
+		// 기록한 내용의 행을 세고 INDEX_INTERVAL 행마다 다음 행의 시작 위치를 색인에 추가
+		// (UTF-8에서 '\n' 바이트는 줄바꿈 문자로만 나타남)
+		private void index(byte[] data, int size) {
+			for (int i = 0; i < size; i++) {
+				if (data[i] == '\n' && ++rows % OutputManifest.INDEX_INTERVAL == 0) {
+					indexRows.add(rows);
+					indexOffsets.add(dataBytes + i + 1);
+				}
+			}
+			dataBytes += size;
+		}
+	}
+
+	private static class LongList {
+		private long[] values = new long[8];
+		private int size;
+
+		private void add(long value) {
+			if (size == values.length) {
+				values = Arrays.copyOf(values, size * 2);
+			}
+			values[size++] = value;
+		}
+
+		private long[] toArray() {
+			return Arrays.copyOf(values, size);
+		}
+	}
+
+	// 레코드 필드를 파이프 구분 행으로 현재 버퍼에 바로 인코딩
+	// 사전 값 필드는 사전 ID별로 한 번만 인코딩하고 이후에는 바이트를 복사 (사전이 바뀌면 비움)
+	private class RecordEncoder implements RecordSink {
+		private boolean firstField = true;
+		private StringDictionary encodedDictionary;
+		private byte[][] encoded = new byte[0][];
+
+		@Override
+		public void field(String value) {
+			separate();
+			buffer.append(value);
+		}
+
+		@Override
+		public void field(StringDictionary dictionary, int id) {
+			if (id == StringDictionary.NONE) {
+				field("");
+				return;
+			}
+			if (dictionary != encodedDictionary) {
+				encodedDictionary = dictionary;
+				encoded = new byte[Math.max(64, id + 1)][];
+			} else if (id >= encoded.length) {
+				encoded = Arrays.copyOf(encoded, Math.max(id + 1, encoded.length * 2));
+			}
+			byte[] bytes = encoded[id];
+			if (bytes == null) {
+				bytes = Utf8Buffer.encode(dictionary.value(id));
+				encoded[id] = bytes;
+			}
+			separate();
+			buffer.append(bytes);
+		}
+
+		// 이어 붙인 필드도 문자열을 만들지 않고 조각별로 인코딩
+		@Override
+		public void field(String first, char separator, String second) {
+			separate();
+			buffer.append(first);
+			buffer.append(separator);
+			buffer.append(second);
+		}
+
+		private void separate() {
+			if (!firstField) {
+				buffer.append('|');
+			}
+			firstField = false;
+		}
+
+		@Override
+		public void endRecord() {
+			buffer.append('\n');
+			firstField = true;
+		}
+	}
+
+	private static class PendingWrite {
+		private final byte[] data;
+		private final int size;
+		private final CompletableFuture<byte[][]> members; // 압축 모드가 아니면 null
+
+		private PendingWrite(byte[] data, int size, CompletableFuture<byte[][]> members) {
+			this.data = data;
+			this.size = size;
+			this.members = members;
+		}
+	}
+}
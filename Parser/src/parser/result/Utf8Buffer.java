@@ -0,0 +1,83 @@
+package parser.result;
+
+import java.util.Arrays;
+
+// 문자를 넣는 즉시 UTF-8로 인코딩해 쌓는 바이트 버퍼 (재사용, 동기화 없음)
+// 짝이 없는 서로게이트는 표준 인코더의 대체 문자와 같이 '?' 1바이트로 기록
+final class Utf8Buffer {
+	private byte[] bytes;
+	private int size;
+
+	Utf8Buffer(int initialCapacity) {
+		this.bytes = new byte[Math.max(16, initialCapacity)];
+	}
+
+	void append(CharSequence text) {
+		int length = text.length();
+		ensureCapacity(size + length * 3); // 문자당 최대 3바이트 (서로게이트 쌍은 2문자 4바이트)
+
+		byte[] target = bytes;
+		int position = size;
+		for (int i = 0; i < length; i++) {
+			char c = text.charAt(i);
+			if (c < 0x80) {
+				target[position++] = (byte) c;
+			} else if (c < 0x800) {
+				target[position++] = (byte) (0xC0 | (c >> 6));
+				target[position++] = (byte) (0x80 | (c & 0x3F));
+			} else if (Character.isHighSurrogate(c) && i + 1 < length
+					&& Character.isLowSurrogate(text.charAt(i + 1))) {
+				int codePoint = Character.toCodePoint(c, text.charAt(++i));
+				target[position++] = (byte) (0xF0 | (codePoint >> 18));
+				target[position++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+				target[position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+				target[position++] = (byte) (0x80 | (codePoint & 0x3F));
+			} else if (Character.isSurrogate(c)) {
+				target[position++] = '?';
+			} else {
+				target[position++] = (byte) (0xE0 | (c >> 12));
+				target[position++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+				target[position++] = (byte) (0x80 | (c & 0x3F));
+			}
+		}
+		size = position;
+	}
+
+	// 미리 인코딩한 바이트 (encode 결과)
+	void append(byte[] encoded) {
+		ensureCapacity(size + encoded.length);
+		System.arraycopy(encoded, 0, bytes, size, encoded.length);
+		size += encoded.length;
+	}
+
+	// append(text)와 같은 규칙으로 인코딩한 바이트
+	static byte[] encode(CharSequence text) {
+		Utf8Buffer buffer = new Utf8Buffer(text.length() * 3);
+		buffer.append(text);
+		return Arrays.copyOf(buffer.bytes, buffer.size);
+	}
+
+	// ASCII 구분 문자
+	void append(char ascii) {
+		ensureCapacity(size + 1);
+		bytes[size++] = (byte) ascii;
+	}
+
+	private void ensureCapacity(int required) {
+		if (required > bytes.length) {
+			bytes = Arrays.copyOf(bytes, Math.max(required, bytes.length * 2));
+		}
+	}
+
+	byte[] array() {
+		return bytes;
+	}
+
+	int size() {
+		return size;
+	}
+
+	void clear() {
+		size = 0;
+	}
+}
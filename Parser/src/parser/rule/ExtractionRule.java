@@ -0,0 +1,50 @@
+package parser.rule;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// 추출 규칙 하나 - 키워드가 있는 줄에서 컬럼 값을 만듦
+// 정규식이 없으면 "Y", 있으면 첫 번째 그룹(그룹이 없으면 일치 전체)이 값
+public class ExtractionRule {
+	static final String PRESENT = "Y";
+
+	private final String column;
+	private final String keyword;
+	private final Pattern pattern;
+
+	public ExtractionRule(String column, String keyword, Pattern pattern) {
+		this.column = column;
+		this.keyword = keyword;
+		this.pattern = pattern;
+	}
+
+	// 키워드 일치 후 호출 - 정규식이 일치하지 않으면 null
+	String extract(CharSequence line) {
+		if (pattern == null) {
+			return PRESENT;
+		}
+		Matcher matcher = pattern.matcher(line);
+		if (!matcher.find()) {
+			return null;
+		}
+		return matcher.groupCount() > 0 && matcher.group(1) != null ? matcher.group(1) : matcher.group();
+	}
+
+	public String getColumn() {
+		return column;
+	}
+
+	public String getKeyword() {
+		return keyword;
+	}
+
+	// 없으면 null
+	public Pattern getPattern() {
+		return pattern;
+	}
+
+	@Override
+	public String toString() {
+		return column + " = " + keyword + (pattern != null ? " ~ " + pattern.pattern() : "");
+	}
+}
@@ -0,0 +1,137 @@
+package parser.rule;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+// 여러 키워드를 한 번의 순회로 찾는 Aho-Corasick 자동자 (실패 링크를 미리 펼친 DFA 전이표)
+// 기호는 문자(char) 또는 바이트 값 - 키워드 수와 무관하게 입력 기호당 표 조회 한 번
+public class KeywordAutomaton {
+	// 키워드에 나오는 기호만 1부터 번호를 매기고 나머지는 0
+	private final int[] asciiClass = new int[128];
+	private final int[] extraSymbols;
+	private final int[] extraClass;
+	private final int classes;
+
+	private final int[] transitions; // 상태 * classes + 기호 번호
+	private final int[][] outputs; // 상태별로 끝나는 키워드 번호 (없으면 null)
+
+	public KeywordAutomaton(int[][] keywords) {
+		TreeSet<Integer> symbols = new TreeSet<>();
+		for (int[] keyword : keywords) {
+			if (keyword.length == 0)
+				throw new IllegalArgumentException("빈 키워드");
+			for (int symbol : keyword)
+				symbols.add(symbol);
+		}
+
+		List<Integer> extras = new ArrayList<>();
+		List<Integer> extraClasses = new ArrayList<>();
+		int next = 1;
+		for (int symbol : symbols) {
+			if (symbol < 128) {
+				asciiClass[symbol] = next++;
+			} else {
+				extras.add(symbol); // TreeSet 순서이므로 정렬된 상태로 추가됨
+				extraClasses.add(next++);
+			}
+		}
+		this.classes = next;
+		this.extraSymbols = extras.stream().mapToInt(Integer::intValue).toArray();
+		this.extraClass = extraClasses.stream().mapToInt(Integer::intValue).toArray();
+
+		// 1) 키워드 트라이
+		List<Map<Integer, Integer>> trie = new ArrayList<>();
+		List<List<Integer>> ends = new ArrayList<>();
+		trie.add(new HashMap<>());
+		ends.add(new ArrayList<>());
+		for (int k = 0; k < keywords.length; k++) {
+			int state = 0;
+			for (int symbol : keywords[k]) {
+				int cls = classOf(symbol);
+				Integer child = trie.get(state).get(cls);
+				if (child == null) {
+					child = trie.size();
+					trie.add(new HashMap<>());
+					ends.add(new ArrayList<>());
+					trie.get(state).put(cls, child);
+				}
+				state = child;
+			}
+			ends.get(state).add(k);
+		}
+
+		// 2) 너비 우선으로 실패 링크를 따라가며 전이표와 출력 병합
+		int states = trie.size();
+		this.transitions = new int[states * classes];
+		this.outputs = new int[states][];
+		int[] fail = new int[states];
+		Deque<Integer> queue = new ArrayDeque<>();
+
+		for (int cls = 1; cls < classes; cls++) {
+			Integer child = trie.get(0).get(cls);
+			if (child != null) {
+				transitions[cls] = child;
+				queue.add(child);
+			}
+		}
+		outputs[0] = toOutput(ends.get(0), null);
+
+		while (!queue.isEmpty()) {
+			int state = queue.poll();
+			outputs[state] = toOutput(ends.get(state), outputs[fail[state]]);
+
+			for (int cls = 0; cls < classes; cls++) {
+				Integer child = trie.get(state).get(cls);
+				int viaFail = transitions[fail[state] * classes + cls];
+				if (child != null) {
+					fail[child] = viaFail;
+					transitions[state * classes + cls] = child;
+					queue.add(child);
+				} else {
+					transitions[state * classes + cls] = viaFail;
+				}
+			}
+		}
+	}
+
+	private static int[] toOutput(List<Integer> own, int[] inherited) {
+		if (own.isEmpty())
+			return inherited;
+		int[] merged = own.stream().mapToInt(Integer::intValue).toArray();
+		if (inherited != null) {
+			merged = Arrays.copyOf(merged, merged.length + inherited.length);
+			System.arraycopy(inherited, 0, merged, own.size(), inherited.length);
+		}
+		return merged;
+	}
+
+	private int classOf(int symbol) {
+		if (symbol < 128)
+			return symbol >= 0 ? asciiClass[symbol] : 0;
+		int index = Arrays.binarySearch(extraSymbols, symbol);
+		return index >= 0 ? extraClass[index] : 0;
+	}
+
+	public int initialState() {
+		return 0;
+	}
+
+	public int step(int state, int symbol) {
+		return transitions[state * classes + classOf(symbol)];
+	}
+
+	// 현재 상태에서 끝나는 키워드 번호, 없으면 null
+	public int[] outputs(int state) {
+		return outputs[state];
+	}
+
+	public int stateCount() {
+		return outputs.length;
+	}
+}
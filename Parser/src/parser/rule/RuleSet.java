@@ -0,0 +1,180 @@
+package parser.rule;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+// 사용자 정의 추출 규칙 묶음 - 모든 키워드를 하나의 자동자로 컴파일해 줄마다 한 번만 순회
+// 규칙 파일 형식 (한 줄에 하나, #으로 시작하면 주석):
+//   컬럼 = 키워드
+//   컬럼 = 키워드 ~ 정규식     (키워드가 있는 줄에서만 정규식 실행)
+// 예) audit = @AuditLog ~ @AuditLog\("([^"]*)"\)
+//     tx = @Transactional
+public class RuleSet {
+	public static final RuleSet EMPTY = new RuleSet(List.of());
+
+	private static final String PATTERN_SEPARATOR = " ~ ";
+
+	private final List<ExtractionRule> rules;
+	private final List<String> columns = new ArrayList<>();
+	private final int[] columnIndex; // 규칙 번호 → 컬럼 번호
+	private final int[][] keywordRules; // 키워드 번호 → 규칙 번호들
+	private final KeywordAutomaton charAutomaton;
+	private final KeywordAutomaton byteAutomaton;
+	private final String fingerprint;
+
+	public RuleSet(List<ExtractionRule> rules) {
+		this.rules = List.copyOf(rules);
+		this.columnIndex = new int[rules.size()];
+
+		Map<String, List<Integer>> byKeyword = new LinkedHashMap<>();
+		for (int r = 0; r < rules.size(); r++) {
+			ExtractionRule rule = rules.get(r);
+			if (!columns.contains(rule.getColumn())) {
+				columns.add(rule.getColumn());
+			}
+			columnIndex[r] = columns.indexOf(rule.getColumn());
+			byKeyword.computeIfAbsent(rule.getKeyword(), k -> new ArrayList<>()).add(r);
+		}
+
+		List<String> keywords = new ArrayList<>(byKeyword.keySet());
+		this.keywordRules = new int[keywords.size()][];
+		int[][] charKeywords = new int[keywords.size()][];
+		int[][] byteKeywords = new int[keywords.size()][];
+		for (int k = 0; k < keywords.size(); k++) {
+			String keyword = keywords.get(k);
+			keywordRules[k] = byKeyword.get(keyword).stream().mapToInt(Integer::intValue).toArray();
+			charKeywords[k] = keyword.chars().toArray();
+
+			byte[] encoded = keyword.getBytes(StandardCharsets.UTF_8);
+			byteKeywords[k] = new int[encoded.length];
+			for (int i = 0; i < encoded.length; i++) {
+				byteKeywords[k][i] = encoded[i] & 0xFF;
+			}
+		}
+
+		this.charAutomaton = new KeywordAutomaton(charKeywords);
+		this.byteAutomaton = new KeywordAutomaton(byteKeywords);
+		this.fingerprint = rules.isEmpty() ? "" : digest(this.rules);
+	}
+
+	public static RuleSet load(Path ruleFile) throws IOException {
+		return parse(Files.readAllLines(ruleFile, StandardCharsets.UTF_8));
+	}
+
+	public static RuleSet parse(List<String> lines) {
+		List<ExtractionRule> rules = new ArrayList<>();
+
+		for (int i = 0; i < lines.size(); i++) {
+			String line = lines.get(i).trim();
+			if (line.isEmpty() || line.startsWith("#"))
+				continue;
+
+			int equals = line.indexOf('=');
+			if (equals <= 0) {
+				throw new IllegalArgumentException("규칙 형식 오류 (" + (i + 1) + "행): " + line);
+			}
+			String column = line.substring(0, equals).trim();
+			String definition = line.substring(equals + 1).trim();
+
+			String keyword = definition;
+			Pattern pattern = null;
+			int separator = definition.indexOf(PATTERN_SEPARATOR);
+			if (separator >= 0) {
+				keyword = definition.substring(0, separator).trim();
+				try {
+					pattern = Pattern.compile(definition.substring(separator + PATTERN_SEPARATOR.length()).trim());
+				} catch (PatternSyntaxException e) {
+					throw new IllegalArgumentException("규칙 정규식 오류 (" + (i + 1) + "행): " + e.getMessage(), e);
+				}
+			}
+
+			if (column.isEmpty() || keyword.isEmpty() || column.contains("|")) {
+				throw new IllegalArgumentException("규칙 형식 오류 (" + (i + 1) + "행): " + line);
+			}
+			rules.add(new ExtractionRule(column, keyword, pattern));
+		}
+
+		return rules.isEmpty() ? EMPTY : new RuleSet(rules);
+	}
+
+	// 줄을 한 번 순회하며 일치한 규칙의 값을 컬럼 위치에 기록 (이미 값이 있는 컬럼은 유지)
+	public void apply(CharSequence line, String[] values) {
+		int state = charAutomaton.initialState();
+		for (int i = 0; i < line.length(); i++) {
+			state = charAutomaton.step(state, line.charAt(i));
+			int[] hits = charAutomaton.outputs(state);
+			if (hits == null)
+				continue;
+
+			for (int keyword : hits) {
+				for (int r : keywordRules[keyword]) {
+					if (values[columnIndex[r]] == null) {
+						values[columnIndex[r]] = rules.get(r).extract(line);
+					}
+				}
+			}
+		}
+	}
+
+	// 바이트 구간에 키워드가 하나라도 있는지 (바이트 입력 모드에서 줄 변환 여부 판단)
+	public boolean mayMatch(ByteBuffer content, int start, int stop) {
+		if (rules.isEmpty())
+			return false;
+
+		int state = byteAutomaton.initialState();
+		for (int i = start; i < stop; i++) {
+			state = byteAutomaton.step(state, content.get(i) & 0xFF);
+			if (byteAutomaton.outputs(state) != null)
+				return true;
+		}
+		return false;
+	}
+
+	public boolean isEmpty() {
+		return rules.isEmpty();
+	}
+
+	public List<ExtractionRule> getRules() {
+		return rules;
+	}
+
+	// 출력 컬럼 이름 (규칙 파일에 처음 나온 순서)
+	public List<String> getColumns() {
+		return columns;
+	}
+
+	// 규칙 내용의 해시 - 결과 캐시 키에 포함 (규칙이 없으면 빈 문자열)
+	public String fingerprint() {
+		return fingerprint;
+	}
+
+	private static String digest(List<ExtractionRule> rules) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			for (ExtractionRule rule : rules) {
+				digest.update(rule.toString().getBytes(StandardCharsets.UTF_8));
+				digest.update((byte) '\n');
+			}
+			return HexFormat.of().formatHex(digest.digest());
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 미지원 런타임", e);
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "추출 규칙 " + rules.size() + "개, 컬럼 " + columns;
+	}
+}
@@ -0,0 +1,179 @@
+package parser.scan;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.TreeMap;
+
+// 증분 스캔용 파일 목록 (경로, 크기, 수정 시각, 내용 해시, 타입, 출력 행 수, 클래스명)
+// 항목은 전체 스캔 탐색 순서와 같은 경로 문자열 순으로 유지 - 항목 순서가 곧 타입별 출력 파일의 행 순서이므로
+// 신규 파일도 제자리에 들어가 증분 스캔 출력이 전체 스캔 출력과 바이트 단위로 같음
+// 클래스명은 기존 출력을 파일별로 나눌 때 행과 맞는지 확인하는 용도
+// 전체 스캔은 목록 없이 출력을 다시 쓰므로 시작할 때 목록을 지움 (남은 목록으로 새 출력을 나누지 않도록)
+public class FileManifest {
+	public static final String FILE_NAME = "scan-manifest.tsv";
+	private static final String HEADER = "#path\tsize\tmtime\tsha256\ttype\trows\tclass";
+	private static final int COLUMNS = 7;
+
+	private final Map<String, Entry> entries = new TreeMap<>();
+
+	// 출력 경로의 목록 파일 로드 (없거나 이전 형식, 경로 순이 아니면 빈 목록 - 증분 스캔이 전체를 다시 작성)
+	public static FileManifest load(Path outputDir) throws IOException {
+		FileManifest manifest = new FileManifest();
+		Path file = outputDir.resolve(FILE_NAME);
+		if (!Files.exists(file)) {
+			return manifest;
+		}
+
+		try (BufferedReader reader = Files.newBufferedReader(file)) {
+			String last = null;
+			String line;
+			while ((line = reader.readLine()) != null) {
+				if (line.isEmpty() || line.startsWith("#"))
+					continue;
+
+				String[] cols = line.split("\t", -1);
+				if (cols.length == COLUMNS - 1) {
+					System.err.println("이전 형식 목록 - 전체 다시 작성: " + file);
+					return new FileManifest();
+				}
+				if (cols.length != COLUMNS) {
+					System.err.println("목록 형식 오류, 무시: " + line);
+					continue;
+				}
+				if (last != null && last.compareTo(cols[0]) >= 0) {
+					System.err.println("경로 순이 아닌 목록 - 전체 다시 작성: " + file);
+					return new FileManifest();
+				}
+				last = cols[0];
+				manifest.put(new Entry(cols[0], Long.parseLong(cols[1]), Long.parseLong(cols[2]), cols[3], cols[4],
+						Integer.parseInt(cols[5]), cols[6]));
+			}
+		}
+		return manifest;
+	}
+
+	// 목록 삭제 (전체 스캔 시작 시)
+	public static void delete(Path outputDir) throws IOException {
+		Files.deleteIfExists(outputDir.resolve(FILE_NAME));
+	}
+
+	// 임시 파일에 기록 후 교체하여 중단 시에도 이전 목록 유지
+	public void save(Path outputDir) throws IOException {
+		Files.createDirectories(outputDir);
+		Path temp = outputDir.resolve(FILE_NAME + ".tmp");
+
+		try (BufferedWriter writer = Files.newBufferedWriter(temp)) {
+			writer.write(HEADER);
+			writer.newLine();
+			for (Entry entry : entries.values()) {
+				writer.write(entry.path + "\t" + entry.size + "\t" + entry.mtime + "\t" + entry.hash + "\t"
+						+ entry.type + "\t" + entry.rows + "\t" + entry.className);
+				writer.newLine();
+			}
+		}
+		Files.move(temp, outputDir.resolve(FILE_NAME), StandardCopyOption.REPLACE_EXISTING,
+				StandardCopyOption.ATOMIC_MOVE);
+	}
+
+	public Entry get(String path) {
+		return entries.get(path);
+	}
+
+	// 같은 경로의 항목은 교체, 신규 항목은 경로 순 위치에 추가
+	public void put(Entry entry) {
+		entries.put(entry.path, entry);
+	}
+
+	public Entry remove(String path) {
+		return entries.remove(path);
+	}
+
+	public Collection<Entry> entries() {
+		return entries.values();
+	}
+
+	public boolean isEmpty() {
+		return entries.isEmpty();
+	}
+
+	public static String hash(byte[] content) {
+		try {
+			return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 미지원 런타임", e);
+		}
+	}
+
+	public static class Entry {
+		private final String path;
+		private long size;
+		private long mtime;
+		private final String hash;
+		private final String type;
+		private int rows;
+		private String className;
+
+		public Entry(String path, long size, long mtime, String hash, String type, int rows, String className) {
+			this.path = path;
+			this.size = size;
+			this.mtime = mtime;
+			this.hash = hash;
+			this.type = type;
+			this.rows = rows;
+			this.className = className;
+		}
+
+		public String getPath() {
+			return path;
+		}
+
+		public long getSize() {
+			return size;
+		}
+
+		public long getMtime() {
+			return mtime;
+		}
+
+		public String getHash() {
+			return hash;
+		}
+
+		public String getType() {
+			return type;
+		}
+
+		public int getRows() {
+			return rows;
+		}
+
+		public String getClassName() {
+			return className;
+		}
+
+		// 크기와 수정 시각이 같으면 내용을 읽지 않고 변경 없음으로 판단
+		public boolean matchesMetadata(long size, long mtime) {
+			return this.size == size && this.mtime == mtime;
+		}
+
+		public void updateMetadata(long size, long mtime) {
+			this.size = size;
+			this.mtime = mtime;
+		}
+
+		// 재작성 후 이 파일이 출력에 남긴 행 수와 행의 클래스명
+		public void setOutput(int rows, String className) {
+			this.rows = rows;
+			this.className = className != null ? className : "";
+		}
+	}
+}
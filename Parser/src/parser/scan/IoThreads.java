@@ -0,0 +1,46 @@
+package parser.scan;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 파일 I/O 전용 실행기 생성 (JDK 21 이상이면 가상 스레드, 아니면 데몬 플랫폼 스레드)
+public class IoThreads {
+	private static final Method VIRTUAL_EXECUTOR_FACTORY = findVirtualExecutorFactory();
+
+	private IoThreads() {
+		// 유틸리티 클래스이므로 인스턴스 생성 방지
+	}
+
+	public static boolean isVirtualThreadSupported() {
+		return VIRTUAL_EXECUTOR_FACTORY != null;
+	}
+
+	// 파일 하나당 스레드 하나 - 동시 실행 수 제한은 호출 측에서 담당
+	public static ExecutorService newIoExecutor() {
+		if (VIRTUAL_EXECUTOR_FACTORY != null) {
+			try {
+				return (ExecutorService) VIRTUAL_EXECUTOR_FACTORY.invoke(null);
+			} catch (ReflectiveOperationException e) {
+				System.err.println("가상 스레드 실행기 생성 실패, 플랫폼 스레드 사용: " + e.getMessage());
+			}
+		}
+
+		AtomicInteger sequence = new AtomicInteger();
+		return Executors.newCachedThreadPool(task -> {
+			Thread thread = new Thread(task, "io-reader-" + sequence.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	// 컴파일 대상은 JDK 17이므로 리플렉션으로 조회
+	private static Method findVirtualExecutorFactory() {
+		try {
+			return Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+		} catch (NoSuchMethodException e) {
+			return null;
+		}
+	}
+}
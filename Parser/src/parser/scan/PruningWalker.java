@@ -0,0 +1,248 @@
+package parser.scan;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import parser.metrics.WalkEvent;
+
+// 제외 대상 디렉터리는 내려가지 않고 건너뛰는 탐색기
+// 탐색 결과는 경로 문자열 순 - 디렉터리 단위로만 정렬하고 파일은 찾는 대로 내보냄 (stream)
+// 제외 glob은 디렉터리 이름과 루트 기준 상대 경로 양쪽에 대해 검사 (예: "target", "src/test")
+// 단, 패키지 이름으로도 쓰이는 이름(build, out, resources 등)은 루트 바로 아래가 아니면
+// 옆에 표식(빌드 파일, java 디렉터리)이 있을 때만 제외 - com/x/build 같은 패키지를 잃지 않도록
+public class PruningWalker {
+	// 기본 제외 디렉터리 (VCS/IDE 메타데이터, 빌드 산출물)
+	public static final List<String> DEFAULT_EXCLUDES = List.of(".git", ".svn", ".hg", ".idea", ".gradle",
+			".settings", "target", "build", "bin", "out", "node_modules");
+
+	// Java 소스 스캔 시 추가로 제외 (JSP/매퍼 XML이 있는 곳이라 감시 모드 등에서는 제외하지 않음)
+	public static final List<String> NON_JAVA_SOURCE_DIRS = List.of("resources", "webapp");
+
+	// 빌드 산출물 디렉터리 옆에 있는 빌드 설정 파일 (Maven, Gradle, Ant, Eclipse)
+	private static final List<String> BUILD_MARKERS = List.of("pom.xml", "build.gradle", "build.gradle.kts",
+			"build.xml", ".classpath", ".project");
+
+	// 디렉터리 이름 → 이름만 일치할 때 제외하려면 같은 위치에 있어야 하는 표식 (하나라도 있으면 제외)
+	private static final Map<String, List<String>> SIBLING_MARKERS = Map.of(
+			"target", BUILD_MARKERS,
+			"build", BUILD_MARKERS,
+			"bin", BUILD_MARKERS,
+			"out", BUILD_MARKERS,
+			"resources", List.of("java"), // src/main/resources 옆의 src/main/java
+			"webapp", List.of("java"));
+
+	private final List<PathMatcher> excludes;
+
+	private int visitedDirs;
+	private int skippedDirs;
+	private int visitedFiles;
+
+	public PruningWalker(List<String> excludeGlobs) {
+		this.excludes = excludeGlobs.stream().map(glob -> FileSystems.getDefault().getPathMatcher("glob:" + glob))
+				.collect(Collectors.toList());
+	}
+
+	// fileFilter를 통과한 파일 경로 목록 (탐색 순서)
+	public List<Path> walk(Path root, Predicate<Path> fileFilter) throws IOException {
+		return walk(root, root, fileFilter);
+	}
+
+	// root 아래의 start부터 탐색 - 제외 판단(상대 경로, 루트 바로 아래 여부)은 root 기준
+	public List<Path> walk(Path root, Path start, Predicate<Path> fileFilter) throws IOException {
+		try (Stream<Path> files = stream(root, start, fileFilter)) {
+			return files.collect(Collectors.toList());
+		}
+	}
+
+	// 탐색하면서 fileFilter를 통과한 파일을 하나씩 내보내는 스트림 (전체 목록을 모으지 않음)
+	// 디렉터리마다 항목을 이름 순(디렉터리는 이름 + 구분자)으로 방문하므로 경로 문자열 순으로 나옴
+	// - 파일시스템 나열 순서와 무관하고, 전체 목록을 정렬한 결과와 같음
+	public Stream<Path> stream(Path root, Predicate<Path> fileFilter) {
+		return stream(root, root, fileFilter);
+	}
+
+	public Stream<Path> stream(Path root, Path start, Predicate<Path> fileFilter) {
+		WalkIterator files = new WalkIterator(root, start, fileFilter);
+		Spliterator<Path> spliterator = Spliterators.spliteratorUnknownSize(files,
+				Spliterator.ORDERED | Spliterator.NONNULL);
+		return StreamSupport.stream(spliterator, false).onClose(files::finish);
+	}
+
+	public boolean isExcluded(Path root, Path dir) {
+		Path name = dir.getFileName();
+		Path relative = root.relativize(dir);
+		boolean nameMatched = false;
+		for (PathMatcher matcher : excludes) {
+			if (matcher.matches(relative)) {
+				return true;
+			}
+			nameMatched |= name != null && matcher.matches(name);
+		}
+		return nameMatched && hasSiblingMarker(dir, name.toString());
+	}
+
+	// 표식이 필요 없는 이름이면 true
+	private static boolean hasSiblingMarker(Path dir, String name) {
+		List<String> markers = SIBLING_MARKERS.get(name);
+		Path parent = dir.getParent();
+		if (markers == null || parent == null) {
+			return true;
+		}
+		for (String marker : markers) {
+			if (Files.exists(parent.resolve(marker))) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	// 디렉터리 항목 (방문 시 한 번 읽은 속성을 보관해 파일마다 추가 stat 호출 없음)
+	private static class Child {
+		private final Path path;
+		private final BasicFileAttributes attrs;
+		private final String key; // 정렬 키 - 디렉터리는 하위 경로와 같은 순서가 되도록 구분자를 붙임
+
+		private Child(Path path, BasicFileAttributes attrs) {
+			this.path = path;
+			this.attrs = attrs;
+			String name = path.getFileName().toString();
+			this.key = attrs.isDirectory() ? name + path.getFileSystem().getSeparator() : name;
+		}
+	}
+
+	// 깊이 우선 탐색 - 열린 디렉터리마다 정렬된 항목 목록만 스택에 보관
+	private class WalkIterator implements Iterator<Path> {
+		private final Path root;
+		private final Predicate<Path> fileFilter;
+		private final Deque<Iterator<Child>> stack = new ArrayDeque<>();
+		private final WalkEvent event = new WalkEvent();
+		private final String start;
+		private final int dirsBefore = visitedDirs;
+		private final int skippedBefore = skippedDirs;
+		private int matchedFiles;
+		private Path next;
+		private boolean finished;
+
+		private WalkIterator(Path root, Path start, Predicate<Path> fileFilter) {
+			this.root = root;
+			this.fileFilter = fileFilter;
+			this.start = start.toString();
+			event.begin();
+
+			BasicFileAttributes attrs = readAttributes(start);
+			if (attrs != null) {
+				stack.push(List.of(new Child(start, attrs)).iterator());
+			}
+		}
+
+		@Override
+		public boolean hasNext() {
+			while (next == null && !stack.isEmpty()) {
+				Iterator<Child> children = stack.peek();
+				if (!children.hasNext()) {
+					stack.pop();
+					continue;
+				}
+				visit(children.next());
+			}
+			if (next == null) {
+				finish();
+				return false;
+			}
+			return true;
+		}
+
+		@Override
+		public Path next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			Path path = next;
+			next = null;
+			return path;
+		}
+
+		private void visit(Child child) {
+			if (!child.attrs.isDirectory()) {
+				visitedFiles++;
+				if (child.attrs.isRegularFile() && fileFilter.test(child.path)) {
+					matchedFiles++;
+					next = child.path;
+				}
+				return;
+			}
+			if (!child.path.equals(root) && isExcluded(root, child.path)) {
+				skippedDirs++;
+				return;
+			}
+			visitedDirs++;
+
+			List<Child> children = new ArrayList<>();
+			try (DirectoryStream<Path> entries = Files.newDirectoryStream(child.path)) {
+				for (Path entry : entries) {
+					BasicFileAttributes attrs = readAttributes(entry);
+					if (attrs != null) {
+						children.add(new Child(entry, attrs));
+					}
+				}
+			} catch (IOException e) {
+				System.err.println("탐색 오류: " + child.path + " - " + e.getMessage());
+				return;
+			}
+			children.sort(Comparator.comparing(entry -> entry.key));
+			stack.push(children.iterator());
+		}
+
+		// 심볼릭 링크는 따라가지 않음 (링크 자체는 일반 파일도 디렉터리도 아니므로 건너뜀)
+		private BasicFileAttributes readAttributes(Path path) {
+			try {
+				return Files.readAttributes(path, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
+			} catch (IOException e) {
+				System.err.println("탐색 오류: " + path + " - " + e.getMessage());
+				return null;
+			}
+		}
+
+		// 끝까지 읽었거나 스트림을 닫을 때 한 번만 기록
+		private void finish() {
+			if (finished)
+				return;
+			finished = true;
+			stack.clear();
+
+			event.end();
+			if (event.shouldCommit()) {
+				event.root = start;
+				event.visitedDirs = visitedDirs - dirsBefore;
+				event.skippedDirs = skippedDirs - skippedBefore;
+				event.matchedFiles = matchedFiles;
+				event.commit();
+			}
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "탐색: 디렉터리 " + visitedDirs + "개 (제외 " + skippedDirs + "개), 파일 " + visitedFiles + "개";
+	}
+}
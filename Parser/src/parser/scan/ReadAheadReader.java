@@ -0,0 +1,82 @@
+package parser.scan;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.function.BiConsumer;
+import java.util.stream.Stream;
+
+import parser.metrics.FileReadEvent;
+import parser.metrics.MetricsRegistry;
+
+// 파일 내용을 I/O 스레드에서 미리 읽어 두고, 호출 스레드에는 순서대로 전달
+// 네트워크 파일시스템처럼 open/read 지연이 큰 환경에서 대기 시간을 겹치게 하기 위함
+public class ReadAheadReader implements AutoCloseable {
+	private final int concurrency;
+	private final ExecutorService ioExecutor;
+
+	public ReadAheadReader(int concurrency) {
+		this.concurrency = Math.max(1, concurrency);
+		this.ioExecutor = IoThreads.newIoExecutor();
+	}
+
+	public int getConcurrency() {
+		return concurrency;
+	}
+
+	// 최대 concurrency개 파일을 동시에 읽으며, consumer는 경로 순서대로 호출됨
+	public void forEach(Stream<Path> paths, BiConsumer<Path, byte[]> consumer) {
+		Deque<PendingRead> window = new ArrayDeque<>(concurrency);
+
+		paths.forEach(path -> {
+			if (window.size() >= concurrency) {
+				deliver(window.pollFirst(), consumer);
+			}
+			window.addLast(new PendingRead(path, CompletableFuture.supplyAsync(() -> readFile(path), ioExecutor)));
+		});
+
+		while (!window.isEmpty()) {
+			deliver(window.pollFirst(), consumer);
+		}
+	}
+
+	private void deliver(PendingRead pending, BiConsumer<Path, byte[]> consumer) {
+		byte[] content;
+		try {
+			content = pending.content.join();
+		} catch (CompletionException e) {
+			System.err.println("파일 읽기 오류: " + pending.path + " - " + e.getCause().getMessage());
+			MetricsRegistry.scan().recordError();
+			return;
+		}
+		consumer.accept(pending.path, content);
+	}
+
+	private static byte[] readFile(Path path) {
+		try {
+			return FileReadEvent.readAllBytes(path);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	@Override
+	public void close() {
+		ioExecutor.shutdown();
+	}
+
+	private static class PendingRead {
+		private final Path path;
+		private final CompletableFuture<byte[]> content;
+
+		private PendingRead(Path path, CompletableFuture<byte[]> content) {
+			this.path = path;
+			this.content = content;
+		}
+	}
+}
@@ -0,0 +1,107 @@
+package parser.scan;
+
+import java.util.function.Consumer;
+
+import parser.metrics.MetricsRegistry;
+
+// 순서 번호(0부터)가 붙은 결과를 번호 순서대로 consumer에 넘기는 제한 버퍼
+// 작업을 넘기는 쪽은 acquire로 창(window) 안의 번호가 될 때까지 대기 - 먼저 나간 번호가 기록되지 않으면
+// 뒤 번호는 창 크기만큼만 쌓이므로 메모리는 창 크기로 제한됨
+// 결과는 여러 스레드에서 complete로 넣고, 한 번에 한 스레드만 이어진 번호를 consumer에 넘김 (consumer 호출은 잠금 밖)
+// 실패한 항목도 complete(번호, null)로 알려야 다음 번호가 진행됨
+public class ReorderBuffer<T> {
+	private static final Object SKIPPED = new Object();
+
+	private final int window;
+	private final Consumer<T> consumer;
+	private final Object[] slots; // 번호 % window 위치, 비어 있으면 null
+
+	private long next; // 다음에 내보낼 번호
+	private boolean draining;
+
+	private int buffered;
+	private int maxBuffered;
+	private long acquireWaitNanos;
+
+	public ReorderBuffer(int window, Consumer<T> consumer) {
+		this.window = Math.max(1, window);
+		this.consumer = consumer;
+		this.slots = new Object[this.window];
+	}
+
+	// sequence가 창 안에 들어올 때까지 대기 (인터럽트는 대기 후 복원)
+	public synchronized void acquire(long sequence) {
+		long start = System.nanoTime();
+		boolean interrupted = false;
+		while (sequence >= next + window) {
+			try {
+				wait();
+			} catch (InterruptedException e) {
+				interrupted = true;
+			}
+		}
+		acquireWaitNanos += System.nanoTime() - start;
+		if (interrupted) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	// 결과 등록 (null이면 건너뜀) - 내보내는 스레드가 없으면 이 스레드가 이어진 번호를 모두 내보냄
+	public void complete(long sequence, T result) {
+		synchronized (this) {
+			if (sequence < next || sequence >= next + window) {
+				throw new IllegalStateException("재정렬 창 밖의 번호: " + sequence + " (다음 " + next + ")");
+			}
+			slots[slot(sequence)] = result != null ? result : SKIPPED;
+			maxBuffered = Math.max(maxBuffered, ++buffered);
+			if (draining)
+				return;
+			draining = true;
+		}
+		drain();
+	}
+
+	@SuppressWarnings("unchecked")
+	private void drain() {
+		while (true) {
+			Object ready;
+			synchronized (this) {
+				int slot = slot(next);
+				ready = slots[slot];
+				if (ready == null) {
+					draining = false;
+					return;
+				}
+				slots[slot] = null;
+				buffered--;
+				next++;
+				notifyAll();
+			}
+
+			if (ready == SKIPPED)
+				continue;
+			T result = (T) ready;
+			// 내보내는 스레드가 멈추면 뒤 번호가 모두 막히므로 항목 단위로 오류 처리
+			try {
+				consumer.accept(result);
+			} catch (RuntimeException e) {
+				System.err.println("기록 오류: " + e.getMessage());
+				MetricsRegistry.scan().recordError();
+			}
+		}
+	}
+
+	private int slot(long sequence) {
+		return (int) (sequence % window);
+	}
+
+	public synchronized long getReleased() {
+		return next;
+	}
+
+	@Override
+	public synchronized String toString() {
+		return String.format("재정렬 버퍼: 창 %d, 최대 대기 결과 %d개, 창 대기 %.1f ms", window, maxBuffered,
+				acquireWaitNanos / 1e6);
+	}
+}
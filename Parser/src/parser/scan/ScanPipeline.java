@@ -0,0 +1,211 @@
+package parser.scan;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import parser.data.ParseResult;
+import parser.metrics.FileReadEvent;
+import parser.metrics.MetricsRegistry;
+
+// 탐색 → 읽기 → 파싱 → 기록 단계별 스레드와 제한 큐로 구성된 파이프라인
+// 느린 단계는 앞 큐를 채워 역압을 걸고, 나머지 단계는 큐 여유만큼 계속 진행
+// 탐색 단계 스레드가 파일 스트림(PruningWalker.stream)을 직접 당기므로 디렉터리 탐색과 읽기/파싱이 겹침
+// 파일마다 탐색 순서 번호를 붙여 넘기고 기록 단계 앞의 재정렬 버퍼가 번호 순서대로 내보냄 (단일 스레드 실행과 같은 출력)
+// 재정렬 창이 가득 차면 탐색 단계가 대기
+public class ScanPipeline {
+	private final int readers;
+	private final int parsers;
+	private final int reorderWindow;
+	private final StageQueue<Sequenced<Path>> walkQueue;
+	private final StageQueue<LoadedFile> readQueue;
+	private final StageQueue<Sequenced<ParseResult>> parseQueue;
+	private ReorderBuffer<ParseResult> ordered; // run 중에만 존재
+
+	public ScanPipeline(int readers, int parsers, int queueCapacity, int reorderWindow) {
+		this.readers = Math.max(1, readers);
+		this.reorderWindow = Math.max(1, reorderWindow);
+		this.parsers = Math.max(1, parsers);
+		int capacity = Math.max(1, queueCapacity);
+
+		this.walkQueue = new StageQueue<>("탐색→읽기", capacity, 1);
+		this.readQueue = new StageQueue<>("읽기→파싱", capacity, this.readers);
+		this.parseQueue = new StageQueue<>("파싱→기록", capacity, this.parsers);
+
+		MetricsRegistry.registerQueue("walk", walkQueue);
+		MetricsRegistry.registerQueue("read", readQueue);
+		MetricsRegistry.registerQueue("parse", parseQueue);
+	}
+
+	// 기록 단계는 한 스레드에서만 실행되므로 writer 쪽 동기화가 필요 없음
+	public void run(Stream<Path> files, BiFunction<Path, byte[], ParseResult> parse, Consumer<ParseResult> write)
+			throws InterruptedException {
+		List<Thread> threads = new ArrayList<>();
+		ReorderBuffer<ParseResult> ordered = new ReorderBuffer<>(reorderWindow, result -> {
+			// 기록 단계가 멈추면 앞 단계가 모두 막히므로 항목 단위로 오류 처리
+			try {
+				write.accept(result);
+			} catch (RuntimeException e) {
+				System.err.println("기록 오류: " + result.getFilePath() + " - " + e.getMessage());
+				MetricsRegistry.scan().recordError();
+			}
+		});
+		this.ordered = ordered;
+
+		// 찾는 대로 탐색→읽기 큐에 넣음 - 큐나 재정렬 창이 가득 차면 탐색도 멈춤
+		threads.add(start("pipeline-walker", () -> {
+			try {
+				long sequence = 0;
+				for (Path path : (Iterable<Path>) files::iterator) {
+					ordered.acquire(sequence);
+					walkQueue.put(new Sequenced<>(sequence++, path));
+				}
+			} finally {
+				walkQueue.producerDone();
+			}
+		}));
+
+		for (int i = 1; i <= readers; i++) {
+			threads.add(start("pipeline-reader-" + i, () -> {
+				try {
+					Sequenced<Path> file;
+					while ((file = walkQueue.take()) != null) {
+						byte[] content = null;
+						try {
+							content = FileReadEvent.readAllBytes(file.value);
+						} catch (IOException e) {
+							System.err.println("파일 읽기 오류: " + file.value + " - " + e.getMessage());
+							MetricsRegistry.scan().recordError();
+						}
+						// 실패한 파일도 번호는 넘겨야 뒤 번호가 기록됨
+						readQueue.put(new LoadedFile(file.sequence, file.value, content));
+					}
+				} finally {
+					readQueue.producerDone();
+				}
+			}));
+		}
+
+		for (int i = 1; i <= parsers; i++) {
+			threads.add(start("pipeline-parser-" + i, () -> {
+				try {
+					LoadedFile file;
+					while ((file = readQueue.take()) != null) {
+						ParseResult result = null;
+						try {
+							if (file.content != null) {
+								result = parse.apply(file.path, file.content);
+							}
+						} catch (RuntimeException e) {
+							System.err.println("파싱 오류: " + file.path + " - " + e.getMessage());
+							MetricsRegistry.scan().recordError();
+						}
+						parseQueue.put(new Sequenced<>(file.sequence, result));
+					}
+				} finally {
+					parseQueue.producerDone();
+				}
+			}));
+		}
+
+		threads.add(start("pipeline-writer", () -> {
+			Sequenced<ParseResult> parsed;
+			while ((parsed = parseQueue.take()) != null) {
+				ordered.complete(parsed.sequence, parsed.value);
+			}
+		}));
+
+		ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor(task -> {
+			Thread thread = new Thread(task, "pipeline-sampler");
+			thread.setDaemon(true);
+			return thread;
+		});
+		sampler.scheduleAtFixedRate(this::sampleDepths, 0, 100, TimeUnit.MILLISECONDS);
+
+		try {
+			for (Thread thread : threads) {
+				thread.join();
+			}
+		} finally {
+			sampler.shutdownNow();
+		}
+	}
+
+	private void sampleDepths() {
+		walkQueue.sampleDepth();
+		readQueue.sampleDepth();
+		parseQueue.sampleDepth();
+	}
+
+	public List<StageQueue<?>> getQueues() {
+		return List.of(walkQueue, readQueue, parseQueue);
+	}
+
+	// 큐별 통계와 병목 추정 (앞 단계가 가장 오래 막힌 큐의 소비 단계)
+	public String report() {
+		StringBuilder report = new StringBuilder("=== 파이프라인 통계 (읽기 ").append(readers).append(", 파싱 ")
+				.append(parsers).append(") ===\n");
+		getQueues().forEach(queue -> report.append(queue).append("\n"));
+		if (ordered != null) {
+			report.append(ordered).append("\n");
+		}
+
+		StageQueue<?> blocked = getQueues().stream().max(Comparator.comparingLong(StageQueue::getPutWaitMillis))
+				.get();
+		if (blocked.getPutWaitMillis() > 0) {
+			String stage = blocked.getName().substring(blocked.getName().indexOf('→') + 1);
+			report.append("병목 추정: ").append(stage).append(" 단계\n");
+		}
+		return report.toString();
+	}
+
+	// 단계 스레드 - 예외로 종료되어도 finally에서 다음 단계에 종료를 알림
+	private static Thread start(String name, InterruptibleTask task) {
+		Thread thread = new Thread(() -> {
+			try {
+				task.run();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			} catch (RuntimeException e) {
+				System.err.println(name + " 단계 오류: " + e.getMessage());
+				e.printStackTrace();
+			}
+		}, name);
+		thread.start();
+		return thread;
+	}
+
+	private interface InterruptibleTask {
+		void run() throws InterruptedException;
+	}
+
+	private static class Sequenced<T> {
+		private final long sequence;
+		private final T value; // 실패한 항목이면 null
+
+		private Sequenced(long sequence, T value) {
+			this.sequence = sequence;
+			this.value = value;
+		}
+	}
+
+	private static class LoadedFile {
+		private final long sequence;
+		private final Path path;
+		private final byte[] content; // 읽기 실패면 null
+
+		private LoadedFile(long sequence, Path path, byte[] content) {
+			this.sequence = sequence;
+			this.path = path;
+			this.content = content;
+		}
+	}
+}
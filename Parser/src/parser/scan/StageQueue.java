@@ -0,0 +1,124 @@
+package parser.scan;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+// 파이프라인 단계 사이의 제한 큐 - 가득 차면 앞 단계가 대기(역압), 깊이/대기 시간 통계 수집
+// 모든 생산자가 producerDone()을 호출하고 큐가 비면 take()가 null 반환
+public class StageQueue<T> implements StageQueueMXBean {
+	private static final long POLL_MILLIS = 20;
+
+	private final String name;
+	private final int capacity;
+	private final ArrayBlockingQueue<T> queue;
+	private final AtomicInteger producers;
+
+	private final LongAdder passed = new LongAdder();
+	private final LongAdder putWaitNanos = new LongAdder();
+	private final LongAdder takeWaitNanos = new LongAdder();
+	private final LongAccumulator maxDepth = new LongAccumulator(Math::max, 0);
+	private final LongAdder depthSum = new LongAdder();
+	private final LongAdder depthSamples = new LongAdder();
+
+	public StageQueue(String name, int capacity, int producers) {
+		this.name = name;
+		this.capacity = capacity;
+		this.queue = new ArrayBlockingQueue<>(capacity);
+		this.producers = new AtomicInteger(producers);
+	}
+
+	public void put(T item) throws InterruptedException {
+		if (!queue.offer(item)) {
+			long start = System.nanoTime();
+			queue.put(item);
+			putWaitNanos.add(System.nanoTime() - start);
+		}
+		passed.increment();
+		maxDepth.accumulate(queue.size());
+	}
+
+	// 다음 항목, 더 이상 없으면 null
+	public T take() throws InterruptedException {
+		T item = queue.poll();
+		if (item != null) {
+			return item;
+		}
+
+		long start = System.nanoTime();
+		try {
+			while (true) {
+				// 생산자 종료 확인을 먼저 해야 마지막 항목을 놓치지 않음
+				boolean finished = producers.get() == 0;
+				item = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+				if (item != null || finished) {
+					return item;
+				}
+			}
+		} finally {
+			takeWaitNanos.add(System.nanoTime() - start);
+		}
+	}
+
+	public void producerDone() {
+		producers.decrementAndGet();
+	}
+
+	// 주기적 샘플링으로 평균 깊이 계산
+	public void sampleDepth() {
+		depthSum.add(queue.size());
+		depthSamples.increment();
+	}
+
+	@Override
+	public String getName() {
+		return name;
+	}
+
+	@Override
+	public int getDepth() {
+		return queue.size();
+	}
+
+	@Override
+	public int getCapacity() {
+		return capacity;
+	}
+
+	@Override
+	public long getPassed() {
+		return passed.sum();
+	}
+
+	@Override
+	public long getMaxDepth() {
+		return maxDepth.get();
+	}
+
+	@Override
+	public double getAverageDepth() {
+		long samples = depthSamples.sum();
+		return samples == 0 ? 0.0 : (double) depthSum.sum() / samples;
+	}
+
+	// 앞 단계가 큐가 가득 차서 기다린 시간 (클수록 뒤 단계가 느림)
+	@Override
+	public long getPutWaitMillis() {
+		return TimeUnit.NANOSECONDS.toMillis(putWaitNanos.sum());
+	}
+
+	// 뒤 단계가 큐가 비어서 기다린 시간 (클수록 앞 단계가 느림)
+	@Override
+	public long getTakeWaitMillis() {
+		return TimeUnit.NANOSECONDS.toMillis(takeWaitNanos.sum());
+	}
+
+	@Override
+	public String toString() {
+		return String.format("%s 큐: 현재 %d/%d, 평균 %.1f, 최대 %d, 통과 %d건, 생산 대기 %dms, 소비 대기 %dms", name,
+				getDepth(), capacity, getAverageDepth(), getMaxDepth(), getPassed(), getPutWaitMillis(),
+				getTakeWaitMillis());
+	}
+}
@@ -0,0 +1,20 @@
+package parser.scan;
+
+// 파이프라인 큐 상태 (JMX 속성)
+public interface StageQueueMXBean {
+	String getName();
+
+	int getDepth();
+
+	int getCapacity();
+
+	long getPassed();
+
+	long getMaxDepth();
+
+	double getAverageDepth();
+
+	long getPutWaitMillis();
+
+	long getTakeWaitMillis();
+}
@@ -2,13 +2,20 @@ package parser_1;
 
 import java.io.BufferedReader;
 import java.io.BufferedWriter;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import parser.metrics.FileCostProfiler;
+import parser.scan.ReadAheadReader;
 
 public class SimpleJspParser {
 
@@ -28,6 +35,21 @@ public class SimpleJspParser {
 	 * 프로젝트 파싱 실행
 	 */
 	public static void parseProject(String inputPath, String outputPath) throws IOException {
+		parseProject(inputPath, outputPath, 0);
+	}
+
+	/**
+	 * 프로젝트 파싱 실행 (ioConcurrency > 0 이면 파일 읽기를 I/O 스레드에서 미리 수행)
+	 */
+	public static void parseProject(String inputPath, String outputPath, int ioConcurrency) throws IOException {
+		parseProject(inputPath, outputPath, ioConcurrency, null);
+	}
+
+	/**
+	 * 프로젝트 파싱 실행 (profiler가 있으면 파일 단위 비용을 기록하고 출력 경로에 보고서 저장)
+	 */
+	public static void parseProject(String inputPath, String outputPath, int ioConcurrency, FileCostProfiler profiler)
+			throws IOException {
 		System.out.println("=== JSP 파일 파싱 시작 ===");
 		System.out.println("입력: " + inputPath);
 		System.out.println("출력: " + outputPath);
@@ -40,56 +62,111 @@ public class SimpleJspParser {
 		AtomicInteger count = new AtomicInteger(0);
 
 		// 파일 스캔 및 파싱
-		Files.walk(Paths.get(inputPath)).filter(Files::isRegularFile).filter(path -> path.toString().endsWith(".jsp"))
-				.forEach(path -> {
-					try {
-						parseFile(path, results);
+		try (Stream<Path> files = Files.walk(Paths.get(inputPath))) {
+			Stream<Path> targets = files.filter(Files::isRegularFile).filter(path -> path.toString().endsWith(".jsp"));
+
+			if (ioConcurrency > 0) {
+				try (ReadAheadReader reader = new ReadAheadReader(ioConcurrency)) {
+					reader.forEach(targets, (path, content) -> {
+						try {
+							parseFile(path, toReader(content), results, content.length, profiler);
+							count.incrementAndGet();
+						} catch (IOException e) {
+							System.err.println("파일 파싱 실패: " + path);
+						}
+					});
+				}
+			} else {
+				targets.forEach(path -> {
+					try (BufferedReader reader = Files.newBufferedReader(path)) {
+						parseFile(path, reader, results, -1, profiler);
 						count.incrementAndGet();
 					} catch (IOException e) {
 						System.err.println("파일 파싱 실패: " + path);
 					}
 				});
+			}
+		}
 
 		// 결과 파일 저장
 		saveResults(outputPath, results);
+		if (profiler != null) {
+			profiler.writeReport(Paths.get(outputPath, "jsp-profile.txt"));
+		}
 
 		System.out.println("=== 파싱 완료 (" + count.get() + "개 파일) ===");
 	}
 
-	private static void parseFile(Path filePath, Map<String, StringBuilder> results) throws IOException {
+	/**
+	 * 단일 파일 파싱 결과 행 반환 (감시 모드 등에서 파일 단위 갱신용)
+	 */
+	public static String parseFileRows(Path filePath) throws IOException {
+		Map<String, StringBuilder> results = new HashMap<>();
+		results.put("jsp", new StringBuilder());
+
+		try (BufferedReader reader = Files.newBufferedReader(filePath)) {
+			parseFile(filePath, reader, results);
+		}
+		return results.get("jsp").toString();
+	}
+
+	/**
+	 * 파싱 시간, 크기, 줄 수, 출력 행 수, 할당량 기록 (bytes가 음수면 파일 크기 조회)
+	 */
+	private static void parseFile(Path filePath, BufferedReader reader, Map<String, StringBuilder> results, long bytes,
+			FileCostProfiler profiler) throws IOException {
+		if (profiler == null) {
+			parseFile(filePath, reader, results);
+			return;
+		}
+
+		StringBuilder rows = results.get("jsp");
+		int rowsBefore = rows.length();
+		FileCostProfiler.Probe probe = profiler.begin(filePath);
+		int lines = parseFile(filePath, reader, results);
+		long size = bytes >= 0 ? bytes : Files.size(filePath);
+		profiler.end(probe, size, lines, FileCostProfiler.countRows(rows, rowsBefore));
+	}
+
+	/**
+	 * 읽은 줄 수 반환
+	 */
+	private static int parseFile(Path filePath, BufferedReader reader, Map<String, StringBuilder> results)
+			throws IOException {
 		String fileName = filePath.getFileName().toString();
 		boolean inJavaDoc = false;
 
 		System.out.println("파싱: " + fileName);
 
-		try (BufferedReader reader = Files.newBufferedReader(filePath)) {
-			String line;
-			
-			// 화면 호출 jsp 위치 추가 필요
-			results.get("jsp")
-				   .append(String.join("|" ,fileName, fileName.replaceAll(".jsp",  "").concat(".do")))
+		String line;
+		
+		// 화면 호출 jsp 위치 추가 필요
+		results.get("jsp")
+			   .append(String.join("|" ,fileName, fileName.replaceAll(".jsp",  "").concat(".do")))
+			   .append("\n");
+
+		int lines = 0;
+		while ((line = reader.readLine()) != null) {
+			lines++;
+			System.out.println(line);
+			line = line.trim();
+			if (line.isEmpty())
+				continue;
+
+			if (line.startsWith("/**")) {
+				inJavaDoc = true;
+			} else if (inJavaDoc && line.contains("*/")) {
+				inJavaDoc = false;
+			} else if(inJavaDoc) {
+				continue;
+			} else if(line.contains(".do")) {
+				results.get("jsp")
+				   .append(String.join("|" ,fileName,extractUrl(line)))
 				   .append("\n");
-
-			while ((line = reader.readLine()) != null) {
-				System.out.println(line);
-				line = line.trim();
-				if (line.isEmpty())
-					continue;
-
-				if (line.startsWith("/**")) {
-					inJavaDoc = true;
-				} else if (inJavaDoc && line.contains("*/")) {
-					inJavaDoc = false;
-				} else if(inJavaDoc) {
-					continue;
-				} else if(line.contains(".do")) {
-					results.get("jsp")
-					   .append(String.join("|" ,fileName,extractUrl(line)))
-					   .append("\n");
-				}
 			}
 		}
 
+		return lines;
 	}
 	
 	/**
@@ -106,6 +183,13 @@ public class SimpleJspParser {
 		return "";
 	}
 
+	/**
+	 * 미리 읽어 둔 파일 내용을 줄 단위 읽기 스트림으로 변환
+	 */
+	private static BufferedReader toReader(byte[] content) {
+		return new BufferedReader(new InputStreamReader(new ByteArrayInputStream(content), StandardCharsets.UTF_8));
+	}
+
 	/**
 	 * 결과 파일 저장
 	 */
@@ -0,0 +1,189 @@
+package parser;
+
+import static parser.test.TestRunner.check;
+import static parser.test.TestRunner.checkEquals;
+import static parser.test.TestRunner.write;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import parser.parser.ParserType;
+import parser.parser.PathClassifier;
+import parser.result.DistributedBufferedWriter;
+import parser.scan.FileManifest;
+import parser.test.TestRunner;
+
+// 증분 스캔 결과가 같은 트리의 전체 스캔 결과와 같은지 확인 (타입별 출력 파일을 바이트 단위로 비교)
+public class IncrementalProcessorTests {
+	private static final String[] TYPES = ParserType.getAllPathKeywords();
+
+	public static void register(TestRunner runner) {
+		runner.add("incremental: controller/에서 service/로 옮긴 파일", IncrementalProcessorTests::movedFile);
+		runner.add("incremental: 분류 규칙이 바뀌어 타입이 달라진 파일", IncrementalProcessorTests::retypedFile);
+		runner.add("incremental: 전체 스캔 뒤의 증분 스캔", IncrementalProcessorTests::afterFullScan);
+		runner.add("incremental: 목록과 맞지 않는 기존 출력", IncrementalProcessorTests::staleManifest);
+	}
+
+	// 컨트롤러 디렉터리의 파일을 서비스 디렉터리로 옮기면 컨트롤러 출력에서 빠지고 cbc 출력에 추가
+	private static void movedFile(Path workDir) throws Exception {
+		Path root = workDir.resolve("project/src/com/shop");
+		write(root.resolve("controller/AController.java"), controller("AController", "/a"));
+		Path moved = write(root.resolve("controller/OrderCbcImpl.java"), controller("OrderCbcImpl", "/order"));
+		write(root.resolve("controller/ZController.java"), controller("ZController", "/z"));
+		write(root.resolve("service/cbc/impl/ACbcImpl.java"), service("ACbcImpl"));
+		write(root.resolve("service/cbc/impl/ZCbcImpl.java"), service("ZCbcImpl"));
+
+		String project = workDir.resolve("project").toString();
+		Path incremental = workDir.resolve("incremental");
+		ScanOptions options = ScanOptions.defaults().withIncremental(true);
+		JavaFileParsor.processProject(project, incremental.toString(), options);
+		check(rows(incremental, "controller").stream().anyMatch(row -> row.startsWith("OrderCbcImpl|")),
+				"이동 전 컨트롤러 출력에 OrderCbcImpl 행이 없음");
+
+		Files.createDirectories(root.resolve("service"));
+		Files.move(moved, root.resolve("service/OrderCbcImpl.java"));
+		JavaFileParsor.processProject(project, incremental.toString(), options);
+
+		Path full = workDir.resolve("full");
+		JavaFileParsor.processProject(project, full.toString(), ScanOptions.defaults());
+		checkSameOutput(full, incremental);
+		check(rows(incremental, "controller").stream().noneMatch(row -> row.startsWith("OrderCbcImpl|")),
+				"이동 후에도 컨트롤러 출력에 OrderCbcImpl 행이 남음");
+		check(rows(incremental, "cbc").stream().anyMatch(row -> row.startsWith("OrderCbcImpl.")),
+				"이동 후 cbc 출력에 OrderCbcImpl 행이 없음");
+	}
+
+	// 같은 경로의 파일이 분류 규칙 변경으로 controller → cbc가 되면 두 타입 출력이 모두 맞게 재작성
+	private static void retypedFile(Path workDir) throws Exception {
+		Path root = workDir.resolve("project/src/com/shop/web");
+		write(root.resolve("AController.java"), controller("AController", "/a"));
+		write(root.resolve("MController.java"), controller("MController", "/m"));
+		write(root.resolve("ZController.java"), controller("ZController", "/z"));
+		Path services = workDir.resolve("project/src/com/shop/service/cbc/impl");
+		write(services.resolve("ACbcImpl.java"), service("ACbcImpl"));
+		write(services.resolve("ZCbcImpl.java"), service("ZCbcImpl"));
+
+		String project = workDir.resolve("project").toString();
+		Path incremental = workDir.resolve("incremental");
+		JavaFileParsor.processProject(project, incremental.toString(), ScanOptions.defaults().withIncremental(true));
+
+		PathClassifier retyping = PathClassifier.parse(List.of("suffix MController = cbc",
+				"segment controller = controller", "segment cbc = cbc", "suffix Controller = controller",
+				"suffix CbcImpl = cbc"));
+		JavaFileParsor.processProject(project, incremental.toString(),
+				ScanOptions.defaults().withIncremental(true).withClassifier(retyping));
+
+		Path full = workDir.resolve("full");
+		JavaFileParsor.processProject(project, full.toString(), ScanOptions.defaults().withClassifier(retyping));
+		checkSameOutput(full, incremental);
+		check(rows(incremental, "controller").stream().noneMatch(row -> row.startsWith("MController|")),
+				"타입이 바뀐 뒤에도 컨트롤러 출력에 MController 행이 남음");
+	}
+
+	// 증분 A,C → B 추가 후 전체 스캔 → D 추가 후 증분 - 전체 스캔이 남긴 출력을 이전 목록으로 자르면 안 됨
+	private static void afterFullScan(Path workDir) throws Exception {
+		Path root = workDir.resolve("project/src/com/shop/service/cbc/impl");
+		write(root.resolve("ACbcImpl.java"), service("ACbcImpl"));
+		write(root.resolve("CCbcImpl.java"), service("CCbcImpl"));
+
+		String project = workDir.resolve("project").toString();
+		Path output = workDir.resolve("output");
+		ScanOptions options = ScanOptions.defaults().withIncremental(true);
+		JavaFileParsor.processProject(project, output.toString(), options);
+
+		write(root.resolve("BCbcImpl.java"), service("BCbcImpl"));
+		JavaFileParsor.processProject(project, output.toString(), ScanOptions.defaults());
+
+		write(root.resolve("DCbcImpl.java"), service("DCbcImpl"));
+		JavaFileParsor.processProject(project, output.toString(), options);
+
+		Path full = workDir.resolve("full");
+		JavaFileParsor.processProject(project, full.toString(), ScanOptions.defaults());
+		checkSameOutput(full, output);
+		checkEquals(8, rows(output, "cbc").size(), "cbc 출력 행 수");
+	}
+
+	// 목록이 기존 출력보다 오래되었으면 클래스명 비교로 어긋남을 찾아 전체 다시 파싱
+	private static void staleManifest(Path workDir) throws Exception {
+		Path root = workDir.resolve("project/src/com/shop/service/cbc/impl");
+		write(root.resolve("ACbcImpl.java"), service("ACbcImpl"));
+		write(root.resolve("CCbcImpl.java"), service("CCbcImpl"));
+
+		String project = workDir.resolve("project").toString();
+		Path output = workDir.resolve("output");
+		ScanOptions options = ScanOptions.defaults().withIncremental(true);
+		JavaFileParsor.processProject(project, output.toString(), options);
+		Path manifest = output.resolve(FileManifest.FILE_NAME);
+		Path saved = workDir.resolve(FileManifest.FILE_NAME);
+		Files.copy(manifest, saved);
+
+		write(root.resolve("BCbcImpl.java"), service("BCbcImpl"));
+		JavaFileParsor.processProject(project, output.toString(), ScanOptions.defaults());
+		Files.copy(saved, manifest, StandardCopyOption.REPLACE_EXISTING);
+
+		write(root.resolve("DCbcImpl.java"), service("DCbcImpl"));
+		JavaFileParsor.processProject(project, output.toString(), options);
+
+		Path full = workDir.resolve("full");
+		JavaFileParsor.processProject(project, full.toString(), ScanOptions.defaults());
+		checkSameOutput(full, output);
+	}
+
+	private static void checkSameOutput(Path expectedDir, Path actualDir) throws IOException {
+		for (String type : TYPES) {
+			List<Path> expected = DistributedBufferedWriter.existingOutputFiles(expectedDir.toString(), type);
+			List<Path> actual = DistributedBufferedWriter.existingOutputFiles(actualDir.toString(), type);
+			checkEquals(names(expected), names(actual), type + " 출력 파일 목록이 전체 스캔과 다름");
+			for (int i = 0; i < expected.size(); i++) {
+				check(Files.mismatch(expected.get(i), actual.get(i)) < 0,
+						actual.get(i).getFileName() + " 내용이 전체 스캔과 다름");
+			}
+		}
+	}
+
+	private static List<String> names(List<Path> files) {
+		return files.stream().map(file -> file.getFileName().toString()).collect(Collectors.toList());
+	}
+
+	// 타입의 출력 행 (출력 순서, 출력이 없으면 빈 목록)
+	private static List<String> rows(Path outputDir, String type) throws IOException {
+		List<String> rows = new ArrayList<>();
+		for (Path file : DistributedBufferedWriter.existingOutputFiles(outputDir.toString(), type)) {
+			try (BufferedReader reader = DistributedBufferedWriter.openOutput(file)) {
+				reader.lines().forEach(rows::add);
+			}
+		}
+		return rows;
+	}
+
+	private static String controller(String className, String url) {
+		return "package com.shop;\n\n"
+				+ "/**\n * " + className + " 화면\n */\n"
+				+ "@RequestMapping(\"" + url + "\")\n"
+				+ "public class " + className + " {\n"
+				+ "\t/**\n\t * 목록 조회\n\t */\n"
+				+ "\t@GetMapping(\"/list\")\n"
+				+ "\tpublic String list() {\n\t\treturn \"list\";\n\t}\n\n"
+				+ "\t/**\n\t * 저장\n\t */\n"
+				+ "\t@PostMapping(\"/save\")\n"
+				+ "\tpublic String save() {\n\t\treturn \"save\";\n\t}\n"
+				+ "}\n";
+	}
+
+	private static String service(String className) {
+		return "package com.shop;\n\n"
+				+ "/**\n * " + className + " 컴포넌트\n */\n"
+				+ "public class " + className + " {\n"
+				+ "\t/**\n\t * 조회\n\t */\n"
+				+ "\tpublic void select() {\n\t}\n\n"
+				+ "\t/**\n\t * 수정\n\t */\n"
+				+ "\tpublic void update() {\n\t}\n"
+				+ "}\n";
+	}
+}
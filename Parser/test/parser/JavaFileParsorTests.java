@@ -0,0 +1,84 @@
+package parser;
+
+import static parser.test.TestRunner.check;
+import static parser.test.TestRunner.checkEquals;
+import static parser.test.TestRunner.write;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import parser.parser.ParserType;
+import parser.result.DistributedBufferedWriter;
+import parser.test.TestRunner;
+
+// 스캔 실행 방식별로 단일 스레드 스캔과 출력이 같은지 확인 (파일 순서 포함)
+public class JavaFileParsorTests {
+
+	public static void register(TestRunner runner) {
+		runner.add("parallel: 워커 풀 스캔은 단일 스레드 스캔과 출력(순서 포함)이 같음", JavaFileParsorTests::parallel);
+		runner.add("virtualIo: 가상 스레드 읽기 스캔은 단일 스레드 스캔과 출력(순서 포함)이 같음", JavaFileParsorTests::virtualIo);
+	}
+
+	// 재정렬 창을 워커 수보다 작게 잡아 앞 파일이 늦게 끝나면 뒤 파일 제출이 멈추게 함
+	private static void parallel(Path workDir) throws Exception {
+		String project = createProject(workDir);
+		Path sequential = scan(project, workDir.resolve("sequential"), ScanOptions.defaults());
+		Path parallel = scan(project, workDir.resolve("parallel"),
+				ScanOptions.defaults().withWorkers(4).withReorderWindow(2));
+		checkSameOutput(sequential, parallel);
+	}
+
+	// 읽기 동시성을 파일 수보다 작게 잡아 읽기 완료 순서와 파싱 순서가 섞이게 함
+	private static void virtualIo(Path workDir) throws Exception {
+		String project = createProject(workDir);
+		Path sequential = scan(project, workDir.resolve("sequential"), ScanOptions.defaults());
+		Path virtualIo = scan(project, workDir.resolve("virtualIo"), ScanOptions.defaults().withVirtualIo(8));
+		checkSameOutput(sequential, virtualIo);
+	}
+
+	static Path scan(String project, Path output, ScanOptions options) throws Exception {
+		JavaFileParsor.processProject(project, output.toString(), options);
+		return output;
+	}
+
+	// 메서드 수를 파일마다 다르게 해 파싱 시간이 고르지 않게 함
+	static String createProject(Path workDir) throws Exception {
+		Path root = workDir.resolve("project/src/com/shop");
+		for (int i = 0; i < 40; i++) {
+			write(root.resolve("controller/c" + (i % 4) + "/C" + i + "Controller.java"), controller("C" + i, i));
+			write(root.resolve("service/cbc/impl/S" + i + "CbcImpl.java"), service("S" + i + "CbcImpl", i));
+		}
+		return workDir.resolve("project").toString();
+	}
+
+	static void checkSameOutput(Path expected, Path actual) throws Exception {
+		int compared = 0;
+		for (String type : ParserType.getAllPathKeywords()) {
+			for (Path file : DistributedBufferedWriter.existingOutputFiles(expected.toString(), type)) {
+				Path other = actual.resolve(file.getFileName());
+				check(Files.exists(other), other.getFileName() + " 없음");
+				checkEquals(Files.readString(file), Files.readString(other), file.getFileName() + " 내용");
+				compared++;
+			}
+		}
+		checkEquals(2, compared, "비교한 출력 파일 수 (controller, cbc)");
+	}
+
+	private static String controller(String name, int methods) {
+		StringBuilder source = new StringBuilder("package com.shop;\n\n/**\n * " + name + " 화면\n */\n"
+				+ "@RequestMapping(\"/" + name + "\")\npublic class " + name + "Controller {\n");
+		for (int i = 0; i <= methods; i++) {
+			source.append("\t/**\n\t * 기능 ").append(i).append("\n\t */\n\t@PostMapping(\"/m").append(i)
+					.append("\")\n\tpublic String m").append(i).append("() {\n\t\treturn \"m\";\n\t}\n");
+		}
+		return source.append("}\n").toString();
+	}
+
+	private static String service(String className, int methods) {
+		StringBuilder source = new StringBuilder("package com.shop;\n\npublic class " + className + " {\n");
+		for (int i = 0; i <= methods % 7; i++) {
+			source.append("\tpublic void m").append(i).append("() {\n\t}\n");
+		}
+		return source.append("}\n").toString();
+	}
+}
@@ -0,0 +1,127 @@
+package parser;
+
+import static parser.test.TestRunner.check;
+import static parser.test.TestRunner.checkEquals;
+import static parser.test.TestRunner.write;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import parser.result.DistributedBufferedWriter;
+import parser.result.OutputManifest;
+import parser.scan.FileManifest;
+import parser.test.TestRunner;
+
+// 감시 모드 배치 반영 - 생성/수정/삭제를 한 배치로 반영한 출력이 처음부터 스캔한 출력과 같은지,
+// 바뀐 행이 없는 분산 파일은 다시 쓰지 않는지 확인 (WatchService 없이 배치를 직접 넘김)
+public class ProjectWatcherTests {
+	private static final String[] TYPES = { "controller", "cbc", "jsp", "query" };
+	private static final String URL = "/x".repeat(120); // 컨트롤러 파일 하나의 출력이 약 30KB가 되도록
+
+	public static void register(TestRunner runner) {
+		runner.add("watch: 생성/수정/삭제 배치는 바뀐 분산 파일만 다시 씀", ProjectWatcherTests::batch);
+	}
+
+	private static void batch(Path workDir) throws Exception {
+		Path root = workDir.resolve("project");
+		Path controllers = root.resolve("src/com/shop/controller");
+		for (int i = 10; i < 50; i++) {
+			write(controllers.resolve("C" + i + "Controller.java"), controller("C" + i + "Controller", 120));
+		}
+		Path services = root.resolve("src/com/shop/service/cbc/impl");
+		write(services.resolve("ACbcImpl.java"), service("ACbcImpl", "select"));
+		write(services.resolve("BCbcImpl.java"), service("BCbcImpl", "select"));
+		Path jsp = write(root.resolve("webapp/order.jsp"), "<a href=\"/app/order/list.do\">목록</a>\n");
+		Path mapper = write(root.resolve("resources/mapper/OrderMapper.xml"), mapper("selectOrder"));
+
+		Path output = workDir.resolve("output");
+		ScanOptions options = ScanOptions.defaults().withFileMB(1);
+		try (ProjectWatcher watcher = new ProjectWatcher(root.toString(), output.toString(), options)) {
+			watcher.fullScan();
+			List<OutputManifest.Entry> before = OutputManifest.load(output).files("controller");
+			check(before.size() > 1, "컨트롤러 출력이 분산되지 않음");
+
+			// 마지막 분산 파일에만 들어가는 생성/삭제, 다른 타입의 수정
+			Set<Path> touched = new LinkedHashSet<>();
+			touched.add(write(controllers.resolve("C495Controller.java"), controller("C495Controller", 2)));
+			Path deleted = controllers.resolve("C48Controller.java");
+			Files.delete(deleted);
+			touched.add(deleted);
+			touched.add(write(services.resolve("BCbcImpl.java"), service("BCbcImpl", "update")));
+			touched.add(write(jsp, "<a href=\"/app/order/save.do\">저장</a>\n"));
+			Files.delete(mapper);
+			touched.add(mapper);
+			watcher.applyChanges(touched);
+
+			List<OutputManifest.Entry> after = OutputManifest.load(output).files("controller");
+			checkEquals(before.size(), after.size(), "컨트롤러 분산 파일 수");
+			checkEquals(before.get(0).getFileName(), after.get(0).getFileName(), "바뀌지 않은 분산 파일이 다시 기록됨");
+			check(!before.get(after.size() - 1).getFileName().equals(after.get(after.size() - 1).getFileName()),
+					"바뀐 분산 파일이 교체되지 않음");
+		}
+		check(Files.exists(output.resolve(FileManifest.FILE_NAME)), "종료 시 증분 목록이 저장되지 않음");
+
+		Path fresh = workDir.resolve("fresh");
+		try (ProjectWatcher watcher = new ProjectWatcher(root.toString(), fresh.toString(), options)) {
+			watcher.fullScan();
+		}
+		for (String type : TYPES) {
+			checkEquals(rows(fresh, type), rows(output, type), type + " 출력 행이 처음부터 스캔한 결과와 다름");
+		}
+		check(rows(output, "controller").stream().anyMatch(row -> row.startsWith("C495Controller|")),
+				"생성한 파일의 행이 없음");
+		check(rows(output, "controller").stream().noneMatch(row -> row.startsWith("C48Controller|")),
+				"삭제한 파일의 행이 남음");
+		checkEquals(List.of(), rows(output, "query"), "삭제한 매퍼의 행이 남음");
+
+		// 저장된 목록으로 이어서 증분 스캔해도 출력 유지
+		JavaFileParsor.processProject(root.toString(), output.toString(), options.withIncremental(true));
+		checkEquals(rows(fresh, "controller"), rows(output, "controller"), "증분 스캔 후 컨트롤러 출력");
+	}
+
+	// 분산 파일 순서대로 이어 붙인 출력 행
+	private static List<String> rows(Path outputDir, String type) throws IOException {
+		List<String> rows = new ArrayList<>();
+		for (OutputManifest.Entry file : OutputManifest.load(outputDir).files(type)) {
+			try (BufferedReader reader = DistributedBufferedWriter.openOutput(outputDir.resolve(file.getFileName()))) {
+				reader.lines().forEach(rows::add);
+			}
+		}
+		List<String> published = new ArrayList<>();
+		for (Path file : DistributedBufferedWriter.existingOutputFiles(outputDir.toString(), type)) {
+			published.addAll(Files.readAllLines(file));
+		}
+		checkEquals(rows, published, Paths.get(outputDir.toString(), type) + " 목록과 출력 경로 파일 내용이 다름");
+		return rows;
+	}
+
+	private static String controller(String className, int methods) {
+		StringBuilder source = new StringBuilder("package com.shop;\n\n@RequestMapping(\"/" + className + "\")\n"
+				+ "public class " + className + " {\n");
+		for (int i = 0; i < methods; i++) {
+			source.append("\t@GetMapping(\"").append(URL).append(i).append("\")\n\tpublic String m").append(i)
+					.append("() {\n\t\treturn \"m\";\n\t}\n");
+		}
+		return source.append("}\n").toString();
+	}
+
+	private static String service(String className, String method) {
+		return "package com.shop;\n\n"
+				+ "public class " + className + " {\n"
+				+ "\tpublic void " + method + "() {\n\t}\n"
+				+ "}\n";
+	}
+
+	private static String mapper(String id) {
+		return "<mapper namespace=\"order\">\n"
+				+ "\t<select id=\"" + id + "\">\n\t\tSELECT * FROM ORDERS\n\t</select>\n"
+				+ "</mapper>\n";
+	}
+}
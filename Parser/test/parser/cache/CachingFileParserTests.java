@@ -0,0 +1,72 @@
+package parser.cache;
+
+import static parser.test.TestRunner.check;
+import static parser.test.TestRunner.checkEquals;
+import static parser.test.TestRunner.write;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import parser.data.ParseResult;
+import parser.parser.FileParser;
+import parser.parser.ParserFactory;
+import parser.parser.ParserType;
+import parser.test.TestRunner;
+
+// 결과 캐시 - 같은 내용이면 다른 경로에서도 적중하고, 적중 결과는 현재 경로로 옮겨져 직접 파싱한 결과와 같음
+public class CachingFileParserTests {
+	private static final String SOURCE = "package com.shop;\n\n/**\n * 주문 화면\n */\n"
+			+ "@RequestMapping(\"/order\")\npublic class OrderController {\n"
+			+ "\t/**\n\t * 주문 목록\n\t */\n\t@GetMapping(\"/list\")\n\tpublic String list() {\n\t\treturn \"list\";\n\t}\n"
+			+ "\t@PostMapping(\"/save\")\n\tpublic String save() {\n\t\treturn \"save\";\n\t}\n}\n";
+
+	public static void register(TestRunner runner) {
+		runner.add("cache: 같은 내용의 다른 경로 파일은 적중하고 현재 경로로 옮겨짐", CachingFileParserTests::relocated);
+		runner.add("cache: 저장소에 남은 결과는 다음 실행의 캐시에서 적중", CachingFileParserTests::reloaded);
+	}
+
+	private static void relocated(Path workDir) throws Exception {
+		Path original = write(workDir.resolve("a/controller/OrderController.java"), SOURCE);
+		Path copy = write(workDir.resolve("b/controller/sub/OrderCopyController.java"), SOURCE);
+		ParseResultCache cache = new ParseResultCache(store(workDir));
+
+		cachingParser(cache).parse(original, ParserType.CONTROLLER.getPathKeyword());
+		checkEquals(0L, cache.getHits(), "첫 파싱 적중 수");
+
+		ParseResult relocated = cachingParser(cache).parse(copy, ParserType.CONTROLLER.getPathKeyword());
+		checkEquals(1L, cache.getHits(), "같은 내용 적중 수");
+		checkSameAsParsed(copy, relocated);
+	}
+
+	private static void reloaded(Path workDir) throws Exception {
+		Path original = write(workDir.resolve("a/controller/OrderController.java"), SOURCE);
+		Path copy = write(workDir.resolve("b/controller/OrderCopyController.java"), SOURCE);
+		cachingParser(new ParseResultCache(store(workDir))).parse(original, ParserType.CONTROLLER.getPathKeyword());
+
+		ParseResultCache next = new ParseResultCache(store(workDir));
+		ParseResult relocated = cachingParser(next).parse(copy, ParserType.CONTROLLER.getPathKeyword());
+		checkEquals(1L, next.getHits(), "다음 실행 적중 수");
+		checkEquals(0L, next.getMisses(), "다음 실행 실패 수");
+		checkSameAsParsed(copy, relocated);
+	}
+
+	private static LocalDirectoryStore store(Path workDir) throws Exception {
+		return new LocalDirectoryStore(workDir.resolve("cache"), 1L << 30);
+	}
+
+	private static FileParser cachingParser(ParseResultCache cache) {
+		return new CachingFileParser(ParserFactory.getThreadLocalParser(ParserType.CONTROLLER), cache);
+	}
+
+	// 적중 결과가 그 경로를 캐시 없이 파싱한 결과와 같은지
+	private static void checkSameAsParsed(Path file, ParseResult relocated) throws Exception {
+		ParseResult parsed = ParserFactory.getThreadLocalParser(ParserType.CONTROLLER).parse(file,
+				ParserType.CONTROLLER.getPathKeyword(), Files.readAllBytes(file));
+		checkEquals(file.getFileName().toString(), relocated.getFileName(), "옮긴 파일명");
+		checkEquals(file.toString(), relocated.getFilePath(), "옮긴 경로");
+		checkEquals(parsed.getClassName(), relocated.getClassName(), "클래스명");
+		checkEquals(parsed.getClassComment(), relocated.getClassComment(), "클래스 주석");
+		checkEquals(parsed.getRecords().toText(), relocated.getRecords().toText(), "출력 행");
+		check(relocated.getRecords().size() == 2, "출력 행 수: " + relocated.getRecords().size());
+	}
+}
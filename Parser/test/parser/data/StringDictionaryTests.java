@@ -0,0 +1,89 @@
+package parser.data;
+
+import static parser.test.TestRunner.check;
+import static parser.test.TestRunner.checkEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.file.Path;
+
+import parser.test.TestRunner;
+
+// 스캔 단위 사전 - 스캔마다 새 사전, 상한을 넘으면 새 사전, 캐시에서 읽은 레코드는 현재 사전 ID로 다시 등록
+public class StringDictionaryTests {
+	public static void register(TestRunner runner) {
+		runner.add("dictionary: 스캔마다 새 사전이고 값 수 상한을 넘으면 새 사전", StringDictionaryTests::scoped);
+		runner.add("dictionary: 역직렬화한 레코드는 현재 사전에 다시 등록되어 같은 ID와 인스턴스",
+				StringDictionaryTests::reloaded);
+	}
+
+	private static void scoped(Path workDir) {
+		StringDictionary.startScan();
+		StringDictionary first = StringDictionary.current();
+		String value = new String("OrderController");
+		int id = first.id(value);
+		checkEquals(id, first.id(new String("OrderController")), "같은 값의 ID");
+		check(first.intern(new String("OrderController")) == value, "같은 값이 공유 인스턴스가 아님");
+
+		StringDictionary.startScan();
+		StringDictionary second = StringDictionary.current();
+		check(second != first, "스캔마다 새 사전이 아님");
+		checkEquals(value, first.value(id), "이전 사전의 값은 그 사전을 참조하는 동안 유지");
+
+		for (int i = second.size(); i < StringDictionary.MAX_VALUES; i++) {
+			second.id("value" + i);
+		}
+		check(StringDictionary.current() != second, "상한을 넘은 사전을 계속 사용");
+		checkEquals("value" + (StringDictionary.MAX_VALUES - 1), second.value(StringDictionary.MAX_VALUES - 1),
+				"상한을 넘은 사전의 값");
+	}
+
+	private static void reloaded(Path workDir) throws Exception {
+		StringDictionary.startScan();
+		StringDictionary dictionary = StringDictionary.current();
+		RecordList records = new RecordList();
+		records.field(dictionary, dictionary.id("OrderController"));
+		records.field("주문 목록");
+		records.endRecord();
+
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+			out.writeObject(records);
+		}
+
+		StringDictionary.startScan();
+		StringDictionary current = StringDictionary.current();
+		String shared = current.intern(new String("OrderController"));
+		RecordList loaded;
+		try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+			loaded = (RecordList) in.readObject();
+		}
+
+		StringDictionary[] seenDictionary = { null };
+		int[] seenId = { StringDictionary.NONE };
+		StringBuilder plain = new StringBuilder();
+		loaded.writeTo(new RecordSink() {
+			@Override
+			public void field(String value) {
+				plain.append(value);
+			}
+
+			@Override
+			public void field(StringDictionary dictionary, int id) {
+				seenDictionary[0] = dictionary;
+				seenId[0] = id;
+			}
+
+			@Override
+			public void endRecord() {
+			}
+		});
+		check(seenDictionary[0] == current, "현재 사전 ID로 넘기지 않음");
+		checkEquals(current.id("OrderController"), seenId[0], "다시 등록한 ID");
+		check(current.value(seenId[0]) == shared, "공유 인스턴스로 교체되지 않음");
+		checkEquals("주문 목록", plain.toString(), "사전 밖 필드");
+		checkEquals("OrderController|주문 목록\n", loaded.toText(), "텍스트 변환");
+	}
+}
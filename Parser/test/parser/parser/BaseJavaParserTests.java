@@ -0,0 +1,74 @@
+package parser.parser;
+
+import static parser.test.TestRunner.checkEquals;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import parser.data.ParseResult;
+import parser.test.TestRunner;
+
+// 바이트 입력 모드와 문자 스트림 모드의 파싱 결과가 같은지 확인
+public class BaseJavaParserTests {
+	private static final Path FILE = Paths.get("src/com/shop/controller/OrderController.java");
+
+	public static void register(TestRunner runner) {
+		runner.add("parser: 줄 끝(\\n, \\r, \\r\\n)에 관계없이 바이트 모드와 문자 모드 결과가 같음",
+				BaseJavaParserTests::lineEndings);
+	}
+
+	private static void lineEndings(Path workDir) {
+		ParseResult expected = parseReader(source("\n"));
+		for (String lineEnding : new String[] { "\n", "\r", "\r\n" }) {
+			String name = lineEnding.replace("\r", "\\r").replace("\n", "\\n");
+			String content = source(lineEnding);
+			ParseResult reader = parseReader(content);
+			ParseResult bytes = parseBytes(content);
+
+			checkEquals(expected.getLineCount(), reader.getLineCount(), name + " 문자 모드 줄 수");
+			checkEquals(expected.getLineCount(), bytes.getLineCount(), name + " 바이트 모드 줄 수");
+			checkEquals(expected.getOutputContent(), reader.getOutputContent(), name + " 문자 모드 출력");
+			checkEquals(expected.getOutputContent(), bytes.getOutputContent(), name + " 바이트 모드 출력");
+		}
+	}
+
+	private static ParseResult parseReader(String content) {
+		return ParserFactory.newParser(ParserType.CONTROLLER).parse(FILE, "controller",
+				content.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private static ParseResult parseBytes(String content) {
+		return ParserFactory.newParser(ParserType.CONTROLLER).parse(FILE, "controller",
+				ByteBuffer.wrap(content.getBytes(StandardCharsets.UTF_8)));
+	}
+
+	private static String source(String lineEnding) {
+		return String.join(lineEnding,
+				"package com.shop.controller;",
+				"",
+				"/**",
+				" * 주문 화면",
+				" */",
+				"@RequestMapping(\"/order\")",
+				"public class OrderController {",
+				"\t/**",
+				"\t * 주문 목록",
+				"\t */",
+				"\t@GetMapping(\"/list\")",
+				"\tpublic String list() {",
+				"\t\treturn \"list\";",
+				"\t}",
+				"",
+				"\t/**",
+				"\t * 주문 저장",
+				"\t */",
+				"\t@PostMapping(\"/save\")",
+				"\tpublic String save() {",
+				"\t\treturn \"save\";",
+				"\t}",
+				"}",
+				"");
+	}
+}
@@ -0,0 +1,106 @@
+package parser.parser;
+
+import static parser.test.TestRunner.check;
+import static parser.test.TestRunner.checkEquals;
+
+import java.nio.file.Path;
+import java.util.regex.Pattern;
+
+import parser.test.TestRunner;
+
+// 렉서가 이전 줄 정규식(METHOD_PATTERN, CLASS_PATTERN)과 일반 선언에서 같은 결과를 내고,
+// 문자열/주석 속 키워드와 중괄호는 정규식과 달리 무시하는지 확인
+public class JavaLexerTests {
+	// 렉서 도입 전 BaseJavaParser의 판별 규칙 (비교 기준)
+	private static final Pattern METHOD_PATTERN = Pattern.compile(".*(public|private|protected).*\\(.*\\).*\\{.*");
+	private static final Pattern CLASS_PATTERN = Pattern.compile(".*class\\s+\\w+.*");
+
+	private static final String[] METHOD_LINES = { "public String list() {",
+			"public void save(String name, int count) {", "private static int count(String text, char ch) {",
+			"protected <T> List<T> find(Map<String, T> values) {", "public final Object get(int index) throws IOException {",
+			"public ResponseEntity<List<Order>> orders(@RequestParam String id) {" };
+	private static final String[] CLASS_LINES = { "public class OrderController {",
+			"public final class Cache<K, V> extends Base<K> {", "public abstract class BaseService implements Service, Closeable {",
+			"class PackagePrivate {" };
+	private static final String[] OTHER_LINES = { "return list();", "int count = size();", "if (value == null) {",
+			"@RequestMapping(\"/order\")", "private String name;" };
+
+	public static void register(TestRunner runner) {
+		runner.add("lexer: 일반 메서드/클래스 선언은 이전 정규식과 같은 판별과 이름", JavaLexerTests::sameAsRegex);
+		runner.add("lexer: 문자열/주석 속 키워드와 중괄호는 선언과 깊이에 영향 없음", JavaLexerTests::ignoresLiterals);
+	}
+
+	private static void sameAsRegex(Path workDir) {
+		JavaLexer lexer = new JavaLexer();
+		for (String line : METHOD_LINES) {
+			lexer.scan(line, 1);
+			check(METHOD_PATTERN.matcher(line).matches(), "정규식 기준이 메서드가 아님: " + line);
+			check(lexer.isMethodDeclaration(), "메서드 선언이 아님: " + line);
+			checkEquals(regexMethodName(line), lexer.getMethodName(), line + " 메서드명");
+			checkEquals(1, lexer.getBraceDelta(), line + " 중괄호");
+		}
+		for (String line : CLASS_LINES) {
+			lexer.scan(line, 0);
+			check(CLASS_PATTERN.matcher(line).matches(), "정규식 기준이 클래스가 아님: " + line);
+			check(lexer.isTopLevelClass(), "최상위 클래스가 아님: " + line);
+			checkEquals(regexClassName(line), lexer.getClassName(), line + " 클래스명");
+			check(!lexer.isMethodDeclaration(), "클래스 선언을 메서드로 판별: " + line);
+		}
+		for (String line : OTHER_LINES) {
+			lexer.scan(line, 1);
+			check(!METHOD_PATTERN.matcher(line).matches(), "정규식 기준이 메서드: " + line);
+			check(!lexer.isMethodDeclaration(), "메서드 선언으로 판별: " + line);
+			check(lexer.getClassName() == null, "클래스 선언으로 판별: " + line);
+		}
+	}
+
+	// 정규식은 아래 줄을 모두 선언으로 보거나 중괄호를 세었음
+	private static void ignoresLiterals(Path workDir) {
+		JavaLexer lexer = new JavaLexer();
+
+		String quoted = "log(\"public void run() {\");";
+		lexer.scan(quoted, 1);
+		check(METHOD_PATTERN.matcher(quoted).matches(), "정규식 기준이 메서드가 아님: " + quoted);
+		check(!lexer.isMethodDeclaration(), "문자열 속 선언을 메서드로 판별");
+		checkEquals(0, lexer.getBraceDelta(), "문자열 속 중괄호");
+		checkEquals("public void run() {", lexer.getFirstStringLiteral(), "문자열 리터럴");
+
+		String commented = "// this class Order is legacy {";
+		lexer.scan(commented, 0);
+		check(CLASS_PATTERN.matcher(commented).matches(), "정규식 기준이 클래스가 아님: " + commented);
+		check(lexer.getClassName() == null, "주석 속 클래스를 선언으로 판별");
+		checkEquals(0, lexer.getBraceDelta(), "주석 속 중괄호");
+
+		lexer.scan("Class<?> type = Order.class;", 1);
+		check(lexer.getClassName() == null, "Order.class 를 클래스 선언으로 판별");
+
+		lexer.scan("char open = '{';", 1);
+		checkEquals(0, lexer.getBraceDelta(), "문자 리터럴 중괄호");
+
+		// 여러 줄 블록 주석 안의 선언과 중괄호
+		lexer.scan("/* public void old() {", 1);
+		check(!lexer.isMethodDeclaration() && lexer.isInsideMultiLineToken(), "블록 주석 시작");
+		lexer.scan("   public class Old { */ public void now() {", 1);
+		check(lexer.isCommentClosed(), "블록 주석 닫힘");
+		check(lexer.getClassName() == null, "블록 주석 속 클래스를 선언으로 판별");
+		check(lexer.isMethodDeclaration(), "주석 뒤 메서드 선언");
+		checkEquals("now", lexer.getMethodName(), "주석 뒤 메서드명");
+		checkEquals(1, lexer.getBraceDelta(), "주석 뒤 중괄호");
+	}
+
+	private static String regexMethodName(String line) {
+		String beforeParen = line.substring(0, line.indexOf('(')).trim();
+		String[] parts = beforeParen.split("\\s+");
+		return parts[parts.length - 1];
+	}
+
+	private static String regexClassName(String line) {
+		String[] parts = line.split("\\s+");
+		for (int i = 0; i < parts.length - 1; i++) {
+			if ("class".equals(parts[i])) {
+				return parts[i + 1].replaceAll("[{<].*", "");
+			}
+		}
+		return "Unknown";
+	}
+}
@@ -0,0 +1,93 @@
+package parser.result;
+
+import static parser.test.TestRunner.check;
+import static parser.test.TestRunner.checkEquals;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import parser.data.StringDictionary;
+import parser.parser.FileParser;
+import parser.parser.ParserFactory;
+import parser.parser.ParserType;
+import parser.test.TestRunner;
+
+// 컬럼 블록 출력 - ColumnarResultReader로 읽은 행이 기록한 파이프 구분 행과 같은지
+public class ColumnarResultWriterTests {
+	public static void register(TestRunner runner) {
+		runner.add("columnar: 여러 블록에 걸친 행, 컬럼, 일부 컬럼을 기록한 그대로 읽음", ColumnarResultWriterTests::blocks);
+		runner.add("columnar: 파서 레코드(사전 ID 필드)로 기록한 출력은 함께 기록한 CSV와 같은 행",
+				ColumnarResultWriterTests::records);
+	}
+
+	// BLOCK_ROWS의 두 배가 넘는 행 - 반복 값(사전 인코딩)과 행마다 다른 값(일반 인코딩)이 섞임
+	private static void blocks(Path workDir) throws Exception {
+		int count = ColumnarResultWriter.BLOCK_ROWS * 2 + 100;
+		String content = DistributedBufferedWriterTests.rows(0, count);
+		try (ColumnarResultWriter writer = new ColumnarResultWriter(workDir.toString(), new String[] { "cbc" },
+				List.of())) {
+			writer.writeContent("cbc", content);
+		}
+
+		List<String[]> expected = Arrays.stream(content.split("\n")).map(line -> line.split("\\|", -1))
+				.collect(Collectors.toList());
+		try (ColumnarResultReader reader = new ColumnarResultReader(
+				ColumnarResultWriter.outputFile(workDir.toString(), "cbc"))) {
+			checkEquals(ParserType.SERVICE_CBC.getOutputColumns(), reader.getColumns(), "컬럼");
+			checkEquals((long) count, reader.getRowCount(), "행 수");
+			checkEquals(3, reader.getBlockCount(), "블록 수");
+
+			checkEquals(join(expected), join(reader.readRows()), "전체 행");
+			List<String> classNames = expected.stream().map(row -> row[1]).collect(Collectors.toList());
+			checkEquals(classNames, reader.readColumn("className"), "className 컬럼");
+			List<String[]> projected = expected.stream().map(row -> new String[] { row[3], row[1] })
+					.collect(Collectors.toList());
+			checkEquals(join(projected), join(reader.readRows("methodName", "className")), "일부 컬럼");
+		}
+	}
+
+	// 같은 클래스를 여러 경로에서 파싱해 클래스명, 주석, URL이 여러 결과에서 같은 사전 ID로 들어감
+	private static void records(Path workDir) throws Exception {
+		StringDictionary.startScan();
+		FileParser parser = ParserFactory.getThreadLocalParser(ParserType.CONTROLLER);
+		Path outputDir = workDir.resolve("out");
+		try (DistributedBufferedWriter writer = new DistributedBufferedWriter(outputDir.toString(), 50, 5,
+				new String[] { "controller" })) {
+			writer.withColumnarOutput(List.of());
+			for (int i = 0; i < 30; i++) {
+				String source = controller("Order" + (i % 3), i);
+				writer.writeResult(parser.parse(workDir.resolve("c" + i + "/Order" + (i % 3) + "Controller.java"),
+						"controller", source.getBytes(StandardCharsets.UTF_8)));
+			}
+		}
+
+		List<String> csv = Files.readAllLines(outputDir.resolve("controller.csv"));
+		check(csv.size() > 30, "CSV 행 수: " + csv.size());
+		try (ColumnarResultReader reader = new ColumnarResultReader(
+				ColumnarResultWriter.outputFile(outputDir.toString(), "controller"))) {
+			checkEquals(csv, reader.readRows().stream().map(row -> String.join("|", row)).collect(Collectors.toList()),
+					"컬럼 출력 행");
+		}
+	}
+
+	private static String controller(String name, int methods) {
+		StringBuilder source = new StringBuilder("package com.shop;\n\n/**\n * " + name + " 화면\n */\n"
+				+ "@RequestMapping(\"/" + name + "\")\npublic class " + name + "Controller {\n");
+		for (int i = 0; i <= methods % 4 + 1; i++) {
+			source.append("\t/**\n\t * 기능 ").append(i).append("\n\t */\n\t@PostMapping(\"/m").append(i)
+					.append("\")\n\tpublic String m").append(i).append("() {\n\t\treturn \"m\";\n\t}\n");
+		}
+		return source.append("}\n").toString();
+	}
+
+	private static List<String> join(List<String[]> rows) {
+		List<String> lines = new ArrayList<>(rows.size());
+		rows.forEach(row -> lines.add(String.join("|", row)));
+		return lines;
+	}
+}
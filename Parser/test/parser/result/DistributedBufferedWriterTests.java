@@ -0,0 +1,125 @@
+package parser.result;
+
+import static parser.test.TestRunner.check;
+import static parser.test.TestRunner.checkEquals;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import parser.test.TestRunner;
+
+// 세대 디렉터리 게시 - 목록 교체 전에는 이전 출력 유지, 교체 후에는 이전 세대 삭제
+public class DistributedBufferedWriterTests {
+	private static final String[] TYPES = { "cbc" };
+
+	public static void register(TestRunner runner) {
+		runner.add("writer: 게시 후 목록은 새 세대만 가리키고 이전 세대는 삭제", DistributedBufferedWriterTests::publish);
+		runner.add("writer: 기록 실패 시 close 예외, 기존 출력과 목록 유지", DistributedBufferedWriterTests::failedWrite);
+		runner.add("writer: gzip 출력을 풀어 읽으면 일반 출력과 같음 (여러 멤버, 여러 분산 파일)",
+				DistributedBufferedWriterTests::compressed);
+	}
+
+	private static void publish(Path workDir) throws Exception {
+		write(workDir, "a|1\nb|2\n");
+		write(workDir, "c|3\n");
+
+		OutputManifest manifest = OutputManifest.load(workDir);
+		checkEquals(List.of(".generations/2/cbc.csv"), fileNames(manifest), "목록이 가리키는 파일");
+		checkEquals(1L, manifest.rowCount("cbc"), "목록의 행 수");
+		checkEquals("c|3\n", Files.readString(workDir.resolve("cbc.csv")), "출력 경로의 파일 내용");
+		checkEquals(List.of("2"), generations(workDir), "남은 세대");
+	}
+
+	// 세대 디렉터리를 지워 기록이 실패하게 만듦
+	private static void failedWrite(Path workDir) throws Exception {
+		write(workDir, "a|1\n");
+
+		DistributedBufferedWriter writer = new DistributedBufferedWriter(workDir.toString(), 50, 5, TYPES);
+		Files.delete(workDir.resolve(DistributedBufferedWriter.GENERATIONS_DIR).resolve("2"));
+		writer.writeContent("cbc", "b|2\n");
+		try {
+			writer.close();
+			check(false, "기록 실패가 close 예외로 전달되지 않음");
+		} catch (IOException expected) {
+			// 게시하지 않음
+		}
+
+		checkEquals(List.of(".generations/1/cbc.csv"), fileNames(OutputManifest.load(workDir)), "목록이 가리키는 파일");
+		checkEquals("a|1\n", Files.readString(workDir.resolve("cbc.csv")), "출력 경로의 파일 내용");
+		checkEquals("a|1\n", Files.readString(workDir.resolve(".generations/1/cbc.csv")), "이전 세대 파일 내용");
+	}
+
+	// 버퍼 1KB로 기록해 파일마다 gzip 멤버가 여러 개 이어 붙고, 2MB 넘게 기록해 분산 파일도 여러 개
+	private static void compressed(Path workDir) throws Exception {
+		Path plain = workDir.resolve("plain");
+		Path gzip = workDir.resolve("gzip");
+		for (Path outputDir : new Path[] { plain, gzip }) {
+			try (DistributedBufferedWriter writer = new DistributedBufferedWriter(outputDir.toString(), 1, 1, TYPES,
+					false, outputDir == gzip)) {
+				for (int batch = 0; batch < 40; batch++) {
+					writer.writeContent("cbc", rows(batch * 1000, 1000));
+				}
+			}
+		}
+
+		List<Path> gzipFiles = DistributedBufferedWriter.existingOutputFiles(gzip.toString(), "cbc");
+		check(gzipFiles.size() > 0, "gzip 출력 없음");
+		for (Path file : gzipFiles) {
+			check(file.getFileName().toString().endsWith(".csv.gz"), "gzip 파일 이름: " + file.getFileName());
+			try (InputStream input = Files.newInputStream(file)) {
+				checkEquals(0x1f8b, input.read() << 8 | input.read(), file.getFileName() + " gzip 헤더");
+			}
+		}
+		check(DistributedBufferedWriter.existingOutputFiles(plain.toString(), "cbc").size() > 1, "분산 파일이 하나뿐");
+
+		String expected = rows(0, 40_000);
+		checkEquals(expected, readAll(plain), "일반 출력");
+		checkEquals(expected, readAll(gzip), "gzip 출력");
+		checkEquals(40_000L, OutputManifest.load(gzip).rowCount("cbc"), "gzip 목록의 행 수");
+	}
+
+	static String rows(int first, int count) {
+		StringBuilder rows = new StringBuilder();
+		for (int i = first; i < first + count; i++) {
+			rows.append("S").append(i % 97).append("CbcImpl.m").append(i).append("|S").append(i % 97)
+					.append("CbcImpl|서비스 ").append(i % 97).append("|m").append(i).append("|메서드 ").append(i)
+					.append('\n');
+		}
+		return rows.toString();
+	}
+
+	private static String readAll(Path outputDir) throws IOException {
+		StringBuilder content = new StringBuilder();
+		for (Path file : DistributedBufferedWriter.existingOutputFiles(outputDir.toString(), "cbc")) {
+			try (BufferedReader reader = DistributedBufferedWriter.openOutput(file)) {
+				String line;
+				while ((line = reader.readLine()) != null) {
+					content.append(line).append('\n');
+				}
+			}
+		}
+		return content.toString();
+	}
+
+	private static void write(Path outputDir, String content) throws Exception {
+		try (DistributedBufferedWriter writer = new DistributedBufferedWriter(outputDir.toString(), 50, 5, TYPES)) {
+			writer.writeContent("cbc", content);
+		}
+	}
+
+	private static List<String> fileNames(OutputManifest manifest) {
+		return manifest.files("cbc").stream().map(OutputManifest.Entry::getFileName).collect(Collectors.toList());
+	}
+
+	private static List<String> generations(Path outputDir) throws IOException {
+		try (Stream<Path> dirs = Files.list(outputDir.resolve(DistributedBufferedWriter.GENERATIONS_DIR))) {
+			return dirs.map(dir -> dir.getFileName().toString()).sorted().collect(Collectors.toList());
+		}
+	}
+}
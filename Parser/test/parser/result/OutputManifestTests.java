@@ -0,0 +1,70 @@
+package parser.result;
+
+import static parser.test.TestRunner.check;
+import static parser.test.TestRunner.checkEquals;
+
+import java.io.BufferedReader;
+import java.nio.file.Path;
+import java.util.List;
+
+import parser.test.TestRunner;
+
+// 목록의 행 위치 색인으로 임의 행부터 읽기 - 색인 경계, 분산 파일 경계, gzip 멤버 경계 모두 기록한 행과 같은지
+public class OutputManifestTests {
+	private static final int ROWS = 40_000;
+
+	public static void register(TestRunner runner) {
+		runner.add("manifest: openAt은 일반/gzip 출력 모두 요청한 행부터 읽음", OutputManifestTests::openAt);
+	}
+
+	private static void openAt(Path workDir) throws Exception {
+		List<String> expected = List.of(DistributedBufferedWriterTests.rows(0, ROWS).split("\n"));
+		for (boolean compressed : new boolean[] { false, true }) {
+			Path outputDir = workDir.resolve(compressed ? "gzip" : "plain");
+			try (DistributedBufferedWriter writer = new DistributedBufferedWriter(outputDir.toString(), 1, 1,
+					new String[] { "cbc" }, false, compressed)) {
+				for (int batch = 0; batch < ROWS / 1000; batch++) {
+					writer.writeContent("cbc", DistributedBufferedWriterTests.rows(batch * 1000, 1000));
+				}
+			}
+
+			OutputManifest manifest = OutputManifest.load(outputDir);
+			List<OutputManifest.Entry> files = manifest.files("cbc");
+			String mode = compressed ? "gzip" : "일반";
+			check(compressed || files.size() > 1, mode + " 분산 파일이 하나뿐"); // gzip은 1MB 안에 모두 들어감
+			checkEquals((long) ROWS, manifest.rowCount("cbc"), mode + " 행 수");
+
+			long[] rows = { 0, 1, OutputManifest.INDEX_INTERVAL - 1, OutputManifest.INDEX_INTERVAL,
+					OutputManifest.INDEX_INTERVAL + 1, 12_345, ROWS - 1 };
+			for (long row : rows) {
+				checkFrom(manifest, outputDir, expected, row, mode);
+			}
+			// 분산 파일마다 첫 행과 앞 파일의 마지막 행
+			for (OutputManifest.Entry file : files.subList(1, files.size())) {
+				checkFrom(manifest, outputDir, expected, file.getFirstRow() - 1, mode);
+				checkFrom(manifest, outputDir, expected, file.getFirstRow(), mode);
+			}
+
+			try {
+				manifest.openAt(outputDir, "cbc", ROWS).close();
+				check(false, mode + " 범위를 넘은 행에서 예외가 없음");
+			} catch (IllegalArgumentException e) {
+				// 행 범위 초과
+			}
+		}
+	}
+
+	// 요청 행부터 그 분산 파일 끝까지가 기록한 행과 같은지
+	private static void checkFrom(OutputManifest manifest, Path outputDir, List<String> expected, long row,
+			String mode) throws Exception {
+		OutputManifest.Entry file = manifest.files("cbc").stream()
+				.filter(entry -> row < entry.getFirstRow() + entry.getRows()).findFirst().orElseThrow();
+		int end = Math.toIntExact(file.getFirstRow() + file.getRows());
+		try (BufferedReader reader = manifest.openAt(outputDir, "cbc", row)) {
+			for (int i = Math.toIntExact(row); i < end; i++) {
+				checkEquals(expected.get(i), reader.readLine(), mode + " " + row + "행부터 읽은 " + i + "행");
+			}
+			checkEquals(null, reader.readLine(), mode + " " + row + "행부터 읽은 파일 끝");
+		}
+	}
+}
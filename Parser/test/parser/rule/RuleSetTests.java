@@ -0,0 +1,114 @@
+package parser.rule;
+
+import static parser.test.TestRunner.check;
+import static parser.test.TestRunner.checkEquals;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+
+import parser.test.TestRunner;
+
+// 키워드 자동자와 규칙 적용이 키워드마다 contains/indexOf로 찾는 단순 방식과 같은 결과인지 확인
+// 겹치는 키워드, 접두/접미 관계 키워드, 한글(비ASCII) 키워드를 섞은 무작위 줄로 비교
+public class RuleSetTests {
+	private static final String[] KEYWORDS = { "he", "she", "his", "hers", "@Tx", "@Transactional", "주문", "주문서" };
+	private static final String[] PIECES = { "h", "e", "s", "r", "i", "@", "T", "x", "@Transactional", "주", "문", "서",
+			" ", "(", ")", "\"", "readOnly = true", "readOnly=false", "@AuditLog(\"주문 저장\")" };
+	private static final List<String> RULES = List.of("# 주석 줄", "", "tx = @Transactional",
+			"readOnly = @Transactional ~ readOnly\\s*=\\s*(true|false)", "audit = @AuditLog ~ @AuditLog\\(\"([^\"]*)\"\\)",
+			"she = she", "hers = hers", "order = 주문서", "txShort = @Tx ~ @Tx\\w*");
+
+	public static void register(TestRunner runner) {
+		runner.add("rule: 자동자는 모든 위치의 키워드(겹침 포함)를 단순 검색과 같게 찾음", RuleSetTests::automaton);
+		runner.add("rule: 규칙 적용과 바이트 사전 검사는 키워드별 단순 검색과 같은 결과", RuleSetTests::apply);
+	}
+
+	private static void automaton(Path workDir) {
+		int[][] keywords = new int[KEYWORDS.length][];
+		for (int k = 0; k < KEYWORDS.length; k++) {
+			keywords[k] = KEYWORDS[k].chars().toArray();
+		}
+		KeywordAutomaton automaton = new KeywordAutomaton(keywords);
+
+		Random random = new Random(42);
+		for (int n = 0; n < 2000; n++) {
+			String line = randomLine(random);
+
+			TreeSet<String> found = new TreeSet<>();
+			int state = automaton.initialState();
+			for (int i = 0; i < line.length(); i++) {
+				state = automaton.step(state, line.charAt(i));
+				int[] hits = automaton.outputs(state);
+				if (hits != null) {
+					for (int keyword : hits) {
+						found.add(i + ":" + keyword);
+					}
+				}
+			}
+
+			TreeSet<String> expected = new TreeSet<>();
+			for (int k = 0; k < KEYWORDS.length; k++) {
+				for (int at = line.indexOf(KEYWORDS[k]); at >= 0; at = line.indexOf(KEYWORDS[k], at + 1)) {
+					expected.add((at + KEYWORDS[k].length() - 1) + ":" + k);
+				}
+			}
+			checkEquals(expected, found, "키워드 위치: " + line);
+		}
+	}
+
+	private static void apply(Path workDir) {
+		RuleSet rules = RuleSet.parse(RULES);
+		checkEquals(List.of("tx", "readOnly", "audit", "she", "hers", "order", "txShort"), rules.getColumns(), "컬럼");
+
+		Random random = new Random(7);
+		for (int n = 0; n < 2000; n++) {
+			String line = randomLine(random);
+
+			String[] values = new String[rules.getColumns().size()];
+			rules.apply(line, values);
+			checkEquals(Arrays.asList(naive(rules, line)), Arrays.asList(values), "규칙 값: " + line);
+
+			byte[] bytes = line.getBytes(StandardCharsets.UTF_8);
+			boolean anyKeyword = rules.getRules().stream().anyMatch(rule -> line.contains(rule.getKeyword()));
+			checkEquals(anyKeyword, rules.mayMatch(ByteBuffer.wrap(bytes), 0, bytes.length), "바이트 검사: " + line);
+		}
+
+		check(RuleSet.parse(List.of("# 규칙 없음", "")) == RuleSet.EMPTY, "규칙 없는 파일이 EMPTY가 아님");
+	}
+
+	// 컬럼마다 규칙 파일 순서로 키워드가 있는 첫 규칙의 값 (컬럼이 모두 달라 자동자의 위치 순서와 같음)
+	private static String[] naive(RuleSet rules, String line) {
+		String[] values = new String[rules.getColumns().size()];
+		for (ExtractionRule rule : rules.getRules()) {
+			int column = rules.getColumns().indexOf(rule.getColumn());
+			if (values[column] != null || !line.contains(rule.getKeyword()))
+				continue;
+			if (rule.getPattern() == null) {
+				values[column] = "Y";
+			} else {
+				Matcher matcher = rule.getPattern().matcher(line);
+				if (matcher.find()) {
+					values[column] = matcher.groupCount() > 0 && matcher.group(1) != null ? matcher.group(1)
+							: matcher.group();
+				}
+			}
+		}
+		return values;
+	}
+
+	private static String randomLine(Random random) {
+		List<String> pieces = new ArrayList<>();
+		int count = random.nextInt(12);
+		for (int i = 0; i < count; i++) {
+			pieces.add(PIECES[random.nextInt(PIECES.length)]);
+		}
+		return String.join("", pieces);
+	}
+}
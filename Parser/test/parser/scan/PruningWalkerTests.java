@@ -0,0 +1,85 @@
+package parser.scan;
+
+import static parser.test.TestRunner.checkEquals;
+import static parser.test.TestRunner.write;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import parser.JavaFileParsor;
+import parser.ScanOptions;
+import parser.test.TestRunner;
+
+// 기본 제외 디렉터리가 빌드 산출물만 건너뛰고 같은 이름의 패키지는 남기는지 확인
+public class PruningWalkerTests {
+
+	public static void register(TestRunner runner) {
+		runner.add("pruning: build/out 이름의 패키지는 유지", PruningWalkerTests::packageNamedBuild);
+		runner.add("pruning: resources 이름의 패키지는 유지", PruningWalkerTests::packageNamedResources);
+		runner.add("pruning: 탐색 순서는 전체 경로 문자열 순", PruningWalkerTests::pathOrder);
+	}
+
+	// 루트의 build/와 pom.xml 옆의 target/은 제외, 패키지 구간 build/out은 그대로 탐색
+	private static void packageNamedBuild(Path workDir) throws Exception {
+		Path root = workDir.resolve("project");
+		write(root.resolve("pom.xml"), "<project/>\n");
+		write(root.resolve("src/main/java/com/x/build/controller/BuildController.java"), controller("BuildController"));
+		write(root.resolve("src/main/java/com/x/out/controller/OutController.java"), controller("OutController"));
+		write(root.resolve("build/classes/com/x/controller/StaleController.java"), controller("StaleController"));
+		write(root.resolve("module/pom.xml"), "<project/>\n");
+		write(root.resolve("module/src/main/java/com/x/controller/ModuleController.java"), controller("ModuleController"));
+		write(root.resolve("module/target/generated/com/x/controller/GeneratedController.java"),
+				controller("GeneratedController"));
+
+		checkEquals(List.of("src/main/java/com/x/build/controller/BuildController.java",
+				"src/main/java/com/x/out/controller/OutController.java",
+				"module/src/main/java/com/x/controller/ModuleController.java").stream().sorted().toList(),
+				targets(root), "탐색 대상 파일이 다름");
+	}
+
+	// src/main/java 옆의 src/main/resources는 제외, 패키지 구간 resources는 그대로 탐색
+	private static void packageNamedResources(Path workDir) throws Exception {
+		Path root = workDir.resolve("project");
+		write(root.resolve("src/main/java/com/x/resources/controller/ResourceController.java"),
+				controller("ResourceController"));
+		write(root.resolve("src/main/resources/templates/controller/TemplateController.java"),
+				controller("TemplateController"));
+
+		checkEquals(List.of("src/main/java/com/x/resources/controller/ResourceController.java"), targets(root),
+				"탐색 대상 파일이 다름");
+	}
+
+	// 디렉터리 이름이 다른 항목의 접두어여도(a, a-b, a.java) 전체 목록을 정렬한 순서와 같음
+	private static void pathOrder(Path workDir) throws Exception {
+		Path root = workDir.resolve("project");
+		for (String file : new String[] { "a/z.txt", "a-b/y.txt", "a.txt", "ab.txt", "a/b/c.txt", "a/b.txt",
+				"A/x.txt", "b/a-/q.txt", "b/a/q.txt" }) {
+			write(root.resolve(file), file);
+		}
+
+		List<Path> walked;
+		try (Stream<Path> files = new PruningWalker(List.of()).stream(root, path -> true)) {
+			walked = files.collect(Collectors.toList());
+		}
+		List<String> expected = walked.stream().map(Path::toString).sorted().collect(Collectors.toList());
+		checkEquals(expected, walked.stream().map(Path::toString).collect(Collectors.toList()), "탐색 순서");
+		checkEquals(9, walked.size(), "탐색한 파일 수");
+	}
+
+	// 루트 기준 상대 경로 ('/' 구분, 정렬)
+	private static List<String> targets(Path root) throws Exception {
+		try (Stream<Path> files = JavaFileParsor.findTargetFiles(root.toString(), ScanOptions.defaults())) {
+			return files.map(file -> root.relativize(file).toString().replace('\\', '/')).sorted()
+					.collect(Collectors.toList());
+		}
+	}
+
+	private static String controller(String className) {
+		return "package com.x;\n\n"
+				+ "@RequestMapping(\"/x\")\n"
+				+ "public class " + className + " {\n"
+				+ "}\n";
+	}
+}
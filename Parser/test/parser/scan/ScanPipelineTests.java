@@ -0,0 +1,68 @@
+package parser.scan;
+
+import static parser.test.TestRunner.check;
+import static parser.test.TestRunner.checkEquals;
+import static parser.test.TestRunner.write;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import parser.JavaFileParsor;
+import parser.ScanOptions;
+import parser.parser.ParserType;
+import parser.result.DistributedBufferedWriter;
+import parser.test.TestRunner;
+
+// 탐색을 파이프라인 안에서 진행해도 단일 스레드 스캔과 출력이 같은지 확인
+public class ScanPipelineTests {
+
+	public static void register(TestRunner runner) {
+		runner.add("pipeline: 단일 스레드 스캔과 출력이 같음", ScanPipelineTests::sameAsSequential);
+	}
+
+	// 큐와 재정렬 창을 작게 잡아 탐색 단계가 자주 멈추게 함
+	private static void sameAsSequential(Path workDir) throws Exception {
+		Path root = workDir.resolve("project/src/com/shop");
+		for (int i = 0; i < 40; i++) {
+			write(root.resolve("controller/c" + (i % 4) + "/C" + i + "Controller.java"), controller("C" + i, i));
+			write(root.resolve("service/cbc/impl/S" + i + "CbcImpl.java"), service("S" + i + "CbcImpl", i));
+		}
+
+		String project = workDir.resolve("project").toString();
+		Path sequential = workDir.resolve("sequential");
+		JavaFileParsor.processProject(project, sequential.toString(), ScanOptions.defaults());
+		Path pipeline = workDir.resolve("pipeline");
+		JavaFileParsor.processProject(project, pipeline.toString(),
+				ScanOptions.defaults().withPipeline(3, 4, 2).withReorderWindow(3));
+
+		int compared = 0;
+		for (String type : ParserType.getAllPathKeywords()) {
+			for (Path file : DistributedBufferedWriter.existingOutputFiles(sequential.toString(), type)) {
+				Path actual = pipeline.resolve(file.getFileName());
+				check(Files.exists(actual), actual.getFileName() + " 없음");
+				checkEquals(Files.readString(file), Files.readString(actual), file.getFileName() + " 내용");
+				compared++;
+			}
+		}
+		checkEquals(2, compared, "비교한 출력 파일 수 (controller, cbc)");
+	}
+
+	// 메서드 수를 파일마다 다르게 해 파싱 시간이 고르지 않게 함
+	private static String controller(String name, int methods) {
+		StringBuilder source = new StringBuilder("package com.shop;\n\n@RequestMapping(\"/" + name + "\")\n"
+				+ "public class " + name + "Controller {\n");
+		for (int i = 0; i <= methods; i++) {
+			source.append("\t@GetMapping(\"/m").append(i).append("\")\n\tpublic String m").append(i)
+					.append("() {\n\t\treturn \"m\";\n\t}\n");
+		}
+		return source.append("}\n").toString();
+	}
+
+	private static String service(String className, int methods) {
+		StringBuilder source = new StringBuilder("package com.shop;\n\npublic class " + className + " {\n");
+		for (int i = 0; i <= methods % 7; i++) {
+			source.append("\tpublic void m").append(i).append("() {\n\t}\n");
+		}
+		return source.append("}\n").toString();
+	}
+}
@@ -0,0 +1,41 @@
+package parser.test;
+
+import parser.IncrementalProcessorTests;
+import parser.JavaFileParsorTests;
+import parser.ProjectWatcherTests;
+import parser.cache.CachingFileParserTests;
+import parser.data.StringDictionaryTests;
+import parser.parser.BaseJavaParserTests;
+import parser.parser.JavaLexerTests;
+import parser.result.ColumnarResultWriterTests;
+import parser.result.DistributedBufferedWriterTests;
+import parser.result.OutputManifestTests;
+import parser.rule.RuleSetTests;
+import parser.scan.PruningWalkerTests;
+import parser.scan.ScanPipelineTests;
+
+// 전체 시나리오 테스트 실행 - 실패가 있으면 종료 코드 1
+// 예) java -Dtest.filter=incremental parser.test.RunTests
+public class RunTests {
+	public static void main(String[] args) {
+		TestRunner runner = new TestRunner();
+
+		IncrementalProcessorTests.register(runner);
+		JavaFileParsorTests.register(runner);
+		ProjectWatcherTests.register(runner);
+		PruningWalkerTests.register(runner);
+		ScanPipelineTests.register(runner);
+		CachingFileParserTests.register(runner);
+		BaseJavaParserTests.register(runner);
+		JavaLexerTests.register(runner);
+		RuleSetTests.register(runner);
+		StringDictionaryTests.register(runner);
+		DistributedBufferedWriterTests.register(runner);
+		ColumnarResultWriterTests.register(runner);
+		OutputManifestTests.register(runner);
+
+		if (runner.runAll() > 0) {
+			System.exit(1);
+		}
+	}
+}
@@ -0,0 +1,99 @@
+package parser.test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+// 시나리오 테스트 실행기 - 테스트마다 임시 디렉터리를 만들어 넘기고, 끝나면 삭제
+// 설정 (시스템 속성): test.filter=이름 정규식
+public class TestRunner {
+	private final Pattern filter = Pattern.compile(System.getProperty("test.filter", ".*"));
+	private final List<Test> tests = new ArrayList<>();
+
+	public interface Body {
+		void run(Path workDir) throws Exception;
+	}
+
+	public void add(String name, Body body) {
+		tests.add(new Test(name, body));
+	}
+
+	// 실패한 테스트 수 반환
+	public int runAll() {
+		PrintStream report = System.out;
+		int failed = 0;
+		int run = 0;
+
+		for (Test test : tests) {
+			if (!filter.matcher(test.name).find())
+				continue;
+
+			run++;
+			// 대상 코드의 진행 출력은 버림
+			System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+			Path workDir = null;
+			try {
+				workDir = Files.createTempDirectory("parser-test");
+				test.body.run(workDir);
+				System.setOut(report);
+				report.println("통과: " + test.name);
+			} catch (Exception | AssertionError e) {
+				System.setOut(report);
+				report.println("실패: " + test.name + " - " + e);
+				failed++;
+			} finally {
+				System.setOut(report);
+				delete(workDir);
+			}
+		}
+
+		report.println("테스트 " + run + "개, 실패 " + failed + "개");
+		return failed;
+	}
+
+	public static void check(boolean condition, String message) {
+		if (!condition) {
+			throw new AssertionError(message);
+		}
+	}
+
+	public static void checkEquals(Object expected, Object actual, String message) {
+		if (!Objects.equals(expected, actual)) {
+			throw new AssertionError(message + "\n  기대: " + expected + "\n  실제: " + actual);
+		}
+	}
+
+	// 테스트용 파일 생성 (상위 디렉터리 포함)
+	public static Path write(Path file, String content) throws IOException {
+		Files.createDirectories(file.getParent());
+		return Files.writeString(file, content);
+	}
+
+	private static void delete(Path dir) {
+		if (dir == null)
+			return;
+		try (Stream<Path> walk = Files.walk(dir)) {
+			walk.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+		} catch (IOException e) {
+			System.err.println("임시 디렉터리 삭제 실패: " + dir + " - " + e.getMessage());
+		}
+	}
+
+	private static class Test {
+		private final String name;
+		private final Body body;
+
+		private Test(String name, Body body) {
+			this.name = name;
+			this.body = body;
+		}
+	}
+}